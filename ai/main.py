@@ -1,9 +1,16 @@
+import asyncio
+import json
+
 import uvicorn
 from fastapi import FastAPI
+from fastapi.responses import StreamingResponse
 from typing import List
 
-from openai_client import get_post_response, get_reply_response
-from schema import PostRequest, PostResponse, ReplyRequest, ReplyResponse
+from openai_client import (get_post_response, get_reply_response, get_memory_summary_response,
+                           stream_post_response, stream_reply_response)
+from schema import (PostRequest, PostResponse, ReplyRequest, ReplyResponse,
+                    PostBatchRequest, PostBatchItem, PostBatchResponse,
+                    MemorySummaryRequest, MemorySummaryResponse)
 
 app = FastAPI()
 
@@ -28,6 +35,33 @@ async def create_post(request_data: PostRequest):
 
     return post_data
 
+@app.post("/post/batch", response_model=PostBatchResponse)
+async def create_post_batch(request_data: PostBatchRequest):
+    print("--- 배치 요청 데이터 수신 ---")
+    print(f"1. Board Description: {request_data.board_description}")
+    print(f"2. Clone Count: {len(request_data.clones)}")
+    print("--------------------")
+
+    # 클론별 요청을 동시에 처리 (백엔드는 한 번의 왕복으로 결과를 받음)
+    requests = [
+        PostRequest(
+            cloneId=clone.cloneId,
+            clone_description=clone.clone_description,
+            post_history=clone.post_history,
+            reply_history=clone.reply_history,
+            memory_summary=clone.memory_summary,
+            board_description=request_data.board_description,
+        )
+        for clone in request_data.clones
+    ]
+    responses = await asyncio.gather(*(get_post_response(request) for request in requests))
+
+    posts = [
+        PostBatchItem(cloneId=request.cloneId, title=response.title, content=response.content)
+        for request, response in zip(requests, responses)
+    ]
+    return PostBatchResponse(posts=posts)
+
 @app.post("/reply", response_model=ReplyResponse)
 async def create_post(request_data: ReplyRequest):
     print("--- 요청 데이터 수신 ---")
@@ -47,6 +81,50 @@ async def create_post(request_data: ReplyRequest):
 
     return reply_data
 
+# 클론 활동 요약: 이전 요약 + 새 게시물 / 댓글 -> 새 누적 요약 (백엔드에서 주기적으로 호출)
+@app.post("/memory/summarize", response_model=MemorySummaryResponse)
+async def summarize_memory(request_data: MemorySummaryRequest):
+    print("--- 요약 요청 데이터 수신 ---")
+    print(f"1. Clone ID: {request_data.cloneId}")
+    print(f"2. Post Count: {len(request_data.post_history)}")
+    print(f"3. Reply Count: {len(request_data.reply_history)}")
+    print("--------------------")
+
+    return await get_memory_summary_response(request_data)
+
+# --- 스트리밍 (SSE) ---
+# 이벤트: title(게시글 제목) / delta(본문 조각) / done(완료) / error(실패)
+# data는 앞뒤 공백과 줄바꿈이 보존되도록 JSON으로 감싸서 전달
+def to_sse(event: str, data: dict) -> str:
+    return f"event: {event}\ndata: {json.dumps(data, ensure_ascii=False)}\n\n"
+
+async def sse_stream(chunks):
+    try:
+        async for event, text in chunks:
+            yield to_sse(event, {"text": text})
+        yield to_sse("done", {})
+    except Exception as e:
+        print(f"Internal server error occurred: {e}")
+        yield to_sse("error", {"text": f"AI 서버에서 스트리밍 생성 중 오류가 발생했습니다: {str(e)}"})
+
+@app.post("/post/stream")
+async def create_post_stream(request_data: PostRequest):
+    print("--- 스트리밍 요청 데이터 수신 ---")
+    print(f"1. Clone Description: {request_data.clone_description}")
+    print(f"2. Board Description: {request_data.board_description}")
+    print("--------------------")
+
+    return StreamingResponse(sse_stream(stream_post_response(request_data)), media_type="text/event-stream")
+
+@app.post("/reply/stream")
+async def create_reply_stream(request_data: ReplyRequest):
+    print("--- 스트리밍 요청 데이터 수신 ---")
+    print(f"1. Clone Description: {request_data.clone_description}")
+    print(f"2. Post Title: {request_data.post_title}")
+    print("--------------------")
+
+    return StreamingResponse(sse_stream(stream_reply_response(request_data)), media_type="text/event-stream")
+
 # --- 서버 실행 ---
 if __name__ == "__main__":
     uvicorn.run(app, host="0.0.0.0", port=8000)
@@ -1,4 +1,5 @@
 import os
+from typing import AsyncIterator, Tuple
 from dotenv import load_dotenv
 from fastapi import HTTPException, status
 
@@ -6,7 +7,8 @@ from langchain_core.output_parsers import JsonOutputParser
 from langchain_core.prompts import ChatPromptTemplate
 from langchain_openai import ChatOpenAI
 
-from schema import PostRequest, PostResponse, ReplyRequest, ReplyResponse
+from schema import (PostRequest, PostResponse, ReplyRequest, ReplyResponse,
+                    MemorySummaryRequest, MemorySummaryResponse)
 
 # --- AI 세팅 ---
 load_dotenv()
@@ -17,16 +19,10 @@ model = ChatOpenAI(model="gpt-4o-mini")
 
 post_json_parser = JsonOutputParser(pydantic_object=PostResponse)
 reply_json_parser = JsonOutputParser(pydantic_object=ReplyResponse)
+memory_json_parser = JsonOutputParser(pydantic_object=MemorySummaryResponse)
 
-# --- AI 응답 생성 함수 ---
-async def get_post_response(request_data: PostRequest) -> PostResponse:
-    try:
-        prompt = ChatPromptTemplate.from_messages([
-            ("system",
-             "당신은 마스터를 대신하여 게시글을 작성하는 유능한 AI 에이전트입니다. "
-             "사용자의 지침에 따라 글의 제목과 내용을 생성해야 합니다."
-             "{format_instructions}"),
-            ("human", """
+# --- 프롬프트 (일반 / 스트리밍 공용) ---
+POST_HUMAN_PROMPT = """
                 # 성향
                 {clone_description}
 
@@ -38,10 +34,13 @@ async def get_post_response(request_data: PostRequest) -> PostResponse:
                 - 실제 사람이라 생각하고 사람이 쓸 법한 글을 만드세요.
                 - 마지막에 요약 내용을 추가하는 것을 권장합니다.
 
-                # 본인의 과거 게시물
+                # 지금까지의 활동 요약
+                {memory_summary}
+
+                # 본인의 최근 게시물
                 {post_history}
 
-                # 본인의 과거 댓글
+                # 본인의 최근 댓글
                 {reply_history}
 
                 # 현재 작성중인 게시판의 주제
@@ -51,7 +50,68 @@ async def get_post_response(request_data: PostRequest) -> PostResponse:
                 - 글의 제목(title)과 내용(content)을 생성해주세요.
                 - 적절하게 '\n'을 넣어 가독성 향상하세요. ('\\n'로 작성하지 않기)
                 - 글의 분량은 적당히 넣어주세요.
-                """),
+                """
+
+REPLY_HUMAN_PROMPT = """
+                # 성향
+                {clone_description}
+
+                # 목표
+                - 당신은 아래 성향과 게시판 주제, 게시글 내용에 맞춰 댓글을 작성해야 합니다.
+                - 당신이 작성한 과거 게시물과 댓글을 참고하여 다른 글을 작성하세요.
+                - 해당 성향을 기반으로 창의적으로 글을 작성하세요. (성향 이야기는 하지 않기)
+                - 실제 사람이라 생각하고 사람이 쓸 법한 글을 만드세요. (구체적일수록 좋음)
+
+                # 지금까지의 활동 요약
+                {memory_summary}
+
+                # 본인의 최근 게시물
+                {post_history}
+
+                # 본인의 최근 댓글
+                {reply_history}
+
+                # 현재 작성중인 게시판의 주제
+                {board_description}
+
+                # 댓글을 달아야 할 게시글의 제목과 내용
+                {post_title}
+                {post_content}
+
+                # 주의할 점
+                - 글의 내용(content)을 생성해주세요.
+                - 적절하게 '\n'을 넣어 가독성 향상하세요. ('\\n'로 작성하지 않기)
+                - 댓글 답게 글을 짧게 작성해줘.
+                """
+
+MEMORY_HUMAN_PROMPT = """
+                # 성향
+                {clone_description}
+
+                # 목표
+                - 이전 요약과 새로 작성한 게시물 / 댓글을 합쳐 하나의 누적 요약을 작성하세요.
+                - 다음 글을 쓸 때 참고할 수 있도록 관심 주제, 말투, 자주 언급한 내용, 다른 글과의 관계를 남기세요.
+                - 오래되고 덜 중요한 내용부터 줄여 {max_chars}자 이내로 작성하세요.
+
+                # 이전 요약
+                {previous_summary}
+
+                # 새로 작성한 게시물 (오래된 순)
+                {post_history}
+
+                # 새로 작성한 댓글 (오래된 순)
+                {reply_history}
+                """
+
+# --- AI 응답 생성 함수 ---
+async def get_post_response(request_data: PostRequest) -> PostResponse:
+    try:
+        prompt = ChatPromptTemplate.from_messages([
+            ("system",
+             "당신은 마스터를 대신하여 게시글을 작성하는 유능한 AI 에이전트입니다. "
+             "사용자의 지침에 따라 글의 제목과 내용을 생성해야 합니다."
+             "{format_instructions}"),
+            ("human", POST_HUMAN_PROMPT),
         ])
 
         chain = prompt | model | post_json_parser
@@ -60,6 +120,7 @@ async def get_post_response(request_data: PostRequest) -> PostResponse:
             "clone_description": request_data.clone_description,
             "post_history": request_data.post_history,
             "reply_history": request_data.reply_history,
+            "memory_summary": request_data.memory_summary or "없음",
             "board_description": request_data.board_description,
             "format_instructions": post_json_parser.get_format_instructions(),
         })
@@ -81,34 +142,7 @@ async def get_reply_response(request_data: ReplyRequest) -> ReplyResponse:
              "당신은 마스터를 대신하여 댓글을 작성하는 유능한 AI 에이전트입니다. "
              "사용자의 지침에 따라 글의 내용을 생성해야 합니다."
              "{format_instructions}"),
-            ("human", """
-                # 성향
-                {clone_description}
-
-                # 목표
-                - 당신은 아래 성향과 게시판 주제, 게시글 내용에 맞춰 댓글을 작성해야 합니다.
-                - 당신이 작성한 과거 게시물과 댓글을 참고하여 다른 글을 작성하세요.
-                - 해당 성향을 기반으로 창의적으로 글을 작성하세요. (성향 이야기는 하지 않기)
-                - 실제 사람이라 생각하고 사람이 쓸 법한 글을 만드세요. (구체적일수록 좋음)
-
-                # 본인의 과거 게시물
-                {post_history}
-
-                # 본인의 과거 댓글
-                {reply_history}
-
-                # 현재 작성중인 게시판의 주제
-                {board_description}
-
-                # 댓글을 달아야 할 게시글의 제목과 내용
-                {post_title}
-                {post_content}
-
-                # 주의할 점
-                - 글의 내용(content)을 생성해주세요.
-                - 적절하게 '\n'을 넣어 가독성 향상하세요. ('\\n'로 작성하지 않기)
-                - 댓글 답게 글을 짧게 작성해줘.
-                """),
+            ("human", REPLY_HUMAN_PROMPT),
         ])
 
         chain = prompt | model | reply_json_parser
@@ -117,6 +151,7 @@ async def get_reply_response(request_data: ReplyRequest) -> ReplyResponse:
             "clone_description": request_data.clone_description,
             "post_history": request_data.post_history,
             "reply_history": request_data.reply_history,
+            "memory_summary": request_data.memory_summary or "없음",
             "board_description": request_data.board_description,
             "post_title": request_data.post_title,
             "post_content": request_data.post_content,
@@ -130,4 +165,102 @@ async def get_reply_response(request_data: ReplyRequest) -> ReplyResponse:
         raise HTTPException(
             status_code=status.HTTP_500_INTERNAL_SERVER_ERROR,
             detail=f"AI 서버에서 댓글 생성 중 오류가 발생했습니다: {str(e)}"
-        )
\ No newline at end of file
+        )
+
+
+async def get_memory_summary_response(request_data: MemorySummaryRequest) -> MemorySummaryResponse:
+    try:
+        prompt = ChatPromptTemplate.from_messages([
+            ("system",
+             "당신은 AI 클론의 활동 기록을 정리하는 유능한 AI 에이전트입니다. "
+             "사용자의 지침에 따라 누적 요약(summary)을 생성해야 합니다."
+             "{format_instructions}"),
+            ("human", MEMORY_HUMAN_PROMPT),
+        ])
+
+        chain = prompt | model | memory_json_parser
+
+        response_dict = await chain.ainvoke({
+            "clone_description": request_data.clone_description,
+            "previous_summary": request_data.previous_summary or "없음",
+            "post_history": request_data.post_history,
+            "reply_history": request_data.reply_history,
+            "max_chars": request_data.max_chars,
+            "format_instructions": memory_json_parser.get_format_instructions(),
+        })
+
+        return MemorySummaryResponse(**response_dict)
+
+    except Exception as e:
+        print(f"Internal server error occurred: {e}")
+        raise HTTPException(
+            status_code=status.HTTP_500_INTERNAL_SERVER_ERROR,
+            detail=f"AI 서버에서 활동 요약 중 오류가 발생했습니다: {str(e)}"
+        )
+
+
+# --- AI 스트리밍 응답 생성 함수 ---
+# 토큰 단위로 (이벤트, 텍스트)를 반환: 게시글은 첫 줄을 제목(title)으로, 이후를 본문(delta)으로 전달
+async def stream_post_response(request_data: PostRequest) -> AsyncIterator[Tuple[str, str]]:
+    prompt = ChatPromptTemplate.from_messages([
+        ("system",
+         "당신은 마스터를 대신하여 게시글을 작성하는 유능한 AI 에이전트입니다. "
+         "사용자의 지침에 따라 글의 제목과 내용을 생성해야 합니다. "
+         "JSON 형식을 사용하지 말고, 첫 줄에는 제목만 작성한 뒤 다음 줄부터 본문을 작성하세요."),
+        ("human", POST_HUMAN_PROMPT),
+    ])
+
+    chain = prompt | model
+
+    buffer = ""
+    title_sent = False
+    async for chunk in chain.astream({
+        "clone_description": request_data.clone_description,
+        "post_history": request_data.post_history,
+        "reply_history": request_data.reply_history,
+        "memory_summary": request_data.memory_summary or "없음",
+        "board_description": request_data.board_description,
+    }):
+        text = chunk.content
+        if not text:
+            continue
+
+        if title_sent:
+            yield "delta", text
+            continue
+
+        # 제목 줄이 끝날 때까지 모아서 한 번에 전달
+        buffer += text
+        if "\n" in buffer:
+            title, rest = buffer.split("\n", 1)
+            title_sent = True
+            yield "title", title.strip().strip("#").strip()
+            if rest.lstrip("\n"):
+                yield "delta", rest.lstrip("\n")
+
+    if not title_sent and buffer:
+        yield "title", buffer.strip()
+
+
+async def stream_reply_response(request_data: ReplyRequest) -> AsyncIterator[Tuple[str, str]]:
+    prompt = ChatPromptTemplate.from_messages([
+        ("system",
+         "당신은 마스터를 대신하여 댓글을 작성하는 유능한 AI 에이전트입니다. "
+         "사용자의 지침에 따라 글의 내용을 생성해야 합니다. "
+         "JSON 형식을 사용하지 말고, 댓글 본문만 작성하세요."),
+        ("human", REPLY_HUMAN_PROMPT),
+    ])
+
+    chain = prompt | model
+
+    async for chunk in chain.astream({
+        "clone_description": request_data.clone_description,
+        "post_history": request_data.post_history,
+        "reply_history": request_data.reply_history,
+        "memory_summary": request_data.memory_summary or "없음",
+        "board_description": request_data.board_description,
+        "post_title": request_data.post_title,
+        "post_content": request_data.post_content,
+    }):
+        if chunk.content:
+            yield "delta", chunk.content
@@ -1,5 +1,5 @@
 from pydantic import BaseModel, Field
-from typing import List
+from typing import List, Optional
 
 class PostHistoryItem(BaseModel):
     boardName: str
@@ -16,6 +16,7 @@ class PostRequest(BaseModel):
     clone_description: str = Field(..., description="AI의 페르소나를 정의하는 시스템 프롬프트")
     post_history: List[PostHistoryItem] = Field(default_factory=list, description="사용자의 과거 게시물 목록")
     reply_history: List[ReplyHistoryItem] = Field(default_factory=list, description="사용자의 과거 댓글/응답 기록")
+    memory_summary: Optional[str] = Field(default=None, description="마지막 요약까지의 누적 활동 요약 (이력에는 요약 이후 작성분만 포함)")
     board_description: str = Field(..., description="생성할 게시물에 대한 주제 또는 설명")
 
 class PostResponse(BaseModel):
@@ -28,9 +29,42 @@ class ReplyRequest(BaseModel):
     clone_description: str = Field(..., description="AI의 페르소나를 정의하는 시스템 프롬프트")
     post_history: List[PostHistoryItem] = Field(default_factory=list, description="사용자의 과거 게시물 목록")
     reply_history: List[ReplyHistoryItem] = Field(default_factory=list, description="사용자의 과거 댓글/응답 기록")
+    memory_summary: Optional[str] = Field(default=None, description="마지막 요약까지의 누적 활동 요약 (이력에는 요약 이후 작성분만 포함)")
     board_description: str = Field(..., description="생성할 게시물에 대한 주제 또는 설명")
     post_title: str = Field(..., description="생성할 댓글의 게시물 제목")
     post_content: str = Field(..., description="생성할 댓글의 게시물 내용")
 
 class ReplyResponse(BaseModel):
-    content: str = Field(..., description="AI가 생성한 게시물의 내용")
\ No newline at end of file
+    content: str = Field(..., description="AI가 생성한 게시물의 내용")
+
+# Post Batch
+class PostBatchCloneItem(BaseModel):
+    cloneId: int = Field(..., description="AI 클론의 고유 식별자")
+    clone_description: str = Field(..., description="AI의 페르소나를 정의하는 시스템 프롬프트")
+    post_history: List[PostHistoryItem] = Field(default_factory=list, description="사용자의 과거 게시물 목록")
+    reply_history: List[ReplyHistoryItem] = Field(default_factory=list, description="사용자의 과거 댓글/응답 기록")
+    memory_summary: Optional[str] = Field(default=None, description="마지막 요약까지의 누적 활동 요약 (이력에는 요약 이후 작성분만 포함)")
+
+class PostBatchRequest(BaseModel):
+    board_description: str = Field(..., description="생성할 게시물에 대한 주제 또는 설명")
+    clones: List[PostBatchCloneItem] = Field(default_factory=list, description="게시글을 작성할 클론 목록")
+
+class PostBatchItem(BaseModel):
+    cloneId: int = Field(..., description="게시글을 작성한 AI 클론의 고유 식별자")
+    title: str = Field(..., description="AI가 생성한 게시물의 제목")
+    content: str = Field(..., description="AI가 생성한 게시물의 내용")
+
+class PostBatchResponse(BaseModel):
+    posts: List[PostBatchItem] = Field(default_factory=list, description="클론별로 생성된 게시물 목록")
+
+# Memory Summary
+class MemorySummaryRequest(BaseModel):
+    cloneId: int = Field(..., description="AI 클론의 고유 식별자")
+    clone_description: str = Field(..., description="AI의 페르소나를 정의하는 시스템 프롬프트")
+    previous_summary: Optional[str] = Field(default=None, description="이전까지의 누적 활동 요약")
+    post_history: List[PostHistoryItem] = Field(default_factory=list, description="요약에 합칠 게시물 목록 (오래된 순)")
+    reply_history: List[ReplyHistoryItem] = Field(default_factory=list, description="요약에 합칠 댓글 목록 (오래된 순)")
+    max_chars: int = Field(default=1500, description="새 요약의 최대 글자 수")
+
+class MemorySummaryResponse(BaseModel):
+    summary: str = Field(..., description="이전 요약과 새 활동을 합친 누적 요약")
@@ -0,0 +1,51 @@
+package com.rally.ai_valley.benchmark;
+
+import com.rally.ai_valley.common.config.SeedDataProperties;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
+import com.rally.ai_valley.domain.seed.service.SeedDataGenerator;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// 웹 / AI / 메일 없이 JPA + Flyway + Jackson 만 띄우는 벤치마크용 컨텍스트
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        DataSourceAutoConfiguration.class,
+        FlywayAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+})
+@EntityScan("com.rally.ai_valley.domain")
+@EnableJpaRepositories("com.rally.ai_valley.domain")
+@EnableConfigurationProperties(SeedDataProperties.class)
+@Import({SeedDataGenerator.class, BoardCounterJdbcRepository.class})
+public class BenchmarkApplication {
+
+    // 벤치마크 포크마다 한 번: 컨텍스트 기동 후 seed.* 규모의 합성 데이터 적재
+    public static ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=jmh");
+
+        context.getBean(SeedDataGenerator.class).generate(context.getBean(SeedDataProperties.class));
+
+        return context;
+    }
+
+}
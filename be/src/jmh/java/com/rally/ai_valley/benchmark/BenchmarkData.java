@@ -0,0 +1,67 @@
+package com.rally.ai_valley.benchmark;
+
+import com.rally.ai_valley.common.utility.CursorCodec;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 포크당 한 번 기동하는 컨텍스트와 벤치마크 대상 식별자 (가장 활동이 많은 게시판 / 게시글 / 클론 / 사용자)
+@State(Scope.Benchmark)
+public class BenchmarkData {
+
+    ConfigurableApplicationContext context;
+
+    long hotBoardId;
+    long hotPostId;
+    long hotCloneId;
+    long hotUserId;
+    List<Long> sampleCloneIds;
+
+    // 첫 페이지 다음부터 이어 읽는 커서 (게시판의 100번째 게시글)
+    LocalDateTime cursorCreatedAt;
+    long cursorId;
+    String encodedCursor;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        hotBoardId = jdbcTemplate.queryForObject("SELECT id FROM boards ORDER BY post_count DESC LIMIT 1", Long.class);
+        hotPostId = jdbcTemplate.queryForObject(
+                "SELECT post_id FROM replies GROUP BY post_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        hotCloneId = jdbcTemplate.queryForObject(
+                "SELECT clone_id FROM posts GROUP BY clone_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        hotUserId = jdbcTemplate.queryForObject("SELECT user_id FROM clones WHERE id = ?", Long.class, hotCloneId);
+        sampleCloneIds = jdbcTemplate.queryForList("SELECT id FROM clones ORDER BY id LIMIT 20", Long.class);
+
+        jdbcTemplate.query("""
+                SELECT created_at, id FROM posts
+                WHERE board_id = ? AND is_deleted = 0
+                ORDER BY created_at DESC, id DESC
+                LIMIT 1 OFFSET 99
+                """, rs -> {
+            cursorCreatedAt = rs.getTimestamp("created_at").toLocalDateTime();
+            cursorId = rs.getLong("id");
+        }, hotBoardId);
+        encodedCursor = CursorCodec.encode(cursorCreatedAt, cursorId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+}
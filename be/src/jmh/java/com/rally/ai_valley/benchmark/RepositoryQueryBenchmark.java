@@ -0,0 +1,130 @@
+package com.rally.ai_valley.benchmark;
+
+import com.rally.ai_valley.domain.board.repository.BoardRepository;
+import com.rally.ai_valley.domain.clone.repository.CloneBoardRepository;
+import com.rally.ai_valley.domain.clone.repository.CloneRepository;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import com.rally.ai_valley.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회 경로 리포지토리 메서드 벤치마크 (./gradlew jmh, 결과: build/reports/jmh/results.json)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RepositoryQueryBenchmark {
+
+    // 목록 API 기본 페이지 크기 + 다음 페이지 확인용 1건
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 21);
+
+    private BoardRepository boardRepository;
+    private CloneRepository cloneRepository;
+    private CloneBoardRepository cloneBoardRepository;
+    private PostRepository postRepository;
+    private ReplyRepository replyRepository;
+    private UserRepository userRepository;
+
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkData data) {
+        boardRepository = data.bean(BoardRepository.class);
+        cloneRepository = data.bean(CloneRepository.class);
+        cloneBoardRepository = data.bean(CloneBoardRepository.class);
+        postRepository = data.bean(PostRepository.class);
+        replyRepository = data.bean(ReplyRepository.class);
+        userRepository = data.bean(UserRepository.class);
+    }
+
+    // Board
+    @Benchmark
+    public Object findAllBoards() {
+        return boardRepository.findAllBoards();
+    }
+
+    @Benchmark
+    public Object findBoardByBoardId(BenchmarkData data) {
+        return boardRepository.findBoardByBoardId(data.hotBoardId);
+    }
+
+    @Benchmark
+    public Object findCreatedByMyBoards(BenchmarkData data) {
+        return boardRepository.findCreatedByMyBoards(data.hotUserId);
+    }
+
+    @Benchmark
+    public Object findBoardsInCloneByCloneId(BenchmarkData data) {
+        return boardRepository.findBoardsInCloneByCloneId(data.hotCloneId);
+    }
+
+    // Post
+    @Benchmark
+    public Object findPostByPostId(BenchmarkData data) {
+        return postRepository.findPostByPostId(data.hotPostId);
+    }
+
+    @Benchmark
+    public Object findPostsByBoardIdFirstPage(BenchmarkData data) {
+        return postRepository.findPostsByBoardIdFirstPage(data.hotBoardId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object findPostsByBoardIdAfterCursor(BenchmarkData data) {
+        return postRepository.findPostsByBoardIdAfterCursor(data.hotBoardId, data.cursorCreatedAt, data.cursorId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object findPostsByCloneIdFirstPage(BenchmarkData data) {
+        return postRepository.findPostsByCloneIdFirstPage(data.hotCloneId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object findRecentPostsByCloneIdsForAi(BenchmarkData data) {
+        return postRepository.findRecentPostsByCloneIdsForAi(data.sampleCloneIds, 20, 600);
+    }
+
+    // Reply
+    @Benchmark
+    public Object findRepliesByPostIdFirstPage(BenchmarkData data) {
+        return replyRepository.findRepliesByPostIdFirstPage(data.hotPostId, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Object findRepliesByCloneId(BenchmarkData data) {
+        return replyRepository.findRepliesByCloneId(data.hotCloneId);
+    }
+
+    @Benchmark
+    public Object findRecentRepliesByCloneIdsForAi(BenchmarkData data) {
+        return replyRepository.findRecentRepliesByCloneIdsForAi(data.sampleCloneIds, 20, 600);
+    }
+
+    // Clone / User
+    @Benchmark
+    public Object findUserStatisticsByCloneId(BenchmarkData data) {
+        return cloneRepository.findUserStatisticsByCloneId(data.hotCloneId);
+    }
+
+    @Benchmark
+    public Object findUserStatistics(BenchmarkData data) {
+        return userRepository.findUserStatistics(data.hotUserId);
+    }
+
+    @Benchmark
+    public Object findAllClonesInBoard(BenchmarkData data) {
+        return cloneRepository.findAllClonesInBoard(data.hotBoardId);
+    }
+
+    @Benchmark
+    public Object findActiveClonesInBoards(BenchmarkData data) {
+        return cloneBoardRepository.findActiveClonesInBoards(List.of(data.hotBoardId));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.rally.ai_valley.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_valley.common.constant.CommonConstant;
+import com.rally.ai_valley.common.constant.CommonStatus;
+import com.rally.ai_valley.common.entity.CommonResponse;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.common.utility.CursorCodec;
+import com.rally.ai_valley.domain.board.dto.BoardInfoResponse;
+import com.rally.ai_valley.domain.board.repository.BoardRepository;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러 응답(CommonResponse) JSON 직렬화 비용 (Spring 컨텍스트의 ObjectMapper 사용)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CommonResponse<List<BoardInfoResponse>> boardsResponse;
+    private CommonResponse<CursorPageResponse<PostInfoResponse>> postsPageResponse;
+
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkData data) {
+        objectMapper = data.bean(ObjectMapper.class);
+
+        boardsResponse = CommonResponse.<List<BoardInfoResponse>>builder()
+                .successOrNot(CommonConstant.YES_FLAG)
+                .statusCode(CommonStatus.SUCCESS)
+                .data(data.bean(BoardRepository.class).findAllBoards())
+                .build();
+
+        List<PostInfoResponse> posts = data.bean(PostRepository.class)
+                .findPostsByBoardIdFirstPage(data.hotBoardId, PageRequest.of(0, CommonConstant.DEFAULT_PAGE_SIZE + 1));
+        postsPageResponse = CommonResponse.<CursorPageResponse<PostInfoResponse>>builder()
+                .successOrNot(CommonConstant.YES_FLAG)
+                .statusCode(CommonStatus.SUCCESS)
+                .data(CursorPageResponse.of(posts, CommonConstant.DEFAULT_PAGE_SIZE,
+                        post -> CursorCodec.encode(post.getCreatedAt(), post.getPostId())))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeBoards() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boardsResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePostsPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postsPageResponse);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.rally.ai_valley.benchmark;
+
+import com.rally.ai_valley.common.ai.vector.HnswIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 임베딩 인덱스 검색 비용: 전체 검색 / 클론(그룹) 검색 (Spring 컨텍스트 없이 합성 벡터로 측정)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VectorIndexBenchmark {
+
+    private static final int DIMENSION = 128;
+    private static final int GROUPS = 100;
+    private static final int QUERIES = 1024;
+
+    @Param({"20000", "100000"})
+    public int size;
+
+    private HnswIndex index;
+    private float[][] queries;
+    private int next;
+
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(1);
+        float[][] centers = new float[200][DIMENSION];
+        for (float[] center : centers) {
+            for (int j = 0; j < DIMENSION; j++) {
+                center[j] = (float) random.nextGaussian();
+            }
+        }
+
+        index = new HnswIndex(DIMENSION, 16, 64, 2000, 42);
+        queries = new float[QUERIES][];
+        for (int i = 0; i < size; i++) {
+            float[] vector = near(centers[random.nextInt(centers.length)], random);
+            index.add(i, i % GROUPS, vector);
+            if (i < QUERIES) {
+                queries[i] = vector;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<HnswIndex.Match> search() {
+        return index.search(nextQuery(), 5, 64);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Match> searchWithinClone() {
+        return index.search(nextQuery(), 5, 64, next % GROUPS);
+    }
+
+    private float[] nextQuery() {
+        next = (next + 1) % QUERIES;
+        return queries[next];
+    }
+
+    private float[] near(float[] center, Random random) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int j = 0; j < DIMENSION; j++) {
+            vector[j] = center[j] + 0.7f * (float) random.nextGaussian();
+            norm += vector[j] * vector[j];
+        }
+        for (int j = 0; j < DIMENSION; j++) {
+            vector[j] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.rally.ai_valley.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트용 로컬 AI 서버. /post, /reply 를 흉내 낸다.
+ * 응답 지연은 로그 정규 분포(중앙값 / p99 지정), 실패는 errorRate 확률로 503 응답.
+ */
+public class FakeAiServer implements AutoCloseable {
+
+    // 표준 정규 분포의 99번째 백분위 z 값
+    private static final double Z_99 = 2.326;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final double mu;
+    private final double sigma;
+    private final double errorRate;
+
+
+    public FakeAiServer(long medianLatencyMillis, long p99LatencyMillis, double errorRate) throws IOException {
+        if (medianLatencyMillis <= 0 || p99LatencyMillis < medianLatencyMillis) {
+            throw new IllegalArgumentException("지연 시간은 0 < median <= p99 이어야 합니다.");
+        }
+        this.mu = Math.log(medianLatencyMillis);
+        this.sigma = Math.log((double) p99LatencyMillis / medianLatencyMillis) / Z_99;
+        this.errorRate = errorRate;
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/post", exchange -> handle(exchange, this::createPost));
+        server.createContext("/reply", exchange -> handle(exchange, this::createReply));
+    }
+
+    public FakeAiServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private JsonNode createPost(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("title", "load test title " + request.path("cloneId").asLong());
+        response.put("content", "load test content for " + request.path("board_description").asText());
+        return response;
+    }
+
+    private JsonNode createReply(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("content", "load test reply to " + request.path("post_title").asText());
+        return response;
+    }
+
+    private void handle(HttpExchange exchange, Function<JsonNode, JsonNode> handler) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        sleep(sampleLatencyMillis());
+
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            write(exchange, 503, "{\"detail\":\"fake failure\"}");
+            return;
+        }
+        write(exchange, 200, objectMapper.writeValueAsString(handler.apply(request)));
+    }
+
+    private long sampleLatencyMillis() {
+        return Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.rally.ai_valley.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rally.ai_valley.AiValleyApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전체 요청 경로 부하 테스트 (./gradlew loadTest, 외부 네트워크 없이 localhost 에서만 동작).
+ * 가짜 AI 서버와 애플리케이션(loadtest 프로필, 합성 데이터 적재)을 띄운 뒤
+ * 목표 RPS 로 읽기 / 생성 요청을 섞어 보내고 작업별 p50 / p95 / p99, 처리량, 풀 포화도를 보고한다.
+ *
+ * 설정 (시스템 프로퍼티, gradle 에서는 -Ploadtest.rps=100 처럼 전달)
+ * loadtest.rps, loadtest.duration-seconds, loadtest.warmup-seconds,
+ * loadtest.mix (예: boards=15,posts=35,replies=30,create-post=10,create-reply=10),
+ * loadtest.ai.median-ms, loadtest.ai.p99-ms, loadtest.ai.error-rate, loadtest.report
+ */
+@Slf4j
+public class LoadTestMain {
+
+    private static final String API_PREFIX = "/api/v1";
+
+    enum Operation {
+        BOARDS("boards"),
+        POSTS("posts"),
+        REPLIES("replies"),
+        CREATE_POST("create-post"),
+        CREATE_REPLY("create-reply");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+    }
+
+    private final int rps = Integer.getInteger("loadtest.rps", 50);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private final String mix = System.getProperty("loadtest.mix", "boards=15,posts=35,replies=30,create-post=10,create-reply=10");
+    private final long aiMedianMillis = Long.getLong("loadtest.ai.median-ms", 800);
+    private final long aiP99Millis = Long.getLong("loadtest.ai.p99-ms", 3000);
+    private final double aiErrorRate = Double.parseDouble(System.getProperty("loadtest.ai.error-rate", "0.01"));
+    private final Path reportPath = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/summary.json"));
+
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+    private final LatencyRecorder totalRecorder = new LatencyRecorder();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUrl;
+    private List<long[]> subscriptions;
+    private List<Long> boardIds;
+    private List<long[]> posts;
+    private Map<Long, List<Long>> clonesByBoard;
+
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestMain().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        NavigableMap<Integer, Operation> weightedOperations = parseMix(mix);
+
+        try (FakeAiServer fakeAiServer = new FakeAiServer(aiMedianMillis, aiP99Millis, aiErrorRate).start()) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(AiValleyApplication.class)
+                    .run("--spring.profiles.active=loadtest",
+                            "--server.port=0",
+                            "--ai.server.url=" + fakeAiServer.getBaseUrl());
+            try {
+                baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port") + API_PREFIX;
+                loadTargets(context.getBean(JdbcTemplate.class));
+
+                PoolSaturationSampler sampler = new PoolSaturationSampler(context.getBean(MeterRegistry.class));
+                Map<String, Object> report = drive(weightedOperations, sampler);
+                writeReport(report);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // 생성 요청 대상: 구독 관계(게시판, 클론)와 최근 게시글 (댓글은 게시판 구독 클론이 작성)
+    private void loadTargets(JdbcTemplate jdbcTemplate) {
+        subscriptions = jdbcTemplate.query("SELECT board_id, clone_id FROM clone_boards WHERE is_active = 1",
+                (rs, rowNum) -> new long[]{rs.getLong("board_id"), rs.getLong("clone_id")});
+        clonesByBoard = new HashMap<>();
+        subscriptions.forEach(subscription ->
+                clonesByBoard.computeIfAbsent(subscription[0], boardId -> new ArrayList<>()).add(subscription[1]));
+
+        boardIds = jdbcTemplate.queryForList("SELECT id FROM boards WHERE is_deleted = 0", Long.class);
+        posts = jdbcTemplate.query("SELECT id, board_id FROM posts WHERE is_deleted = 0 ORDER BY id DESC LIMIT 1000",
+                (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("board_id")});
+        posts.removeIf(post -> !clonesByBoard.containsKey(post[1]));
+        if (subscriptions.isEmpty() || boardIds.isEmpty() || posts.isEmpty()) {
+            throw new IllegalStateException("부하 테스트 대상 데이터가 없습니다. seed.* 설정을 확인하세요.");
+        }
+    }
+
+    // 열린 모델: 응답을 기다리지 않고 예정 시각마다 요청을 보냄 (서버가 느려져도 부하가 줄지 않음)
+    private Map<String, Object> drive(NavigableMap<Integer, Operation> weightedOperations,
+                                      PoolSaturationSampler sampler) throws InterruptedException {
+        int totalWeight = weightedOperations.lastKey();
+        long intervalNanos = 1_000_000_000L / rps;
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endAt = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        ScheduledExecutorService samplerExecutor = Executors.newSingleThreadScheduledExecutor();
+        samplerExecutor.scheduleAtFixedRate(() -> {
+            if (System.nanoTime() >= measureFrom) {
+                sampler.sample();
+            }
+        }, warmupSeconds, 1, TimeUnit.SECONDS);
+
+        log.info("부하 테스트 시작 - RPS: {}, Warmup: {}s, Duration: {}s, Mix: {}", rps, warmupSeconds, durationSeconds, mix);
+        for (long i = 0; ; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            if (scheduledAt >= endAt) {
+                break;
+            }
+            long waitNanos = scheduledAt - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Operation operation = weightedOperations.higherEntry(ThreadLocalRandom.current().nextInt(totalWeight)).getValue();
+            boolean measured = scheduledAt >= measureFrom;
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(buildRequest(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        if (measured) {
+                            boolean success = throwable == null && response.statusCode() < 400;
+                            long latencyNanos = System.nanoTime() - scheduledAt;
+                            recorders.get(operation).record(latencyNanos, success);
+                            totalRecorder.record(latencyNanos, success);
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        // 남은 요청 대기 (최대 60초)
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(100);
+        }
+        samplerExecutor.shutdownNow();
+
+        return buildReport(sampler, inFlight.get());
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(60));
+
+        return switch (operation) {
+            case BOARDS -> builder.uri(URI.create(baseUrl + "/boards")).GET().build();
+            case POSTS -> builder.uri(URI.create(baseUrl + "/boards/" + pick(boardIds, random) + "/posts")).GET().build();
+            case REPLIES -> builder.uri(URI.create(baseUrl + "/posts/" + pick(posts, random)[0] + "/replies")).GET().build();
+            case CREATE_POST -> {
+                long[] subscription = pick(subscriptions, random);
+                yield jsonPost(builder, "/boards/" + subscription[0] + "/posts", subscription[1]);
+            }
+            case CREATE_REPLY -> {
+                long[] post = pick(posts, random);
+                yield jsonPost(builder, "/posts/" + post[0] + "/replies", pick(clonesByBoard.get(post[1]), random));
+            }
+        };
+    }
+
+    private HttpRequest jsonPost(HttpRequest.Builder builder, String path, long cloneId) {
+        return builder.uri(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"cloneId\":" + cloneId + "}"))
+                .build();
+    }
+
+    private <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private Map<String, Object> buildReport(PoolSaturationSampler sampler, int unfinishedRequests) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rps", rps);
+        config.put("durationSeconds", durationSeconds);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("mix", mix);
+        config.put("aiMedianMillis", aiMedianMillis);
+        config.put("aiP99Millis", aiP99Millis);
+        config.put("aiErrorRate", aiErrorRate);
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        recorders.forEach((operation, recorder) -> operations.put(operation.key, recorder.summarize(durationSeconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("operations", operations);
+        report.put("total", totalRecorder.summarize(durationSeconds));
+        report.put("pools", sampler.summarize());
+        report.put("unfinishedRequests", unfinishedRequests);
+        return report;
+    }
+
+    private void writeReport(Map<String, Object> report) throws Exception {
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.writeString(reportPath, json);
+
+        System.out.println(json);
+        log.info("부하 테스트 결과 저장 - {}", reportPath.toAbsolutePath());
+    }
+
+    // "boards=15,posts=35" -> 누적 가중치 맵 (상한 -> 작업)
+    private NavigableMap<Integer, Operation> parseMix(String value) {
+        Map<String, Operation> byKey = new HashMap<>();
+        for (Operation operation : Operation.values()) {
+            byKey.put(operation.key, operation);
+        }
+
+        NavigableMap<Integer, Operation> weighted = new TreeMap<>();
+        int cumulative = 0;
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            Operation operation = byKey.get(pair[0].trim());
+            if (operation == null || pair.length != 2) {
+                throw new IllegalArgumentException("알 수 없는 작업 비율: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                cumulative += weight;
+                weighted.put(cumulative, operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("작업 비율이 비어 있습니다: " + value);
+        }
+        return weighted;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.rally.ai_valley.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 1초마다 커넥션 / 스레드 풀 게이지를 읽어 평균 / 최대 사용량 기록
+public class PoolSaturationSampler {
+
+    // 보고서 이름 -> Micrometer 게이지 이름
+    private static final Map<String, String> GAUGES = new LinkedHashMap<>();
+
+    static {
+        GAUGES.put("db.active", "hikaricp.connections.active");
+        GAUGES.put("db.pending", "hikaricp.connections.pending");
+        GAUGES.put("db.max", "hikaricp.connections.max");
+        GAUGES.put("ai.http.active", "reactor.netty.connection.provider.active.connections");
+        GAUGES.put("ai.http.pending", "reactor.netty.connection.provider.pending.connections");
+        GAUGES.put("ai.http.max", "reactor.netty.connection.provider.max.connections");
+        GAUGES.put("tomcat.threads.busy", "tomcat.threads.busy");
+        GAUGES.put("tomcat.threads.max", "tomcat.threads.config.max");
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, double[]> stats = new LinkedHashMap<>();
+    private int samples;
+
+
+    public PoolSaturationSampler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        GAUGES.keySet().forEach(name -> stats.put(name, new double[2]));
+    }
+
+    public synchronized void sample() {
+        samples++;
+        GAUGES.forEach((name, gaugeName) -> {
+            double value = meterRegistry.find(gaugeName).gauges().stream()
+                    .mapToDouble(Gauge::value)
+                    .filter(Double::isFinite)
+                    .sum();
+            double[] stat = stats.get(name);
+            stat[0] += value;
+            stat[1] = Math.max(stat[1], value);
+        });
+    }
+
+    public synchronized Map<String, Object> summarize() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        stats.forEach((name, stat) -> summary.put(name, Map.of(
+                "avg", samples == 0 ? 0 : Math.round(stat[0] / samples * 100) / 100.0,
+                "max", stat[1])));
+        return summary;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.rally.ai_valley.common.ai.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rally.ai_valley.common.config.AiClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 동일한 AI 요청(더블 클릭, 클라이언트 재시도)을 한 번의 AI 호출로 처리
+// 1) TTL 결과 캐시 -> 2) 진행 중인 요청 공유 -> 3) 새 호출
+@Component
+@Slf4j
+public class AiRequestCoalescer {
+
+    private static final String DEDUP_COUNTER = "ai.dedup.requests";
+
+    private final ObjectMapper objectMapper;
+    private final AiClientProperties.Dedup dedupProperties;
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Object> results;
+    private final Counter cacheHitCounter;
+    private final Counter inFlightHitCounter;
+    private final Counter missCounter;
+
+
+    public AiRequestCoalescer(ObjectMapper objectMapper,
+                              AiClientProperties aiClientProperties,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.dedupProperties = aiClientProperties.getDedup();
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(dedupProperties.getTtl())
+                .maximumSize(dedupProperties.getMaximumSize())
+                .build();
+        this.cacheHitCounter = dedupCounter(meterRegistry, "cache_hit");
+        this.inFlightHitCounter = dedupCounter(meterRegistry, "inflight_hit");
+        this.missCounter = dedupCounter(meterRegistry, "miss");
+    }
+
+    // 실패한 결과는 캐시하지 않음 (다음 요청은 새로 호출)
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(String endpoint, Object request, Supplier<Mono<T>> call) {
+        if (!dedupProperties.isEnabled()) {
+            return call.get();
+        }
+
+        return Mono.defer(() -> {
+            String key = endpoint + ":" + hash(request);
+
+            T cached = (T) results.getIfPresent(key);
+            if (cached != null) {
+                cacheHitCounter.increment();
+                log.info("AI 요청 결과 캐시 사용 - Endpoint: {}", endpoint);
+                return Mono.just(cached);
+            }
+
+            boolean[] created = {false};
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return call.get()
+                        .doOnNext(result -> results.put(k, result))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+
+            if (created[0]) {
+                missCounter.increment();
+            } else {
+                inFlightHitCounter.increment();
+                log.info("진행 중인 동일 AI 요청 공유 - Endpoint: {}", endpoint);
+            }
+            return shared;
+        });
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("AI 요청 키 생성 실패", e);
+        }
+    }
+
+    private Counter dedupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(DEDUP_COUNTER)
+                .description("AI 요청 중복 제거 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
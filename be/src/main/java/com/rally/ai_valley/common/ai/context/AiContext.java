@@ -0,0 +1,13 @@
+package com.rally.ai_valley.common.ai.context;
+
+import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+
+import java.util.List;
+
+// AI 요청에 포함할 클론 이력 (최신순)
+// memorySummary: 누적 활동 요약 (요약이 없으면 null), 이력은 요약에 반영되지 않은 글만 포함
+public record AiContext(String memorySummary,
+                        List<PostInfoResponseForAi> postHistory,
+                        List<ReplyInfoResponseForAi> replyHistory) {
+}
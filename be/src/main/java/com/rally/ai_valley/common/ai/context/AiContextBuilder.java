@@ -0,0 +1,286 @@
+package com.rally.ai_valley.common.ai.context;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rally.ai_valley.common.ai.embedding.EmbeddingProvider;
+import com.rally.ai_valley.common.ai.vector.HistoryVectorIndex;
+import com.rally.ai_valley.common.config.AiContextProperties;
+import com.rally.ai_valley.domain.clone.entity.CloneMemory;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryRepository;
+import com.rally.ai_valley.domain.post.dto.PostInfoForAiByClone;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoForAiByClone;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+// AI 요청에 넣을 클론 이력(누적 요약 + 게시글 / 댓글) 구성
+// 1) 클론별 요약과 요약 이후의 최근 후보를 본문을 잘라 임베딩과 함께 캐시 (캐시에 없는 클론만 요약 / 게시글 / 댓글 각 1회 쿼리)
+// 2) 임베딩 인덱스에서 생성 대상과 유사한 과거 이력을 찾아 후보에 더함 (최근 후보에 없는 것만 게시글 / 댓글 각 1회 쿼리)
+// 3) 요청마다 최신순 + 생성 대상과의 코사인 유사도로 점수를 매겨 글자 수 예산(요약 길이 제외) 안에서 선택
+@Component
+public class AiContextBuilder {
+
+    private static final String CACHE_NAME = "ai.context";
+    private static final String SENTENCE_ENDINGS = ".!?。\n";
+    private static final String ELLIPSIS = "…";
+
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+    private final CloneMemoryRepository cloneMemoryRepository;
+    private final HistoryVectorIndex historyVectorIndex;
+    private final EmbeddingProvider embeddingProvider;
+    private final AiContextProperties properties;
+    private final Cache<Long, CloneHistory> histories;
+
+
+    public AiContextBuilder(PostRepository postRepository,
+                            ReplyRepository replyRepository,
+                            CloneMemoryRepository cloneMemoryRepository,
+                            HistoryVectorIndex historyVectorIndex,
+                            EmbeddingProvider embeddingProvider,
+                            AiContextProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.replyRepository = replyRepository;
+        this.cloneMemoryRepository = cloneMemoryRepository;
+        this.historyVectorIndex = historyVectorIndex;
+        this.embeddingProvider = embeddingProvider;
+        this.properties = properties;
+        this.histories = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getCacheTtl())
+                .maximumSize(properties.getCacheMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, histories, CACHE_NAME);
+    }
+
+    // target: 생성 대상 설명 (게시판 이름 / 설명, 댓글을 달 게시글 제목 / 본문)
+    public AiContext build(Long cloneId, String target) {
+        return buildAll(List.of(cloneId), target).get(cloneId);
+    }
+
+    public Map<Long, AiContext> buildAll(Collection<Long> cloneIds, String target) {
+        Map<Long, CloneHistory> found = histories.getAll(cloneIds, this::loadHistories);
+        float[] targetVector = embeddingProvider.embed(target);
+        Map<Long, List<Candidate>> similar = loadSimilar(cloneIds, found, targetVector);
+
+        Map<Long, AiContext> contexts = new HashMap<>();
+        for (Long cloneId : cloneIds) {
+            contexts.put(cloneId, select(found.getOrDefault(cloneId, CloneHistory.EMPTY),
+                    similar.getOrDefault(cloneId, List.of()),
+                    targetVector));
+        }
+        return contexts;
+    }
+
+    // 클론이 새 글 / 댓글을 쓰거나 요약이 갱신되면 커밋 이후 무효화 (커밋 전에 비우면 동시 요청이 이전 이력으로 다시 채울 수 있음)
+    public void evictAfterCommit(Long cloneId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            histories.invalidate(cloneId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                histories.invalidate(cloneId);
+            }
+        });
+    }
+
+    private Map<Long, CloneHistory> loadHistories(Set<? extends Long> missingCloneIds) {
+        List<Long> cloneIds = List.copyOf(missingCloneIds);
+        int candidateSize = properties.getCandidateSize();
+        int fetchChars = properties.getMaxItemChars() + 1; // 한 글자 더 읽어 잘림 여부 판단
+
+        Map<Long, String> summaries = new HashMap<>();
+        for (CloneMemory memory : cloneMemoryRepository.findCloneMemoriesByCloneIds(cloneIds)) {
+            if (memory.getSummary() != null) {
+                summaries.put(memory.getCloneId(), memory.getSummary());
+            }
+        }
+
+        Map<Long, List<Candidate>> posts = new HashMap<>();
+        postRepository.findRecentPostsByCloneIdsForAi(cloneIds, candidateSize, fetchChars).forEach(post -> {
+            List<Candidate> candidates = posts.computeIfAbsent(post.getCloneId(), id -> new ArrayList<>());
+            candidates.add(postCandidate(post, candidates.size()));
+        });
+
+        Map<Long, List<Candidate>> replies = new HashMap<>();
+        replyRepository.findRecentRepliesByCloneIdsForAi(cloneIds, candidateSize, fetchChars).forEach(reply -> {
+            List<Candidate> candidates = replies.computeIfAbsent(reply.getCloneId(), id -> new ArrayList<>());
+            candidates.add(replyCandidate(reply, candidates.size()));
+        });
+
+        // 이력이 없는 클론도 캐시해 매번 조회하지 않도록 함
+        Map<Long, CloneHistory> loaded = new HashMap<>();
+        for (Long cloneId : cloneIds) {
+            loaded.put(cloneId, new CloneHistory(summaries.get(cloneId),
+                    posts.getOrDefault(cloneId, List.of()),
+                    replies.getOrDefault(cloneId, List.of())));
+        }
+        return loaded;
+    }
+
+    // 인덱스에서 찾은 유사 이력 중 최근 후보에 없는 것만 조회 (요청마다 바뀌므로 캐시하지 않음)
+    // 최근 후보 밖의 이력이므로 순위는 candidateSize (최신순 점수가 가장 낮음)
+    private Map<Long, List<Candidate>> loadSimilar(Collection<Long> cloneIds, Map<Long, CloneHistory> found, float[] targetVector) {
+        if (!historyVectorIndex.isEnabled()) {
+            return Map.of();
+        }
+
+        Set<Long> postIds = new HashSet<>();
+        Set<Long> replyIds = new HashSet<>();
+        for (Long cloneId : cloneIds) {
+            HistoryVectorIndex.SimilarHistory similarHistory = historyVectorIndex.findSimilar(cloneId, targetVector);
+            CloneHistory history = found.getOrDefault(cloneId, CloneHistory.EMPTY);
+            similarHistory.postIds().stream().filter(id -> !history.contains(CandidateType.POST, id)).forEach(postIds::add);
+            similarHistory.replyIds().stream().filter(id -> !history.contains(CandidateType.REPLY, id)).forEach(replyIds::add);
+        }
+
+        int rank = properties.getCandidateSize();
+        int fetchChars = properties.getMaxItemChars() + 1;
+        Map<Long, List<Candidate>> similar = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            postRepository.findPostsForAiByIds(postIds, fetchChars).forEach(post ->
+                    similar.computeIfAbsent(post.getCloneId(), id -> new ArrayList<>()).add(postCandidate(post, rank)));
+        }
+        if (!replyIds.isEmpty()) {
+            replyRepository.findRepliesForAiByIds(replyIds, fetchChars).forEach(reply ->
+                    similar.computeIfAbsent(reply.getCloneId(), id -> new ArrayList<>()).add(replyCandidate(reply, rank)));
+        }
+        return similar;
+    }
+
+    private Candidate postCandidate(PostInfoForAiByClone post, int rank) {
+        return candidate(CandidateType.POST, post.getPostId(), rank, post.getBoardName(), post.getPostTitle(), post.getPostContent());
+    }
+
+    private Candidate replyCandidate(ReplyInfoForAiByClone reply, int rank) {
+        return candidate(CandidateType.REPLY, reply.getReplyId(), rank, null, reply.getPostTitle(), reply.getContent());
+    }
+
+    private Candidate candidate(CandidateType type, Long id, int rank, String boardName, String title, String content) {
+        String truncated = truncate(content, properties.getMaxItemChars());
+        int cost = length(boardName) + length(title) + length(truncated);
+
+        return new Candidate(type, id, rank, boardName, title, truncated, embeddingProvider.embed(title + " " + truncated), cost);
+    }
+
+    // 점수 높은 순으로 예산 안에 들어가는 이력을 고른 뒤 종류별로 최신순 정렬
+    private AiContext select(CloneHistory history, List<Candidate> similar, float[] targetVector) {
+        double relevanceWeight = properties.getRelevanceWeight();
+        List<Candidate> candidates = new ArrayList<>(history.posts());
+        candidates.addAll(history.replies());
+        candidates.addAll(similar);
+        candidates.sort(Comparator.comparingDouble((Candidate candidate) ->
+                (1 - relevanceWeight) / (1 + candidate.rank()) + relevanceWeight * relevance(candidate.vector(), targetVector)).reversed());
+
+        int remainingChars = properties.getMaxChars() - length(history.summary());
+        int selectedPosts = 0;
+        int selectedReplies = 0;
+        List<Candidate> selected = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            int selectedOfType = candidate.type() == CandidateType.POST ? selectedPosts : selectedReplies;
+            if (selectedOfType >= properties.getMaxItems() || candidate.cost() > remainingChars) {
+                continue;
+            }
+
+            selected.add(candidate);
+            remainingChars -= candidate.cost();
+            if (candidate.type() == CandidateType.POST) {
+                selectedPosts++;
+            } else {
+                selectedReplies++;
+            }
+        }
+        selected.sort(Comparator.comparingInt(Candidate::rank)
+                .thenComparing(Candidate::id, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        List<PostInfoResponseForAi> postHistory = selected.stream()
+                .filter(candidate -> candidate.type() == CandidateType.POST)
+                .map(candidate -> new PostInfoResponseForAi(candidate.boardName(), candidate.title(), candidate.content()))
+                .toList();
+        List<ReplyInfoResponseForAi> replyHistory = selected.stream()
+                .filter(candidate -> candidate.type() == CandidateType.REPLY)
+                .map(candidate -> new ReplyInfoResponseForAi(candidate.title(), candidate.content()))
+                .toList();
+
+        return new AiContext(history.summary(), postHistory, replyHistory);
+    }
+
+    // 정규화 벡터의 내적 = 코사인 유사도 (반대 방향은 관련 없음으로 보고 0 ~ 1)
+    private double relevance(float[] vector, float[] targetVector) {
+        double similarity = 0;
+        for (int i = 0; i < vector.length; i++) {
+            similarity += vector[i] * targetVector[i];
+        }
+        return Math.max(0, similarity);
+    }
+
+    // 최대 길이를 넘으면 뒤쪽 절반 안의 마지막 문장 끝(없으면 공백)에서 자름
+    public static String truncate(String text, int maxChars) {
+        if (text == null || text.length() <= maxChars) {
+            return text;
+        }
+
+        String cut = text.substring(0, maxChars);
+        int boundary = -1;
+        for (int i = cut.length() - 1; i >= maxChars / 2; i--) {
+            if (SENTENCE_ENDINGS.indexOf(cut.charAt(i)) >= 0) {
+                boundary = i + 1;
+                break;
+            }
+        }
+        if (boundary < 0) {
+            int whitespace = cut.lastIndexOf(' ');
+            boundary = whitespace >= maxChars / 2 ? whitespace : maxChars;
+        }
+
+        return cut.substring(0, boundary).stripTrailing() + ELLIPSIS;
+    }
+
+    private int length(String text) {
+        return text != null ? text.length() : 0;
+    }
+
+    private enum CandidateType {
+        POST, REPLY
+    }
+
+    // rank: 종류별 최신순 순위 (0이 가장 최근, 유사 이력은 candidateSize)
+    private record Candidate(CandidateType type,
+                             Long id,
+                             int rank,
+                             String boardName,
+                             String title,
+                             String content,
+                             float[] vector,
+                             int cost) {
+    }
+
+    private record CloneHistory(String summary, List<Candidate> posts, List<Candidate> replies) {
+
+        private static final CloneHistory EMPTY = new CloneHistory(null, List.of(), List.of());
+
+        private boolean contains(CandidateType type, Long id) {
+            List<Candidate> candidates = type == CandidateType.POST ? posts : replies;
+            for (Candidate candidate : candidates) {
+                if (id.equals(candidate.id())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.rally.ai_valley.common.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// AI 서버 스트리밍 이벤트(title / delta / error)의 data
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiStreamChunk {
+
+    public static final String EVENT_TITLE = "title";
+    public static final String EVENT_DELTA = "delta";
+    public static final String EVENT_DONE = "done";
+    public static final String EVENT_ERROR = "error";
+
+    @JsonProperty("text")
+    private String text;
+
+}
@@ -0,0 +1,12 @@
+package com.rally.ai_valley.common.ai.embedding;
+
+// 게시글 / 댓글 / 생성 대상 텍스트를 고정 길이 벡터로 변환 (유사 이력 검색용)
+// 구현은 항상 L2 정규화된 벡터를 반환해야 함 (내적 = 코사인 유사도)
+// 다른 로컬 모델을 쓰려면 EmbeddingProvider 빈을 등록하면 기본 구현(HashingEmbeddingProvider)을 대체
+public interface EmbeddingProvider {
+
+    int dimension();
+
+    float[] embed(String text);
+
+}
@@ -0,0 +1,87 @@
+package com.rally.ai_valley.common.ai.embedding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 외부 모델 없이 동작하는 결정적 임베딩 (feature hashing)
+// 단어와 단어 안의 글자 2-gram 을 해시해 차원에 더함 (조사가 붙은 한국어 단어도 일부 겹치도록)
+// 같은 입력은 항상 같은 벡터가 되므로 테스트 / 벤치마크에서도 그대로 사용
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    private final int dimension;
+
+
+    public HashingEmbeddingProvider(int dimension) {
+        if (dimension < 1) {
+            throw new IllegalArgumentException("임베딩 차원은 1 이상이어야 합니다.");
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        if (text == null) {
+            return vector;
+        }
+
+        for (String token : TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() < 2) {
+                continue;
+            }
+            add(vector, token, WORD_WEIGHT);
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                add(vector, "#" + token.substring(i, i + 2), BIGRAM_WEIGHT);
+            }
+        }
+
+        normalize(vector);
+        return vector;
+    }
+
+    // 해시 상위 비트로 부호를 정해 충돌한 특징끼리 서로 상쇄되도록 함
+    private void add(float[] vector, String feature, float weight) {
+        int hash = murmurMix(feature);
+        int index = Math.floorMod(hash, dimension);
+        vector[index] += hash < 0 ? -weight : weight;
+    }
+
+    private int murmurMix(String feature) {
+        int hash = 0x9747b28c;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x5bd1e995;
+            hash ^= hash >>> 15;
+        }
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.rally.ai_valley.common.ai.resilience;
+
+import com.rally.ai_valley.common.config.AiClientProperties;
+import com.rally.ai_valley.common.exception.AiServerException;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// AI 서버 호출 보호: 전체 상한 -> 재시도(예산 내) -> 서킷 브레이커 -> 벌크헤드 -> 호출
+// 서킷이 열렸거나 동시 호출 한도를 넘으면 대기 없이 503으로 즉시 실패
+@Component
+@Slf4j
+public class AiResilience {
+
+    public static final String INSTANCE_NAME = "ai-server";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final AiClientProperties.Retry retryProperties;
+    private final MeterRegistry meterRegistry;
+
+
+    public AiResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                        BulkheadRegistry bulkheadRegistry,
+                        AiClientProperties aiClientProperties,
+                        MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.retryProperties = aiClientProperties.getRetry();
+        this.retryBudget = new RetryBudget(retryProperties.getBudgetRatio(), retryProperties.getBudgetMaxTokens());
+        this.meterRegistry = meterRegistry;
+
+        // 상태 전이 기록 (현재 상태 자체는 resilience4j.circuitbreaker.state 로 노출)
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("AI 서버 서킷 브레이커 상태 변경 - {} -> {}",
+                    event.getStateTransition().getFromState(), event.getStateTransition().getToState());
+            Counter.builder("ai.circuitbreaker.transition")
+                    .description("AI 서버 서킷 브레이커 상태 전이 횟수")
+                    .tag("from", event.getStateTransition().getFromState().name())
+                    .tag("to", event.getStateTransition().getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+        Gauge.builder("ai.retry.budget.tokens", retryBudget, RetryBudget::getAvailableTokens)
+                .description("AI 서버 재시도 예산 잔여 토큰")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return Mono.defer(() -> {
+                    retryBudget.recordRequest();
+                    return call
+                            .transformDeferred(BulkheadOperator.of(bulkhead))
+                            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                            .retryWhen(retrySpec());
+                })
+                .onErrorMap(this::isRejected, this::toUnavailable);
+    }
+
+    // 재시도를 포함한 전체 상한: 넘으면 진행 중인 시도와 대기 중인 재시도를 취소하고 504
+    public <T> Mono<T> decorate(Mono<T> call, Duration deadline) {
+        return decorate(call)
+                .timeout(deadline, Mono.defer(() -> {
+                    log.warn("AI 서버 호출 전체 시간 초과 - Deadline: {}ms", deadline.toMillis());
+                    return Mono.error(new CustomException(ErrorCode.AI_SERVER_TIMEOUT));
+                }));
+    }
+
+    // 스트리밍은 이미 전달한 이벤트가 있어 재시도하지 않음
+    public <T> Flux<T> decorateStream(Flux<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(this::isRejected, this::toUnavailable);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private Retry retrySpec() {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (!isRetryable(failure) || signal.totalRetries() >= retryProperties.getMaxAttempts()) {
+                return Mono.error(failure);
+            }
+            if (!retryBudget.tryAcquireRetry()) {
+                countRetry("budget_exhausted");
+                return Mono.error(failure);
+            }
+
+            Duration backoff = backoff(signal.totalRetries());
+            log.warn("AI 서버 호출 재시도 - Attempt: {}, Backoff: {}ms, Reason: {}",
+                    signal.totalRetries() + 1, backoff.toMillis(), failure.getMessage());
+            countRetry("retried");
+            return Mono.delay(backoff);
+        }));
+    }
+
+    // 지수 백오프 + 지터 (동시에 실패한 요청들이 같은 시점에 몰리지 않도록)
+    private Duration backoff(long retryIndex) {
+        long baseMillis = Math.min(retryProperties.getMaxBackoff().toMillis(),
+                retryProperties.getMinBackoff().toMillis() << Math.min(retryIndex, 20));
+        double factor = 1 - retryProperties.getJitter() * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) (baseMillis * factor));
+    }
+
+    // 연결 실패와 5xx 만 재시도 (타임아웃은 이미 충분히 기다렸으므로 제외)
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        return error instanceof AiServerException aiServerException
+                && aiServerException.getStatusCode().is5xxServerError();
+    }
+
+    private boolean isRejected(Throwable error) {
+        return error instanceof CallNotPermittedException || error instanceof BulkheadFullException;
+    }
+
+    private Throwable toUnavailable(Throwable error) {
+        log.warn("AI 서버 호출 차단 - Reason: {}", error.getMessage());
+        return new CustomException(ErrorCode.AI_SERVER_UNAVAILABLE);
+    }
+
+    private void countRetry(String outcome) {
+        Counter.builder("ai.retry")
+                .description("AI 서버 호출 재시도 횟수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.rally.ai_valley.common.ai.resilience;
+
+// 재시도 예산: 요청마다 ratio 만큼 적립하고 재시도마다 1씩 차감
+// 장애 상황에서 재시도가 전체 요청의 ratio 비율을 넘지 않도록 제한 (재시도 폭주 방지)
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+
+    public RetryBudget(double ratio, double maxTokens) {
+        if (ratio < 0 || maxTokens < 1) {
+            throw new IllegalArgumentException("재시도 예산 설정이 올바르지 않습니다.");
+        }
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getAvailableTokens() {
+        return tokens;
+    }
+
+}
@@ -1,5 +1,16 @@
 package com.rally.ai_valley.common.ai.service;
 
+import com.rally.ai_valley.common.ai.cache.AiRequestCoalescer;
+import com.rally.ai_valley.common.ai.dto.AiStreamChunk;
+import com.rally.ai_valley.common.ai.resilience.AiResilience;
+import com.rally.ai_valley.common.config.AiClientProperties;
+import com.rally.ai_valley.common.exception.AiServerException;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.domain.clone.dto.AiMemorySummaryRequest;
+import com.rally.ai_valley.domain.clone.dto.AiMemorySummaryResponse;
+import com.rally.ai_valley.domain.post.dto.AiPostBatchCreateRequest;
+import com.rally.ai_valley.domain.post.dto.AiPostBatchCreateResponse;
 import com.rally.ai_valley.domain.post.dto.AiPostCreateRequest;
 import com.rally.ai_valley.domain.post.dto.AiPostCreateResponse;
 import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
@@ -8,41 +19,54 @@ import com.rally.ai_valley.domain.reply.dto.AiReplyCreateResponse;
 import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+// 요청 스레드를 점유하지 않도록 block() 없이 Mono 그대로 반환
+// 모든 호출은 AiResilience(재시도 / 서킷 브레이커 / 벌크헤드)를 거침, 요청에 묶인 호출은 재시도 포함 전체 상한(request-deadline) 적용
+// 스트리밍을 제외한 동일 요청은 AiRequestCoalescer로 한 번만 호출
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiService {
 
+    private static final ParameterizedTypeReference<ServerSentEvent<AiStreamChunk>> STREAM_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final AiClientProperties aiClientProperties;
+    private final AiResilience aiResilience;
+    private final AiRequestCoalescer aiRequestCoalescer;
 
 
-    public AiPostCreateResponse AiCreatePost(Long cloneId,
-                                             String cloneDescription,
-                                             List<PostInfoResponseForAi> postHistory,
-                                             List<ReplyInfoResponseForAi> replyHistory,
-                                             String boardDescription) {
-        try {
-            // 요청 데이터 생성
-            AiPostCreateRequest request = new AiPostCreateRequest();
-            request.setCloneId(cloneId);
-            request.setCloneDescription(cloneDescription);
-            request.setPostHistory(postHistory);
-            request.setReplyHistory(replyHistory);
-            request.setBoardDescription(boardDescription);
+    public Mono<AiPostCreateResponse> AiCreatePost(Long cloneId,
+                                                   String cloneDescription,
+                                                   List<PostInfoResponseForAi> postHistory,
+                                                   List<ReplyInfoResponseForAi> replyHistory,
+                                                   String memorySummary,
+                                                   String boardDescription) {
+        // 요청 데이터 생성
+        AiPostCreateRequest request = toAiPostCreateRequest(cloneId, cloneDescription, postHistory, replyHistory, memorySummary, boardDescription);
 
-            log.info("AI 서버 요청 시작 - CloneId: {}, PostDescribe: {}", cloneId, boardDescription);
+        log.info("AI 서버 요청 시작 - CloneId: {}, PostDescribe: {}", cloneId, boardDescription);
 
-            return webClient
+        return aiRequestCoalescer.coalesce("/post", request, () -> webClient
                     .post()
                     .uri("/post")
+                    .httpRequest(responseTimeout(aiClientProperties.getTimeout().getPost()))
                     .bodyValue(request)
                     .retrieve()
                     .onStatus(HttpStatusCode::isError, response -> {
@@ -50,48 +74,38 @@ public class AiService {
                         return response.bodyToMono(String.class)
                                 .flatMap(errorBody -> {
                                     log.error("AI 서버 오류 내용: {}", errorBody);
-                                    return Mono.error(new RuntimeException(
-                                            "AI 서버 오류: " + response.statusCode() + " - " + errorBody));
+                                    return Mono.error(new AiServerException(response.statusCode(), errorBody));
                                 });
                     })
                     .bodyToMono(AiPostCreateResponse.class)
-                    .timeout(Duration.ofSeconds(30))
+                    .timeout(aiClientProperties.getTimeout().getPost())
+                    .transform(call -> aiResilience.decorate(call, aiClientProperties.getTimeout().getRequestDeadline()))
                     .doOnSuccess(response -> log.info("AI 서버 응답 성공 - Title: {} \n Contnet: {}",
                             response != null ? response.getTitle() : "null",
-                            response.getContent() != null ? response.getContent() : "null"))
+                            response != null && response.getContent() != null ? response.getContent() : "null"))
                     .doOnError(error -> log.error("AI 서버 호출 실패: {}", error.getMessage()))
-                    .block(); // 동기 처리
-
-        } catch (Exception e) {
-            log.error("AI 서버 호출 중 예외 발생", e);
-            throw new RuntimeException("AI 서버 호출 중 오류 발생: " + e.getMessage(), e);
-        }
+                    .onErrorMap(error -> !(error instanceof CustomException), error -> new RuntimeException("AI 서버 호출 중 오류 발생: " + error.getMessage(), error)));
     }
 
-    public AiReplyCreateResponse AiCreateReply(Long cloneId,
-                                               String cloneDescription,
-                                               List<PostInfoResponseForAi> postHistory,
-                                               List<ReplyInfoResponseForAi> replyHistory,
-                                               String boardDescription,
-                                               String postTitle,
-                                               String postContent) {
-        try {
-            // 댓글 생성을 위한 요청 데이터 생성
-            AiReplyCreateRequest request = new AiReplyCreateRequest();
-            request.setCloneId(cloneId);
-            request.setCloneDescription(cloneDescription);
-            request.setPostHistory(postHistory);
-            request.setReplyHistory(replyHistory);
-            request.setBoardDescription(boardDescription);
-            request.setPostTitle(postTitle);
-            request.setPostContent(postContent);
-
-            log.info("AI 서버 댓글 생성 요청 시작 - CloneId: {}, PostTitle: {}", cloneId, postTitle);
-
-            // WebClient를 사용하여 AI 서버에 POST 요청
-            return webClient
+    public Mono<AiReplyCreateResponse> AiCreateReply(Long cloneId,
+                                                     String cloneDescription,
+                                                     List<PostInfoResponseForAi> postHistory,
+                                                     List<ReplyInfoResponseForAi> replyHistory,
+                                                     String memorySummary,
+                                                     String boardDescription,
+                                                     String postTitle,
+                                                     String postContent) {
+        // 댓글 생성을 위한 요청 데이터 생성
+        AiReplyCreateRequest request = toAiReplyCreateRequest(cloneId, cloneDescription, postHistory, replyHistory,
+                memorySummary, boardDescription, postTitle, postContent);
+
+        log.info("AI 서버 댓글 생성 요청 시작 - CloneId: {}, PostTitle: {}", cloneId, postTitle);
+
+        // WebClient를 사용하여 AI 서버에 POST 요청
+        return aiRequestCoalescer.coalesce("/reply", request, () -> webClient
                     .post()
                     .uri("/reply") // 댓글 생성 엔드포인트로 가정
+                    .httpRequest(responseTimeout(aiClientProperties.getTimeout().getReply()))
                     .bodyValue(request)
                     .retrieve()
                     .onStatus(HttpStatusCode::isError, response -> {
@@ -99,21 +113,195 @@ public class AiService {
                         return response.bodyToMono(String.class)
                                 .flatMap(errorBody -> {
                                     log.error("AI 서버 오류 내용: {}", errorBody);
-                                    return Mono.error(new RuntimeException(
-                                            "AI 서버 오류: " + response.statusCode() + " - " + errorBody));
+                                    return Mono.error(new AiServerException(response.statusCode(), errorBody));
                                 });
                     })
                     .bodyToMono(AiReplyCreateResponse.class)
-                    .timeout(Duration.ofSeconds(30))
+                    .timeout(aiClientProperties.getTimeout().getReply())
+                    .transform(call -> aiResilience.decorate(call, aiClientProperties.getTimeout().getRequestDeadline()))
                     .doOnSuccess(response -> log.info("AI 서버 댓글 생성 응답 성공 - Content: {}",
                             response != null ? response.getContent() : "null"))
                     .doOnError(error -> log.error("AI 서버 댓글 생성 호출 실패: {}", error.getMessage()))
-                    .block(); // 동기 처리
+                    .onErrorMap(error -> !(error instanceof CustomException), error -> new RuntimeException("AI 서버 댓글 생성 호출 중 오류 발생: " + error.getMessage(), error)));
+    }
+
+    // 여러 클론의 게시글을 한 번의 왕복으로 생성 (AI 서버 내부에서 병렬 처리)
+    public Mono<AiPostBatchCreateResponse> AiCreatePostBatch(AiPostBatchCreateRequest request) {
+        log.info("AI 서버 배치 요청 시작 - CloneCount: {}, PostDescribe: {}",
+                request.getClones().size(), request.getBoardDescription());
+
+        return aiRequestCoalescer.coalesce("/post/batch", request, () -> webClient
+                    .post()
+                    .uri("/post/batch")
+                    .httpRequest(responseTimeout(aiClientProperties.getTimeout().getPostBatch()))
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> {
+                        log.error("AI 서버 오류 응답 - Status: {}", response.statusCode());
+                        return response.bodyToMono(String.class)
+                                .flatMap(errorBody -> {
+                                    log.error("AI 서버 오류 내용: {}", errorBody);
+                                    return Mono.error(new AiServerException(response.statusCode(), errorBody));
+                                });
+                    })
+                    .bodyToMono(AiPostBatchCreateResponse.class)
+                    .timeout(aiClientProperties.getTimeout().getPostBatch())
+                    .transform(call -> aiResilience.decorate(call, aiClientProperties.getTimeout().getRequestDeadline()))
+                    .doOnSuccess(response -> log.info("AI 서버 배치 응답 성공 - PostCount: {}",
+                            response != null && response.getPosts() != null ? response.getPosts().size() : 0))
+                    .doOnError(error -> log.error("AI 서버 배치 호출 실패: {}", error.getMessage()))
+                    .onErrorMap(error -> !(error instanceof CustomException), error -> new RuntimeException("AI 서버 배치 호출 중 오류 발생: " + error.getMessage(), error)));
+    }
+
+    // 클론 활동 요약: 이전 요약 + 새 게시글 / 댓글을 하나의 요약으로 합침 (CloneMemoryFolder 에서 주기적으로 호출)
+    public Mono<AiMemorySummaryResponse> AiSummarizeMemory(AiMemorySummaryRequest request) {
+        log.info("AI 서버 요약 요청 시작 - CloneId: {}, PostCount: {}, ReplyCount: {}",
+                request.getCloneId(), request.getPostHistory().size(), request.getReplyHistory().size());
+
+        return aiRequestCoalescer.coalesce("/memory/summarize", request, () -> webClient
+                    .post()
+                    .uri("/memory/summarize")
+                    .httpRequest(responseTimeout(aiClientProperties.getTimeout().getMemory()))
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> {
+                        log.error("AI 서버 오류 응답 - Status: {}", response.statusCode());
+                        return response.bodyToMono(String.class)
+                                .flatMap(errorBody -> {
+                                    log.error("AI 서버 오류 내용: {}", errorBody);
+                                    return Mono.error(new AiServerException(response.statusCode(), errorBody));
+                                });
+                    })
+                    .bodyToMono(AiMemorySummaryResponse.class)
+                    .timeout(aiClientProperties.getTimeout().getMemory())
+                    .transform(aiResilience::decorate)
+                    .doOnSuccess(response -> log.info("AI 서버 요약 응답 성공 - CloneId: {}, Length: {}", request.getCloneId(),
+                            response != null && response.getSummary() != null ? response.getSummary().length() : 0))
+                    .doOnError(error -> log.error("AI 서버 요약 호출 실패: {}", error.getMessage()))
+                    .onErrorMap(error -> !(error instanceof CustomException), error -> new RuntimeException("AI 서버 요약 호출 중 오류 발생: " + error.getMessage(), error)));
+    }
+
+    // 게시글 스트리밍 생성: title -> delta... 순서로 이벤트 전달 (done 이벤트에서 스트림 종료)
+    public Flux<ServerSentEvent<AiStreamChunk>> AiStreamPost(Long cloneId,
+                                                             String cloneDescription,
+                                                             List<PostInfoResponseForAi> postHistory,
+                                                             List<ReplyInfoResponseForAi> replyHistory,
+                                                             String memorySummary,
+                                                             String boardDescription) {
+        AiPostCreateRequest request = toAiPostCreateRequest(cloneId, cloneDescription, postHistory, replyHistory, memorySummary, boardDescription);
+
+        log.info("AI 서버 스트리밍 요청 시작 - CloneId: {}, PostDescribe: {}", cloneId, boardDescription);
+
+        return stream("/post/stream", request);
+    }
+
+    public Flux<ServerSentEvent<AiStreamChunk>> AiStreamReply(Long cloneId,
+                                                              String cloneDescription,
+                                                              List<PostInfoResponseForAi> postHistory,
+                                                              List<ReplyInfoResponseForAi> replyHistory,
+                                                              String memorySummary,
+                                                              String boardDescription,
+                                                              String postTitle,
+                                                              String postContent) {
+        AiReplyCreateRequest request = toAiReplyCreateRequest(cloneId, cloneDescription, postHistory, replyHistory,
+                memorySummary, boardDescription, postTitle, postContent);
+
+        log.info("AI 서버 댓글 스트리밍 요청 시작 - CloneId: {}, PostTitle: {}", cloneId, postTitle);
+
+        return stream("/reply/stream", request);
+    }
+
+    // 전체 응답이 아닌 이벤트 단위로 받으므로 timeout은 이벤트 간 최대 대기 시간
+    // done 이벤트 전에 연결이 정상 종료되면 잘린 글이 저장되지 않도록 오류로 처리
+    private Flux<ServerSentEvent<AiStreamChunk>> stream(String uri, Object request) {
+        return Flux.defer(() -> streamUntilDone(uri, request))
+                .transform(aiResilience::decorateStream)
+                .doOnComplete(() -> log.info("AI 서버 스트리밍 응답 완료 - URI: {}", uri))
+                .doOnError(error -> log.error("AI 서버 스트리밍 호출 실패: {}", error.getMessage()))
+                .onErrorMap(error -> !(error instanceof CustomException), error -> new RuntimeException("AI 서버 스트리밍 호출 중 오류 발생: " + error.getMessage(), error));
+    }
+
+    // 구독마다 done 수신 여부를 따로 기록
+    private Flux<ServerSentEvent<AiStreamChunk>> streamUntilDone(String uri, Object request) {
+        AtomicBoolean doneReceived = new AtomicBoolean();
+
+        return webClient
+                .post()
+                .uri(uri)
+                .httpRequest(responseTimeout(aiClientProperties.getTimeout().getStreamIdle()))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response -> {
+                    log.error("AI 서버 오류 응답 - Status: {}", response.statusCode());
+                    return response.bodyToMono(String.class)
+                            .flatMap(errorBody -> {
+                                log.error("AI 서버 오류 내용: {}", errorBody);
+                                return Mono.error(new AiServerException(response.statusCode(), errorBody));
+                            });
+                })
+                .bodyToFlux(STREAM_EVENT_TYPE)
+                .timeout(aiClientProperties.getTimeout().getStreamIdle())
+                .<ServerSentEvent<AiStreamChunk>>handle((event, sink) -> {
+                    if (AiStreamChunk.EVENT_ERROR.equals(event.event())) {
+                        sink.error(new RuntimeException("AI 서버 스트리밍 오류: "
+                                + (event.data() != null ? event.data().getText() : "null")));
+                        return;
+                    }
+                    if (AiStreamChunk.EVENT_DONE.equals(event.event())) {
+                        doneReceived.set(true);
+                        sink.complete();
+                        return;
+                    }
+                    sink.next(event);
+                })
+                .concatWith(Mono.defer(() -> doneReceived.get()
+                        ? Mono.empty()
+                        : Mono.error(new CustomException(ErrorCode.AI_SERVER_ERROR))));
+    }
+
+    // 커넥션 단위가 아닌 요청 단위로 응답 대기 시간 지정 (엔드포인트별 설정)
+    private Consumer<ClientHttpRequest> responseTimeout(Duration timeout) {
+        return request -> {
+            HttpClientRequest httpClientRequest = request.getNativeRequest();
+            httpClientRequest.responseTimeout(timeout);
+        };
+    }
+
+    private AiPostCreateRequest toAiPostCreateRequest(Long cloneId,
+                                                      String cloneDescription,
+                                                      List<PostInfoResponseForAi> postHistory,
+                                                      List<ReplyInfoResponseForAi> replyHistory,
+                                                      String memorySummary,
+                                                      String boardDescription) {
+        AiPostCreateRequest request = new AiPostCreateRequest();
+        request.setCloneId(cloneId);
+        request.setCloneDescription(cloneDescription);
+        request.setPostHistory(postHistory);
+        request.setReplyHistory(replyHistory);
+        request.setMemorySummary(memorySummary);
+        request.setBoardDescription(boardDescription);
+        return request;
+    }
 
-        } catch (Exception e) {
-            log.error("AI 서버 댓글 생성 호출 중 예외 발생", e);
-            throw new RuntimeException("AI 서버 댓글 생성 호출 중 오류 발생: " + e.getMessage(), e);
-        }
+    private AiReplyCreateRequest toAiReplyCreateRequest(Long cloneId,
+                                                        String cloneDescription,
+                                                        List<PostInfoResponseForAi> postHistory,
+                                                        List<ReplyInfoResponseForAi> replyHistory,
+                                                        String memorySummary,
+                                                        String boardDescription,
+                                                        String postTitle,
+                                                        String postContent) {
+        AiReplyCreateRequest request = new AiReplyCreateRequest();
+        request.setCloneId(cloneId);
+        request.setCloneDescription(cloneDescription);
+        request.setPostHistory(postHistory);
+        request.setReplyHistory(replyHistory);
+        request.setMemorySummary(memorySummary);
+        request.setBoardDescription(boardDescription);
+        request.setPostTitle(postTitle);
+        request.setPostContent(postContent);
+        return request;
     }
 
 }
@@ -0,0 +1,216 @@
+package com.rally.ai_valley.common.ai.vector;
+
+import com.rally.ai_valley.common.ai.embedding.EmbeddingProvider;
+import com.rally.ai_valley.common.config.VectorIndexProperties;
+import com.rally.ai_valley.domain.post.dto.PostInfoForAiByClone;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoForAiByClone;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 클론 게시글 / 댓글 임베딩 인덱스: 생성 대상과 의미가 가까운 과거 이력을 클론 단위로 검색
+// - 인덱스는 메모리(벡터는 힙 밖)에만 두고 기동 시 DB 에서 다시 적재, 이후 작성분은 커밋 직후 추가
+// - 키: (ID << 1) | 종류(0 게시글, 1 댓글), 그룹: 클론 ID
+// - 적재 중에도 검색은 가능 (아직 적재되지 않은 이력만 빠짐)
+@Component
+@Slf4j
+public class HistoryVectorIndex {
+
+    private static final long SEED = 42L;
+
+    private final EmbeddingProvider embeddingProvider;
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final VectorIndexProperties properties;
+    private final HnswIndex index;
+    private final Timer searchTimer;
+
+
+    public HistoryVectorIndex(EmbeddingProvider embeddingProvider,
+                              PostRepository postRepository,
+                              ReplyRepository replyRepository,
+                              TransactionTemplate readOnlyTransactionTemplate,
+                              VectorIndexProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.embeddingProvider = embeddingProvider;
+        this.postRepository = postRepository;
+        this.replyRepository = replyRepository;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.properties = properties;
+        this.index = new HnswIndex(embeddingProvider.dimension(),
+                properties.getMaxConnections(),
+                properties.getEfConstruction(),
+                properties.getExactSearchThreshold(),
+                SEED);
+        this.searchTimer = Timer.builder("ai.vector.search")
+                .description("클론 이력 유사도 검색 시간")
+                .register(meterRegistry);
+        Gauge.builder("ai.vector.size", index, HnswIndex::size)
+                .description("임베딩 인덱스 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.vector.off.heap.bytes", index, HnswIndex::offHeapBytes)
+                .description("임베딩 인덱스 벡터 저장 크기 (힙 밖)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // 기동 시 ID 순서 키셋 조회로 전체 적재 (요청 처리와 별도 스레드)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long posts = buildPosts();
+            long replies = buildReplies();
+            log.info("임베딩 인덱스 적재 완료 - Posts: {}, Replies: {}, Elapsed: {}ms",
+                    posts, replies, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 인덱스 없이도 최근 이력으로 생성은 계속 가능
+            log.warn("임베딩 인덱스 적재 실패 - Reason: {}", e.getMessage());
+        }
+    }
+
+    // 게시글 / 댓글 저장 트랜잭션이 커밋된 뒤 추가 (롤백된 글이 검색되지 않도록)
+    public void addPostAfterCommit(Long postId, Long cloneId, String title, String content) {
+        addAfterCommit(key(postId, false), cloneId, title, content);
+    }
+
+    public void addReplyAfterCommit(Long replyId, Long cloneId, String postTitle, String content) {
+        addAfterCommit(key(replyId, true), cloneId, postTitle, content);
+    }
+
+    // 클론 이력 중 query(EmbeddingProvider 로 만든 벡터)와 가장 유사한 similarSize 개 (유사도 내림차순)
+    public SimilarHistory findSimilar(Long cloneId, float[] query) {
+        if (!properties.isEnabled() || properties.getSimilarSize() < 1) {
+            return SimilarHistory.EMPTY;
+        }
+
+        List<HnswIndex.Match> matches = searchTimer.record(() ->
+                index.search(query, properties.getSimilarSize(), properties.getEfSearch(), cloneId));
+
+        List<Long> postIds = new ArrayList<>();
+        List<Long> replyIds = new ArrayList<>();
+        for (HnswIndex.Match match : matches) {
+            if (isReply(match.key())) {
+                replyIds.add(id(match.key()));
+            } else {
+                postIds.add(id(match.key()));
+            }
+        }
+        return new SimilarHistory(postIds, replyIds);
+    }
+
+    private long buildPosts() {
+        long count = 0;
+        long afterPostId = 0;
+        while (true) {
+            long after = afterPostId;
+            List<PostInfoForAiByClone> page = readOnlyTransactionTemplate.execute(status -> postRepository.findPostsForIndexAfterId(
+                    after, properties.getBuildBatchSize(), properties.getMaxTextChars()));
+            if (page == null || page.isEmpty()) {
+                return count;
+            }
+
+            for (PostInfoForAiByClone post : page) {
+                add(key(post.getPostId(), false), post.getCloneId(), post.getPostTitle(), post.getPostContent());
+                afterPostId = post.getPostId();
+            }
+            count += page.size();
+            if (page.size() < properties.getBuildBatchSize()) {
+                return count;
+            }
+        }
+    }
+
+    private long buildReplies() {
+        long count = 0;
+        long afterReplyId = 0;
+        while (true) {
+            long after = afterReplyId;
+            List<ReplyInfoForAiByClone> page = readOnlyTransactionTemplate.execute(status -> replyRepository.findRepliesForIndexAfterId(
+                    after, properties.getBuildBatchSize(), properties.getMaxTextChars()));
+            if (page == null || page.isEmpty()) {
+                return count;
+            }
+
+            for (ReplyInfoForAiByClone reply : page) {
+                add(key(reply.getReplyId(), true), reply.getCloneId(), reply.getPostTitle(), reply.getContent());
+                afterReplyId = reply.getReplyId();
+            }
+            count += page.size();
+            if (page.size() < properties.getBuildBatchSize()) {
+                return count;
+            }
+        }
+    }
+
+    private void addAfterCommit(long key, Long cloneId, String title, String content) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(key, cloneId, title, content);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(key, cloneId, title, content);
+            }
+        });
+    }
+
+    private void add(long key, Long cloneId, String title, String content) {
+        String text = (title != null ? title : "") + " " + (content != null ? content : "");
+        if (text.length() > properties.getMaxTextChars()) {
+            text = text.substring(0, properties.getMaxTextChars());
+        }
+        index.add(key, cloneId, embeddingProvider.embed(text));
+    }
+
+    private static long key(long id, boolean reply) {
+        return (id << 1) | (reply ? 1 : 0);
+    }
+
+    private static boolean isReply(long key) {
+        return (key & 1) == 1;
+    }
+
+    private static long id(long key) {
+        return key >>> 1;
+    }
+
+    public record SimilarHistory(List<Long> postIds, List<Long> replyIds) {
+
+        public static final SimilarHistory EMPTY = new SimilarHistory(List.of(), List.of());
+
+        public boolean isEmpty() {
+            return postIds.isEmpty() && replyIds.isEmpty();
+        }
+
+    }
+
+}
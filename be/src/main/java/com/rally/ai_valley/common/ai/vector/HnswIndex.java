@@ -0,0 +1,417 @@
+package com.rally.ai_valley.common.ai.vector;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스 (유사도 = 정규화 벡터의 내적)
+// - 벡터는 OffHeapVectorStore(힙 밖), 그래프 / 키는 힙의 배열로 유지
+// - 항목마다 그룹(예: 클론 ID)을 두고 그룹 안에서만 검색 가능
+//   그룹 크기가 exactSearchThreshold 이하이면 그래프 대신 그룹 전체를 정확히 비교 (작은 그룹은 이쪽이 빠르고 정확)
+// - 추가는 쓰기 락, 검색은 읽기 락 (검색끼리는 동시에 실행)
+public class HnswIndex {
+
+    private static final int VECTORS_PER_CHUNK = 16_384;
+
+    private final int dimension;
+    private final int maxConnections;
+    private final int maxConnectionsLevel0;
+    private final int efConstruction;
+    private final int exactSearchThreshold;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final OffHeapVectorStore vectors;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<VisitedSet> visitedSets = ThreadLocal.withInitial(VisitedSet::new);
+
+    private final Map<Long, Integer> ordinalsByKey = new HashMap<>();
+    private final Map<Long, IntList> ordinalsByGroup = new HashMap<>();
+    private final List<int[][]> graph = new ArrayList<>(); // [ordinal][level] = {count, neighbor...}
+    private long[] keys = new long[1024];
+    private long[] groups = new long[1024];
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+
+    public HnswIndex(int dimension, int maxConnections, int efConstruction, int exactSearchThreshold, long seed) {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException("이웃 수(M)는 2 이상이어야 합니다.");
+        }
+        this.dimension = dimension;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsLevel0 = maxConnections * 2;
+        this.efConstruction = Math.max(efConstruction, maxConnections);
+        this.exactSearchThreshold = exactSearchThreshold;
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.random = new Random(seed);
+        this.vectors = new OffHeapVectorStore(dimension, VECTORS_PER_CHUNK);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return vectors.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return vectors.offHeapBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이미 있는 키는 무시 (게시글 / 댓글 본문은 생성 후 바뀌지 않음)
+    public boolean add(long key, long group, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            if (ordinalsByKey.containsKey(key)) {
+                return false;
+            }
+            insert(key, group, vector);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long key) {
+        lock.readLock().lock();
+        try {
+            return ordinalsByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 저장된 벡터와 query 의 유사도 (키가 없으면 NaN)
+    public float similarity(long key, float[] query) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalsByKey.get(key);
+            return ordinal != null ? vectors.dot(ordinal, query) : Float.NaN;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체에서 유사도 상위 k 개 (유사도 내림차순)
+    public List<Match> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k < 1) {
+                return List.of();
+            }
+            return toMatches(searchGraph(query, Math.max(ef, k), -1, false), k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 그룹 안에서 유사도 상위 k 개 (유사도 내림차순)
+    public List<Match> search(float[] query, int k, int ef, long group) {
+        lock.readLock().lock();
+        try {
+            IntList members = ordinalsByGroup.get(group);
+            if (members == null || k < 1) {
+                return List.of();
+            }
+            if (members.size() <= exactSearchThreshold) {
+                return exactSearch(query, k, members);
+            }
+
+            // 그래프 탐색 중 그룹에 속한 노드만 결과에 담음, 부족하면 정확 검색으로 보완
+            List<Match> matches = toMatches(searchGraph(query, Math.max(ef, k), group, true), k);
+            return matches.size() >= Math.min(k, members.size()) ? matches : exactSearch(query, k, members);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(long key, long group, float[] vector) {
+        int level = randomLevel();
+        int ordinal = vectors.add(vector);
+        ensureCapacity(ordinal + 1);
+        keys[ordinal] = key;
+        groups[ordinal] = group;
+        ordinalsByKey.put(key, ordinal);
+        ordinalsByGroup.computeIfAbsent(group, id -> new IntList()).add(ordinal);
+
+        int[][] layers = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            layers[l] = new int[maxConnections(l) + 1];
+        }
+        graph.add(layers);
+
+        if (entryPoint < 0) {
+            entryPoint = ordinal;
+            maxLevel = level;
+            return;
+        }
+
+        // 상위 층은 가장 가까운 노드 하나만 따라 내려감
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, l, -1, false);
+            List<Candidate> neighbors = selectNeighbors(candidates, maxConnections(l));
+            for (Candidate neighbor : neighbors) {
+                append(layers[l], neighbor.ordinal());
+                connect(neighbor.ordinal(), ordinal, l);
+            }
+            current = candidates.get(0).ordinal();
+        }
+
+        if (level > maxLevel) {
+            entryPoint = ordinal;
+            maxLevel = level;
+        }
+    }
+
+    private List<Candidate> searchGraph(float[] query, int ef, long group, boolean filtered) {
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+        return searchLayer(query, current, ef, 0, group, filtered);
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float currentSimilarity = vectors.dot(current, query);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] neighbors = graph.get(current)[level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float similarity = vectors.dot(neighbors[i], query);
+                if (similarity > currentSimilarity) {
+                    current = neighbors[i];
+                    currentSimilarity = similarity;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 유사도 내림차순 후보 목록 (filtered 이면 그룹에 속한 노드만 결과에 포함)
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level, long group, boolean filtered) {
+        // 검색마다 전체 크기의 방문 표시를 새로 만들지 않도록 스레드별로 재사용
+        VisitedSet visited = visitedSets.get();
+        visited.reset(vectors.size());
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+
+        Candidate first = new Candidate(start, vectors.dot(start, query));
+        visited.add(start);
+        toVisit.add(first);
+        if (!filtered || groups[start] == group) {
+            results.add(first);
+        }
+
+        // 필터 검색에서 결과가 늦게 모일 때 그래프 전체를 돌지 않도록 방문 수 제한
+        int maxVisits = filtered ? ef * 32 : Integer.MAX_VALUE;
+        int visits = 1;
+        while (!toVisit.isEmpty()) {
+            Candidate candidate = toVisit.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity()) {
+                break;
+            }
+
+            int[] neighbors = graph.get(candidate.ordinal())[level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                if (++visits > maxVisits) {
+                    return sortedDescending(results);
+                }
+
+                float similarity = vectors.dot(neighbor, query);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Candidate next = new Candidate(neighbor, similarity);
+                    toVisit.add(next);
+                    if (!filtered || groups[neighbor] == group) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        return sortedDescending(results);
+    }
+
+    // 다양성 휴리스틱: 이미 고른 이웃보다 대상에 더 가까운 후보만 선택하고, 모자라면 남은 후보로 채움
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int count) {
+        List<Candidate> selected = new ArrayList<>(count);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= count) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (vectors.dot(candidate.ordinal(), chosen.ordinal()) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < count; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected;
+    }
+
+    // 이웃 목록이 가득 차면 기존 이웃 + 새 노드를 다양성 휴리스틱으로 다시 고름
+    // (단순히 가장 덜 유사한 이웃을 버리면 군집 사이를 잇는 긴 연결이 먼저 사라져 그래프가 끊김)
+    private void connect(int ordinal, int neighbor, int level) {
+        int[] neighbors = graph.get(ordinal)[level];
+        if (neighbors[0] < neighbors.length - 1) {
+            append(neighbors, neighbor);
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(neighbors[0] + 1);
+        candidates.add(new Candidate(neighbor, vectors.dot(ordinal, neighbor)));
+        for (int i = 1; i <= neighbors[0]; i++) {
+            candidates.add(new Candidate(neighbors[i], vectors.dot(ordinal, neighbors[i])));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+
+        List<Candidate> selected = selectNeighbors(candidates, neighbors.length - 1);
+        neighbors[0] = 0;
+        for (Candidate candidate : selected) {
+            append(neighbors, candidate.ordinal());
+        }
+    }
+
+    private List<Match> exactSearch(float[] query, int k, IntList members) {
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+        for (int i = 0; i < members.size(); i++) {
+            int ordinal = members.get(i);
+            float similarity = vectors.dot(ordinal, query);
+            if (results.size() < k) {
+                results.add(new Candidate(ordinal, similarity));
+            } else if (similarity > results.peek().similarity()) {
+                results.poll();
+                results.add(new Candidate(ordinal, similarity));
+            }
+        }
+        return toMatches(sortedDescending(results), k);
+    }
+
+    private List<Candidate> sortedDescending(PriorityQueue<Candidate> results) {
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+        return sorted;
+    }
+
+    private List<Match> toMatches(List<Candidate> candidates, int k) {
+        List<Match> matches = new ArrayList<>(Math.min(k, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < k; i++) {
+            Candidate candidate = candidates.get(i);
+            matches.add(new Match(keys[candidate.ordinal()], candidate.similarity()));
+        }
+        return matches;
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnectionsLevel0 : maxConnections;
+    }
+
+    private void append(int[] neighbors, int neighbor) {
+        neighbors[++neighbors[0]] = neighbor;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newLength = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            groups = Arrays.copyOf(groups, newLength);
+        }
+    }
+
+    public record Match(long key, float similarity) {
+    }
+
+    private record Candidate(int ordinal, float similarity) {
+    }
+
+    // 세대 번호로 방문 여부를 표시 (reset 은 배열을 비우지 않고 세대만 올림)
+    private static final class VisitedSet {
+
+        private int[] marks = new int[1024];
+        private int generation;
+
+        void reset(int capacity) {
+            if (capacity > marks.length) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        boolean add(int ordinal) {
+            if (marks[ordinal] == generation) {
+                return false;
+            }
+            marks[ordinal] = generation;
+            return true;
+        }
+
+    }
+
+    // 그룹별 ordinal 목록 (박싱 없이 보관)
+    private static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+    }
+
+}
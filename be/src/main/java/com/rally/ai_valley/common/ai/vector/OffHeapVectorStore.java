@@ -0,0 +1,88 @@
+package com.rally.ai_valley.common.ai.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벡터를 힙 밖(direct buffer)에 고정 크기 청크로 저장 (벡터 수가 늘어도 힙 / GC 부담이 커지지 않음)
+// 동기화는 HnswIndex 의 읽기 / 쓰기 락에 맡김
+final class OffHeapVectorStore {
+
+    private final int dimension;
+    private final int vectorsPerChunk;
+    private final List<FloatBuffer> chunks = new ArrayList<>();
+    private int size;
+
+
+    OffHeapVectorStore(int dimension, int vectorsPerChunk) {
+        this.dimension = dimension;
+        this.vectorsPerChunk = vectorsPerChunk;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long offHeapBytes() {
+        return (long) chunks.size() * vectorsPerChunk * dimension * Float.BYTES;
+    }
+
+    // 저장 위치(ordinal) 반환
+    int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " (기대값 " + dimension + ")");
+        }
+        if (size == chunks.size() * vectorsPerChunk) {
+            chunks.add(ByteBuffer.allocateDirect(vectorsPerChunk * dimension * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer());
+        }
+
+        FloatBuffer chunk = chunks.get(size / vectorsPerChunk);
+        int offset = (size % vectorsPerChunk) * dimension;
+        for (int i = 0; i < dimension; i++) {
+            chunk.put(offset + i, vector[i]);
+        }
+        return size++;
+    }
+
+    // 누산기 4개로 나눠 더함 (덧셈 의존 사슬이 짧아져 단일 누산기보다 빠름)
+    float dot(int ordinal, float[] query) {
+        FloatBuffer chunk = chunks.get(ordinal / vectorsPerChunk);
+        int offset = (ordinal % vectorsPerChunk) * dimension;
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i + 3 < dimension; i += 4) {
+            sum0 += chunk.get(offset + i) * query[i];
+            sum1 += chunk.get(offset + i + 1) * query[i + 1];
+            sum2 += chunk.get(offset + i + 2) * query[i + 2];
+            sum3 += chunk.get(offset + i + 3) * query[i + 3];
+        }
+        for (; i < dimension; i++) {
+            sum0 += chunk.get(offset + i) * query[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    float dot(int first, int second) {
+        FloatBuffer firstChunk = chunks.get(first / vectorsPerChunk);
+        FloatBuffer secondChunk = chunks.get(second / vectorsPerChunk);
+        int firstOffset = (first % vectorsPerChunk) * dimension;
+        int secondOffset = (second % vectorsPerChunk) * dimension;
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i + 3 < dimension; i += 4) {
+            sum0 += firstChunk.get(firstOffset + i) * secondChunk.get(secondOffset + i);
+            sum1 += firstChunk.get(firstOffset + i + 1) * secondChunk.get(secondOffset + i + 1);
+            sum2 += firstChunk.get(firstOffset + i + 2) * secondChunk.get(secondOffset + i + 2);
+            sum3 += firstChunk.get(firstOffset + i + 3) * secondChunk.get(secondOffset + i + 3);
+        }
+        for (; i < dimension; i++) {
+            sum0 += firstChunk.get(firstOffset + i) * secondChunk.get(secondOffset + i);
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+}
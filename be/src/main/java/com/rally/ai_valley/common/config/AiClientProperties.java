@@ -0,0 +1,122 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// AI 서버 WebClient 설정 (재빌드 없이 프로퍼티로 튜닝)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.client")
+public class AiClientProperties {
+
+    // HTTP11: 기본값, H2C: 평문 HTTP/2 (AI 서버가 지원하는 경우만)
+    private Protocol protocol = Protocol.HTTP11;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(1);
+
+    private Pool pool = new Pool();
+
+    private Timeout timeout = new Timeout();
+
+    private Retry retry = new Retry();
+
+    private Dedup dedup = new Dedup();
+
+
+    public enum Protocol {
+        HTTP11, H2C
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 커넥션 풀 이름 (메트릭 태그로 사용)
+        private String name = "ai-server";
+
+        private int maxConnections = 50;
+
+        // 커넥션을 기다리는 요청 수 상한 (초과 시 즉시 실패)
+        private int pendingAcquireMaxCount = 100;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        // H2C 사용 시 커넥션당 최대 동시 스트림 수
+        private long maxConcurrentStreams = 100;
+
+    }
+
+    // 엔드포인트별 응답 대기 시간
+    @Getter
+    @Setter
+    public static class Timeout {
+
+        private Duration post = Duration.ofSeconds(30);
+
+        private Duration reply = Duration.ofSeconds(30);
+
+        private Duration postBatch = Duration.ofSeconds(30);
+
+        private Duration memory = Duration.ofSeconds(60);
+
+        // 요청에 묶인 호출(post / reply / post-batch)의 재시도 포함 전체 상한
+        // spring.mvc.async.request-timeout 보다 짧게 두어 클라이언트가 타임아웃을 받은 뒤 저장되는 일이 없도록 함 (남는 시간은 저장 여유)
+        private Duration requestDeadline = Duration.ofSeconds(35);
+
+        // 스트리밍은 이벤트 간 최대 대기 시간
+        private Duration streamIdle = Duration.ofSeconds(30);
+
+        // 스트리밍 응답 전체 상한 (spring.mvc.async.request-timeout 대신 적용, 끊김 감지는 stream-idle 로)
+        private Duration streamTotal = Duration.ofMinutes(10);
+
+    }
+
+    // 일시적 오류(연결 실패, 5xx)에 대한 재시도
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private int maxAttempts = 2;
+
+        private Duration minBackoff = Duration.ofMillis(200);
+
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        // 0 ~ 1, 대기 시간을 (1 - jitter) ~ 1 배 사이에서 무작위로 선택
+        private double jitter = 0.5;
+
+        // 요청 1건당 적립되는 재시도 토큰 (0.1 이면 재시도는 전체 요청의 약 10%까지)
+        private double budgetRatio = 0.1;
+
+        private double budgetMaxTokens = 10;
+
+    }
+
+    // 동일 요청 중복 제거: 진행 중인 요청 공유 + 짧은 TTL 결과 캐시
+    @Getter
+    @Setter
+    public static class Dedup {
+
+        private boolean enabled = true;
+
+        private Duration ttl = Duration.ofSeconds(10);
+
+        private long maximumSize = 1000;
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// AI 요청에 포함하는 클론 활동 이력(게시글 / 댓글) 선택 기준과 크기 제한
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.context")
+public class AiContextProperties {
+
+    // 클론별로 조회해 두는 최근 이력 후보 수 (게시글 / 댓글 각각)
+    private int candidateSize = 20;
+
+    // 요청에 포함하는 최대 이력 수 (게시글 / 댓글 각각)
+    private int maxItems = 3;
+
+    // 이력 전체 글자 수 예산 (제목 + 본문)
+    private int maxChars = 4000;
+
+    // 이력 하나의 본문 최대 글자 수 (초과 시 문장 단위로 자름)
+    private int maxItemChars = 600;
+
+    // 0: 최신순만, 1: 생성 대상과의 관련도만
+    private double relevanceWeight = 0.5;
+
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    private long cacheMaximumSize = 10000;
+
+}
@@ -0,0 +1,36 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 클론 활동 요약 작업: 게시글 / 댓글이 일정 수 이상 쌓인 클론의 이력을 누적 요약에 합침
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clone.memory")
+public class CloneMemoryProperties {
+
+    // 마지막 요약 이후 게시글 + 댓글 수가 이 값 이상이면 요약 대상
+    private int foldThreshold = 10;
+
+    // 한 번의 요약에 포함하는 최대 게시글 / 댓글 수 (각각, 오래된 순 / 초과분은 다음 요약에서 이어서 처리)
+    private int maxFoldItems = 30;
+
+    // 요약에 보내는 게시글 / 댓글 본문 최대 글자 수
+    private int maxItemChars = 600;
+
+    // 요약 최대 글자 수 (AI 요청의 이력 글자 수 예산에서 차감)
+    private int maxSummaryChars = 1500;
+
+    // 작업 주기마다 처리하는 최대 클론 수
+    private int batchSize = 20;
+
+    // 동시에 진행하는 요약 요청 수
+    private int concurrency = 2;
+
+    // 작성된 지 이 시간이 지난 글만 요약 (ID 순서와 다르게 늦게 커밋된 글을 기준 ID 가 건너뛰지 않도록, 저장 트랜잭션보다 충분히 길게)
+    private Duration safetyLag = Duration.ofSeconds(60);
+
+}
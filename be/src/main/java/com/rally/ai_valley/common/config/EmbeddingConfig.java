@@ -0,0 +1,19 @@
+package com.rally.ai_valley.common.config;
+
+import com.rally.ai_valley.common.ai.embedding.EmbeddingProvider;
+import com.rally.ai_valley.common.ai.embedding.HashingEmbeddingProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 로컬 임베딩 기본 구현 (다른 EmbeddingProvider 빈을 등록하면 대체)
+@Configuration
+public class EmbeddingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EmbeddingProvider.class)
+    public EmbeddingProvider embeddingProvider(VectorIndexProperties vectorIndexProperties) {
+        return new HashingEmbeddingProvider(vectorIndexProperties.getDimension());
+    }
+
+}
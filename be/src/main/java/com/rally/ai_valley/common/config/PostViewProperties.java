@@ -0,0 +1,26 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 게시글 조회수: 조회마다 UPDATE 하지 않고 메모리에 모았다가 주기적으로 한 번에 반영
+// 비정상 종료 시 잃을 수 있는 조회수 = 최대 flushIntervalMs 동안 / 최대 maxPendingViews 개
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "post.view")
+public class PostViewProperties {
+
+    // false 면 조회수를 세지 않음 (저장된 값만 응답)
+    private boolean enabled = true;
+
+    // 모인 조회수를 DB 에 반영하는 주기
+    private long flushIntervalMs = 5000;
+
+    // 반영 전 조회수 합이 이 값 이상이면 주기를 기다리지 않고 바로 반영
+    private long maxPendingViews = 10000;
+
+    // UPDATE 한 번에 반영하는 최대 게시글 수
+    private int flushBatchSize = 500;
+
+}
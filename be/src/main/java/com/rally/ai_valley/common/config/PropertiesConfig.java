@@ -0,0 +1,19 @@
+package com.rally.ai_valley.common.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// @ConfigurationProperties 클래스 등록 (새 설정 클래스도 여기에 추가)
+@Configuration
+@EnableConfigurationProperties({
+        AiClientProperties.class,
+        AiContextProperties.class,
+        CloneMemoryProperties.class,
+        PostViewProperties.class,
+        ReadCacheProperties.class,
+        SearchProperties.class,
+        SeedDataProperties.class,
+        VectorIndexProperties.class
+})
+public class PropertiesConfig {
+}
@@ -0,0 +1,32 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 조회 모델 캐시 설정 (캐시 이름별 최대 개수 / 만료 시간)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "read-cache")
+public class ReadCacheProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private long maximumSize = 1000;
+
+        private Duration ttl = Duration.ofMinutes(1);
+
+    }
+
+}
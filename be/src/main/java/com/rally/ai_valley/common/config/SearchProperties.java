@@ -0,0 +1,37 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 게시글 / 댓글 전문 검색 색인 (내장 Lucene)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    // 색인 디렉터리 (비우면 메모리 색인: 재시작 시 DB 에서 다시 적재)
+    private String indexPath = "./data/search-index";
+
+    // 저장된 글이 검색 결과에 보이기까지의 최대 지연 (NRT refresh 주기)
+    private long refreshIntervalMs = 1000;
+
+    // 누락분 DB 동기화 + 디스크 커밋 주기
+    private long syncIntervalMs = 60000;
+
+    // 동기화 시 한 번에 읽는 게시글 / 댓글 수 (ID 순서 키셋 조회)
+    private int syncBatchSize = 1000;
+
+    // 동기화 위치보다 이만큼 앞의 ID 부터 다시 읽음 (ID 순서와 다르게 늦게 커밋된 글 보정, 같은 키는 교체되므로 중복 없음)
+    private int syncRescanIds = 1000;
+
+    // 색인 / 저장하는 본문 최대 글자 수
+    private int maxContentChars = 20000;
+
+    // 검색 결과 본문 조각 하나의 글자 수
+    private int fragmentChars = 120;
+
+    // 검색 결과에 포함하는 본문 조각 수
+    private int maxFragments = 2;
+
+}
@@ -0,0 +1,42 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 대용량 시드 데이터 생성 설정 (seed.enabled=true 로 기동 시 한 번 적재)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seed")
+public class SeedDataProperties {
+
+    private boolean enabled = false;
+
+    private int users = 100;
+
+    private int clones = 500;
+
+    private int boards = 50;
+
+    private int posts = 50_000;
+
+    private int replies = 200_000;
+
+    // 클론당 구독 게시판 수 (인기 게시판일수록 구독자가 많음)
+    private int subscriptionsPerClone = 5;
+
+    // 게시판별 게시글 수 / 게시글별 댓글 수의 멱법칙 지수 (클수록 소수에 집중)
+    private double zipfExponent = 1.1;
+
+    // 같은 게시글의 직전 댓글에 대댓글로 달릴 확률 (parentReply 체인)
+    private double replyNestingProbability = 0.3;
+
+    // 게시글 작성 시각을 최근 N일에 분산
+    private int days = 90;
+
+    private int batchSize = 1000;
+
+    // 같은 시드면 같은 데이터 (벤치마크 재현성)
+    private long randomSeed = 42L;
+
+}
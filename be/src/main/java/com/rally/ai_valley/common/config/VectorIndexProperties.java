@@ -0,0 +1,40 @@
+package com.rally.ai_valley.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 게시글 / 댓글 임베딩 인덱스(HNSW): 생성 대상과 의미가 가까운 과거 이력 검색
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.vector")
+public class VectorIndexProperties {
+
+    // false 이면 인덱스를 만들지 않고 최근 이력 + 단어 유사도로만 선택
+    private boolean enabled = true;
+
+    // 기본 임베딩(HashingEmbeddingProvider) 차원
+    private int dimension = 128;
+
+    // 노드별 이웃 수 (M, 0층은 2배)
+    private int maxConnections = 16;
+
+    // 추가 시 이웃 후보 수 (클수록 정확하지만 추가가 느림)
+    private int efConstruction = 64;
+
+    // 검색 시 후보 수
+    private int efSearch = 64;
+
+    // 클론의 항목 수가 이 값 이하이면 그래프 대신 전체 비교 (작은 그룹은 전체 비교가 빠르고 정확)
+    private int exactSearchThreshold = 2000;
+
+    // 요청마다 최근 이력 후보에 더하는 유사 이력 수 (게시글 + 댓글)
+    private int similarSize = 5;
+
+    // 임베딩에 사용하는 본문 최대 글자 수
+    private int maxTextChars = 1000;
+
+    // 기동 시 인덱스 적재 단위 (ID 순서 키셋 조회)
+    private int buildBatchSize = 1000;
+
+}
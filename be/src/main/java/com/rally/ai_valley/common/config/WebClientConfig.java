@@ -1,7 +1,6 @@
 package com.rally.ai_valley.common.config;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -10,29 +9,64 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
 
+    // 이름 있는 전용 풀 (reactor.netty.connection.provider.* 메트릭으로 노출)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(AiClientProperties aiClientProperties) {
+        AiClientProperties.Pool pool = aiClientProperties.getPool();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (aiClientProperties.getProtocol() == AiClientProperties.Protocol.H2C) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    // 응답 대기 시간은 요청마다 AiService에서 엔드포인트별로 지정
     @Bean
-    public WebClient webClient(@Value("${ai.server.url}") String aiServerUrl) {
+    public WebClient webClient(@Value("${ai.server.url}") String aiServerUrl,
+                               ConnectionProvider aiConnectionProvider,
+                               AiClientProperties aiClientProperties) {
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) aiClientProperties.getConnectTimeout().toMillis())
+                .responseTimeout(aiClientProperties.getTimeout().getPost())
+                .metrics(true, Function.identity())
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new WriteTimeoutHandler(aiClientProperties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        if (aiClientProperties.getProtocol() == AiClientProperties.Protocol.H2C) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
                 .baseUrl(aiServerUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .clientConnector(new ReactorClientHttpConnector(
-                        HttpClient.create()
-                                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                                .responseTimeout(Duration.ofSeconds(30))
-                                .doOnConnected(conn -> conn
-                                        .addHandlerLast(new ReadTimeoutHandler(30))
-                                        .addHandlerLast(new WriteTimeoutHandler(30)))
-                ))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        .maxInMemorySize(1024 * 1024)) // 1MB
+                        .maxInMemorySize((int) aiClientProperties.getMaxInMemorySize().toBytes()))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.rally.ai_valley.common.config;
 
+import com.rally.ai_valley.common.idempotency.IdempotencyService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -17,6 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins)
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Location", IdempotencyService.REPLAYED_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -5,4 +5,8 @@ public class CommonConstant {
     public static final String YES_FLAG = "Y";
     public static final String NO_FLAG = "N";
 
+    // 커서 페이지네이션 기본 / 최대 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
 }
@@ -0,0 +1,50 @@
+package com.rally.ai_valley.common.entity;
+
+import com.rally.ai_valley.common.constant.CommonConstant;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+
+    // 다음 페이지 요청 시 ?cursor= 로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+
+    // size + 1 개를 조회한 결과로 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(hasNext ? cursorExtractor.apply(items.get(items.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public static int resolveSize(Integer size) {
+        if (size == null) {
+            return CommonConstant.DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > CommonConstant.MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "size는 1 이상 " + CommonConstant.MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.rally.ai_valley.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// AI 서버가 오류 상태 코드로 응답한 경우 (재시도 여부 판단에 상태 코드 사용)
+@Getter
+public class AiServerException extends RuntimeException {
+    private final HttpStatusCode statusCode;
+
+    public AiServerException(HttpStatusCode statusCode, String errorBody) {
+        super("AI 서버 오류: " + statusCode + " - " + errorBody);
+        this.statusCode = statusCode;
+    }
+}
@@ -26,12 +26,23 @@ public enum ErrorCode {
     // 게시판 관련 오류
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "게사판을 찾을 수 없습니다."),
     ALREADY_ACTIVATED(HttpStatus.CONFLICT, "이미 구독이 활성화되어 있습니다."),
+    CLONE_BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "게시판 구독 정보를 찾을 수 없습니다."),
 
     // 게시글 관련 오류
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게사글을 찾을 수 없습니다."),
 
     // 댓글 관련 오류
-    REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+    REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
+
+    // 생성 작업 관련 오류
+    GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "생성 작업을 찾을 수 없습니다."),
+    GENERATION_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "생성 요청이 많아 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+
+    // AI 서버 관련 오류
+    AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    AI_SERVER_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    AI_SERVER_ERROR(HttpStatus.BAD_GATEWAY, "AI 서버 응답이 올바르지 않습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,103 @@
+package com.rally.ai_valley.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// Idempotency-Key 헤더 처리: 같은 키의 재요청은 AI 호출 없이 저장된 응답을 반환
+// 처리 중인 요청과 같은 키가 들어오면 새로 생성하지 않고 첫 요청의 결과를 기다림
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotencyRecord> records;
+
+
+    public IdempotencyService(ObjectMapper objectMapper,
+                              @Value("${idempotency.ttl:24h}") Duration ttl,
+                              @Value("${idempotency.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.records = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    // 실패한 요청은 저장하지 않음 (같은 키로 다시 시도 가능)
+    public CompletableFuture<ResponseEntity<?>> execute(String idempotencyKey,
+                                                       String route,
+                                                       Object request,
+                                                       Supplier<CompletableFuture<ResponseEntity<?>>> action) {
+        String fingerprint = fingerprint(route, request);
+        IdempotencyRecord newRecord = new IdempotencyRecord(fingerprint, new CompletableFuture<>());
+        IdempotencyRecord record = records.asMap().putIfAbsent(idempotencyKey, newRecord);
+
+        if (record != null) {
+            if (!record.fingerprint().equals(fingerprint)) {
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            log.info("멱등 요청 재사용 - Key: {}, Completed: {}", idempotencyKey, record.response().isDone());
+            return record.response().thenApply(this::markReplayed);
+        }
+
+        try {
+            action.get().whenComplete((response, error) -> {
+                if (error != null) {
+                    records.asMap().remove(idempotencyKey, newRecord);
+                    newRecord.response().completeExceptionally(error);
+                } else {
+                    newRecord.response().complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            records.asMap().remove(idempotencyKey, newRecord);
+            newRecord.response().completeExceptionally(e);
+            throw e;
+        }
+
+        return newRecord.response();
+    }
+
+    private ResponseEntity<?> markReplayed(ResponseEntity<?> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(headers -> {
+                    headers.addAll(response.getHeaders());
+                    headers.set(REPLAYED_HEADER, "true");
+                })
+                .body(response.getBody());
+    }
+
+    // 같은 키로 다른 요청(경로 / 본문)을 보냈는지 확인하기 위한 지문
+    private String fingerprint(String route, Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((route + "\n" + objectMapper.writeValueAsString(request)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("멱등 요청 지문 생성 실패", e);
+        }
+    }
+
+    private record IdempotencyRecord(String fingerprint, CompletableFuture<ResponseEntity<?>> response) {
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.rally.ai_valley.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// AI 생성 단계별(read / ai / persist) 소요 시간 측정
+// 커넥션 점유 시간 자체는 hikaricp.connections.usage 로 함께 확인
+@Component
+@RequiredArgsConstructor
+public class GenerationMetrics {
+
+    public static final String TYPE_POST = "post";
+    public static final String TYPE_REPLY = "reply";
+    public static final String TYPE_POST_BATCH = "post_batch";
+
+    private static final String PHASE_TIMER = "ai.generation.phase";
+    private static final String FIRST_CHUNK_TIMER = "ai.generation.first-chunk";
+
+    private final MeterRegistry meterRegistry;
+
+
+    public <T> T recordRead(String type, Supplier<T> supplier) {
+        return record(type, "read", supplier);
+    }
+
+    public <T> T recordPersist(String type, Supplier<T> supplier) {
+        return record(type, "persist", supplier);
+    }
+
+    public <T> Mono<T> recordAi(String type, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono.doFinally(signal -> sample.stop(timer(type, "ai")));
+        });
+    }
+
+    // 스트리밍은 첫 이벤트까지의 시간(TTFB)을 별도로 기록, 전체 시간은 ai 단계로 기록
+    public <T> Flux<T> recordAiStream(String type, Flux<T> flux) {
+        return Flux.defer(() -> {
+            long startNanos = System.nanoTime();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean firstChunk = new AtomicBoolean(true);
+            return flux
+                    .doOnNext(item -> {
+                        if (firstChunk.compareAndSet(true, false)) {
+                            firstChunkTimer(type).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doFinally(signal -> sample.stop(timer(type, "ai")));
+        });
+    }
+
+    private <T> T record(String type, String phase, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return supplier.get();
+        } finally {
+            sample.stop(timer(type, phase));
+        }
+    }
+
+    private Timer timer(String type, String phase) {
+        return Timer.builder(PHASE_TIMER)
+                .description("AI 생성 단계별 소요 시간")
+                .tag("type", type)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    private Timer firstChunkTimer(String type) {
+        return Timer.builder(FIRST_CHUNK_TIMER)
+                .description("AI 스트리밍 첫 이벤트까지의 시간")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.rally.ai_valley.common.utility;
+
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// Flux 이벤트 스트림을 SseEmitter 로 전달
+// - Flux 를 그대로 반환하면 spring.mvc.async.request-timeout (단건 생성 기준) 이 스트림 전체에 걸리므로 타임아웃을 따로 지정
+// - 클라이언트 연결 종료/타임아웃 시 구독을 취소해 AI 호출도 함께 중단
+public class SseEmitters {
+
+    private SseEmitters() {
+    }
+
+    public static SseEmitter from(Flux<ServerSentEvent<Object>> events, Duration timeout) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        Disposable subscription = events.subscribe(
+                event -> send(emitter, event),
+                emitter::completeWithError,
+                emitter::complete);
+
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, ServerSentEvent<Object> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.event() != null) {
+            builder.name(event.event());
+        }
+        if (event.data() != null) {
+            builder.data(event.data());
+        }
+
+        try {
+            emitter.send(builder);
+        } catch (IOException e) {
+            // 전송 실패(연결 끊김)는 구독 취소로 이어짐
+            throw Exceptions.propagate(e);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.rally.ai_valley.common.utility;
+
+// 분당 허용량만큼 토큰이 채워지는 단순 토큰 버킷 (최대 1분치까지 누적)
+public class TokenBucket {
+
+    private static final double NANOS_PER_MINUTE = 60_000_000_000d;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+
+    public TokenBucket(long permitsPerMinute) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("분당 허용량은 1 이상이어야 합니다.");
+        }
+        this.capacity = permitsPerMinute;
+        this.refillPerNano = permitsPerMinute / NANOS_PER_MINUTE;
+        this.tokens = permitsPerMinute;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+
+}
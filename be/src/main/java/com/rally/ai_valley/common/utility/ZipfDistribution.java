@@ -0,0 +1,35 @@
+package com.rally.ai_valley.common.utility;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 멱법칙(Zipf) 분포 샘플러: 순위 k(0부터)가 뽑힐 확률 ∝ 1 / (k + 1)^exponent
+public class ZipfDistribution {
+
+    private final double[] cumulative;
+
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    // 누적 분포에서 이진 탐색
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+}
@@ -6,12 +6,18 @@ import com.rally.ai_valley.domain.post.entity.Post;
 import com.rally.ai_valley.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
+// 생성 후 거의 바뀌지 않고 AI 생성마다 조회되므로 2차 캐시 (soft delete 가 있어 READ_WRITE)
 @Entity
 @Table(name = "boards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,6 +48,20 @@ public class Board extends BaseEntity {
     @Column(name = "is_deleted")
     private Integer isDeleted;
 
+    // 비정규화 카운터: 생성/삭제 시 BoardCounterJdbcRepository 증감, BoardCounterReconciler가 주기적으로 보정
+    // DB가 관리하는 값이므로 엔티티에서는 읽기 전용 (2차 캐시에 남은 이전 값으로 덮어쓰지 않도록 함, 조회는 JPQL 프로젝션 사용)
+    @ColumnDefault("0")
+    @Column(name = "clone_count", nullable = false, insertable = false, updatable = false)
+    private Long cloneCount;
+
+    @ColumnDefault("0")
+    @Column(name = "post_count", nullable = false, insertable = false, updatable = false)
+    private Long postCount;
+
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    private Long replyCount;
+
 
     public static Board create(User createdBy, String name, String description) {
         Board board = new Board();
@@ -49,6 +69,9 @@ public class Board extends BaseEntity {
         board.name = name;
         board.description = description;
         board.isDeleted = 0;
+        board.cloneCount = 0L;
+        board.postCount = 0L;
+        board.replyCount = 0L;
         return board;
     }
 
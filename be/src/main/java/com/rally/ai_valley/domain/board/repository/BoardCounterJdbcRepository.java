@@ -0,0 +1,93 @@
+package com.rally.ai_valley.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 게시판 비정규화 카운터(clone/post/reply) 증감 / 보정
+// JPQL 벌크 UPDATE / 네이티브 쿼리는 Hibernate 2차 캐시의 Board 영역 전체를 비우므로 JDBC로 직접 실행
+// (카운터 컬럼은 Board 엔티티에서 읽기 전용이라 캐시된 엔티티가 카운터를 덮어쓰지 않음)
+@Repository
+@RequiredArgsConstructor
+public class BoardCounterJdbcRepository {
+
+    private static final String FIND_BOARD_IDS_SQL = "SELECT id FROM boards WHERE id > ? ORDER BY id LIMIT ?";
+
+    // 게시판 범위 안의 실제 행 수를 게시판별로 한 번씩만 집계해 카운터와 다른 게시판만 조회
+    // (UPDATE 의 서브쿼리와 달리 일반 SELECT 는 MySQL RR 에서도 잠금 없는 일관된 읽기라 동시 INSERT 를 막지 않음)
+    private static final String FIND_COUNTER_DRIFTS_SQL = """
+            SELECT b.id, b.clone_count, b.post_count, b.reply_count,
+                   COALESCE(cb.cnt, 0) AS actual_clone_count,
+                   COALESCE(p.cnt, 0) AS actual_post_count,
+                   COALESCE(r.cnt, 0) AS actual_reply_count
+            FROM boards b
+            LEFT JOIN (SELECT board_id, COUNT(*) AS cnt FROM clone_boards
+                       WHERE is_active = 1 AND board_id BETWEEN ? AND ?
+                       GROUP BY board_id) cb ON cb.board_id = b.id
+            LEFT JOIN (SELECT board_id, COUNT(*) AS cnt FROM posts
+                       WHERE is_deleted = 0 AND board_id BETWEEN ? AND ?
+                       GROUP BY board_id) p ON p.board_id = b.id
+            LEFT JOIN (SELECT rp.board_id, COUNT(*) AS cnt FROM replies r INNER JOIN posts rp ON r.post_id = rp.id
+                       WHERE rp.is_deleted = 0 AND r.is_deleted = 0 AND rp.board_id BETWEEN ? AND ?
+                       GROUP BY rp.board_id) r ON r.board_id = b.id
+            WHERE b.id BETWEEN ? AND ?
+                AND (b.clone_count <> COALESCE(cb.cnt, 0)
+                     OR b.post_count <> COALESCE(p.cnt, 0)
+                     OR b.reply_count <> COALESCE(r.cnt, 0))
+            """;
+
+    // 조회 이후 다른 트랜잭션이 카운터를 바꿨으면 덮어쓰지 않고 다음 보정으로 미룸
+    private static final String FIX_COUNTERS_SQL = """
+            UPDATE boards SET clone_count = ?, post_count = ?, reply_count = ?
+            WHERE id = ? AND clone_count = ? AND post_count = ? AND reply_count = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    // 카운터 증감은 행 단위 원자적 UPDATE (읽고-쓰기 경합 없음, updatedAt은 변경하지 않음)
+    public int increaseCloneCount(Long boardId, long delta) {
+        return jdbcTemplate.update("UPDATE boards SET clone_count = clone_count + ? WHERE id = ?", delta, boardId);
+    }
+
+    public int increasePostCount(Long boardId, long delta) {
+        return jdbcTemplate.update("UPDATE boards SET post_count = post_count + ? WHERE id = ?", delta, boardId);
+    }
+
+    public int increaseReplyCount(Long boardId, long delta) {
+        return jdbcTemplate.update("UPDATE boards SET reply_count = reply_count + ? WHERE id = ?", delta, boardId);
+    }
+
+    // 카운터 보정: 게시판 ID 순서로 batchSize 개씩 실제 행 수를 집계해 값이 다른 게시판만 갱신, 갱신한 게시판 수 반환
+    public int reconcileCounters(int batchSize) {
+        int updated = 0;
+        long afterBoardId = 0L;
+        while (true) {
+            List<Long> boardIds = jdbcTemplate.queryForList(FIND_BOARD_IDS_SQL, Long.class, afterBoardId, batchSize);
+            if (boardIds.isEmpty()) {
+                return updated;
+            }
+
+            long fromId = boardIds.get(0);
+            long toId = boardIds.get(boardIds.size() - 1);
+            List<Object[]> drifts = jdbcTemplate.query(FIND_COUNTER_DRIFTS_SQL,
+                    (rs, rowNum) -> new Object[]{
+                            rs.getLong("actual_clone_count"), rs.getLong("actual_post_count"), rs.getLong("actual_reply_count"),
+                            rs.getLong("id"),
+                            rs.getLong("clone_count"), rs.getLong("post_count"), rs.getLong("reply_count")},
+                    fromId, toId, fromId, toId, fromId, toId, fromId, toId);
+            if (!drifts.isEmpty()) {
+                updated += (int) Arrays.stream(jdbcTemplate.batchUpdate(FIX_COUNTERS_SQL, drifts)).filter(count -> count != 0).count();
+            }
+
+            if (boardIds.size() < batchSize) {
+                return updated;
+            }
+            afterBoardId = toId;
+        }
+    }
+
+}
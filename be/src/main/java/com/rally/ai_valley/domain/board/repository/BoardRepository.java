@@ -3,8 +3,11 @@ package com.rally.ai_valley.domain.board.repository;
 import com.rally.ai_valley.domain.board.dto.BoardInfoResponse;
 import com.rally.ai_valley.domain.board.dto.BoardsInCloneResponse;
 import com.rally.ai_valley.domain.board.entity.Board;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT b
             FROM Board b
@@ -25,9 +29,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     @Query("""
             SELECT new com.rally.ai_valley.domain.board.dto.BoardInfoResponse(b.id, b.name, u.nickname, b.description,
-                        (SELECT COUNT(DISTINCT cb.clone.id) FROM CloneBoard cb WHERE b.id = cb.board.id AND cb.isActive = 1),
-                        (SELECT COUNT(p) FROM Post p WHERE p.board.id = b.id AND p.isDeleted = 0),
-                        (SELECT COUNT(r) FROM Reply r INNER JOIN r.post p WHERE p.board.id = b.id AND p.isDeleted = 0 AND r.isDeleted = 0),
+                        b.cloneCount, b.postCount, b.replyCount,
                         b.createdAt, b.updatedAt)
             FROM Board b
             JOIN b.createdBy u
@@ -38,9 +40,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     @Query("""
             SELECT new com.rally.ai_valley.domain.board.dto.BoardInfoResponse(b.id, b.name, u.nickname, b.description,
-                        (SELECT COUNT(DISTINCT cb.clone.id) FROM CloneBoard cb WHERE b.id = cb.board.id AND cb.isActive = 1),
-                        (SELECT COUNT(p) FROM Post p WHERE p.board.id = b.id AND p.isDeleted = 0),
-                        (SELECT COUNT(r) FROM Reply r INNER JOIN r.post p WHERE p.board.id = b.id AND p.isDeleted = 0 AND r.isDeleted = 0),
+                        b.cloneCount, b.postCount, b.replyCount,
                         b.createdAt, b.updatedAt)
             FROM Board b
             JOIN b.createdBy u
@@ -51,9 +51,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     // 나의 클론들이 속한 게시판들의 모음
     @Query("""
             SELECT new com.rally.ai_valley.domain.board.dto.BoardInfoResponse(b.id, b.name, u.nickname, b.description,
-                        (SELECT COUNT(DISTINCT cb.clone.id) FROM CloneBoard cb WHERE b.id = cb.board.id AND cb.isActive = 1),
-                        (SELECT COUNT(p) FROM Post p WHERE p.board.id = b.id AND p.isDeleted = 0),
-                        (SELECT COUNT(r) FROM Reply r INNER JOIN r.post p WHERE p.board.id = b.id AND p.isDeleted = 0 AND r.isDeleted = 0),
+                        b.cloneCount, b.postCount, b.replyCount,
                         b.createdAt, b.updatedAt)
             FROM Board b
             JOIN b.createdBy u
@@ -0,0 +1,39 @@
+package com.rally.ai_valley.domain.board.service;
+
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 게시판 카운터(clone/post/reply) 보정: 초기 데이터(data.sql), 직접 SQL 수정, 누락된 증감으로 생긴 오차를 실제 행 수로 맞춤
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCounterReconciler {
+
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+    // 한 번에 집계 / 갱신하는 게시판 수 (배치마다 짧은 문장으로 나눠 잠금을 오래 잡지 않음)
+    @Value("${board.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${board.counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${board.counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int updated = boardCounterJdbcRepository.reconcileCounters(batchSize);
+        if (updated > 0) {
+            log.warn("게시판 카운터 보정 - Boards: {}", updated);
+        }
+    }
+
+}
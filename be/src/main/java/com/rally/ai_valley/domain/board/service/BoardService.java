@@ -1,5 +1,6 @@
 package com.rally.ai_valley.domain.board.service;
 
+import com.rally.ai_valley.common.config.CacheConfig;
 import com.rally.ai_valley.common.exception.CustomException;
 import com.rally.ai_valley.common.exception.ErrorCode;
 import com.rally.ai_valley.domain.board.dto.BoardCreateRequest;
@@ -7,6 +8,7 @@ import com.rally.ai_valley.domain.board.dto.BoardInfoResponse;
 import com.rally.ai_valley.domain.board.dto.BoardSubscriptionRequest;
 import com.rally.ai_valley.domain.board.dto.BoardsInCloneResponse;
 import com.rally.ai_valley.domain.board.entity.Board;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
 import com.rally.ai_valley.domain.board.repository.BoardRepository;
 import com.rally.ai_valley.domain.clone.entity.Clone;
 import com.rally.ai_valley.domain.clone.entity.CloneBoard;
@@ -16,6 +18,9 @@ import com.rally.ai_valley.domain.user.entity.User;
 import com.rally.ai_valley.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +33,7 @@ import java.util.Optional;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
     private final CloneRepository cloneRepository;
     private final CloneBoardRepository cloneBoardRepository;
     private final UserRepository userRepository;
@@ -38,6 +44,7 @@ public class BoardService {
                 .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true)
     @Transactional(rollbackFor = Exception.class)
     public Long createBoard(Long userId, BoardCreateRequest boardCreateRequest) {
         User findUser = userRepository.findUserById(userId)
@@ -52,11 +59,14 @@ public class BoardService {
         return createboard.getId();
     }
 
+    // 게시글 / 댓글 수는 생성마다 바뀌므로 무효화하지 않고 TTL 동안의 지연을 허용 (구독 수는 즉시 반영)
+    @Cacheable(cacheNames = CacheConfig.BOARDS, key = "'all'")
     @Transactional(readOnly = true)
     public List<BoardInfoResponse> getAllBoardsInfo() {
         return boardRepository.findAllBoards();
     }
 
+    @Cacheable(cacheNames = CacheConfig.BOARD, key = "#boardId", unless = "#result == null")
     @Transactional(readOnly = true)
     public BoardInfoResponse getBoardInfo(Long boardId) {
         return boardRepository.findBoardByBoardId(boardId);
@@ -72,7 +82,12 @@ public class BoardService {
         return boardRepository.findBoardsInCloneByCloneId(cloneId);
     }
 
+    // 구독 추가 / 해제와 clone_count 증감은 여기에서만 처리 (CloneBoardService 도 위임)
     // 순한 참조 문제
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOARD, key = "#boardId"),
+            @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true)
+    })
     @Transactional(rollbackFor = Exception.class)
     public Integer addCloneToBoard(Long boardId, BoardSubscriptionRequest boardSubscriptionRequest) {
         Long cloneId = boardSubscriptionRequest.getCloneId();
@@ -89,6 +104,7 @@ public class BoardService {
             } else {
                 // 비활성화(soft-deleted) 상태라면, 다시 활성화(reactivate)
                 existingCloneBoard.reactivate();
+                boardCounterJdbcRepository.increaseCloneCount(boardId, 1);
             }
         } else {
             // 데이터가 아예 존재하지 않는 경우
@@ -98,18 +114,27 @@ public class BoardService {
 
             CloneBoard cloneBoard = CloneBoard.create(findClone, findBoard);
             cloneBoardRepository.save(cloneBoard);
+            boardCounterJdbcRepository.increaseCloneCount(boardId, 1);
         }
 
         return 1;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOARD, key = "#boardId"),
+            @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true)
+    })
     @Transactional(rollbackFor = Exception.class)
     public Integer removeCloneFromBoard(Long boardId, BoardSubscriptionRequest boardSubscriptionRequest) {
         CloneBoard findCloneBoard = cloneBoardRepository
                 .findCloneBoardByCloneIdAndBoardId(boardId, boardSubscriptionRequest.getCloneId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 클론-보드 관계를 찾을 수 없습니다."));
+                .orElseThrow(() -> new CustomException(ErrorCode.CLONE_BOARD_NOT_FOUND));
 
-        findCloneBoard.softDelete();
+        // 이미 비활성화된 구독은 카운터를 다시 줄이지 않음
+        if (findCloneBoard.getIsActive() == 1) {
+            findCloneBoard.softDelete();
+            boardCounterJdbcRepository.increaseCloneCount(boardId, -1);
+        }
 
         return 1;
     }
@@ -0,0 +1,33 @@
+package com.rally.ai_valley.domain.clone.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AiMemorySummaryRequest {
+
+    @JsonProperty("cloneId")
+    private Long cloneId;
+
+    @JsonProperty("clone_description")
+    private String cloneDescription;
+
+    // 이전 요약 (최초 요약이면 null)
+    @JsonProperty("previous_summary")
+    private String previousSummary;
+
+    @JsonProperty("post_history")
+    private List<PostInfoResponseForAi> postHistory;
+
+    @JsonProperty("reply_history")
+    private List<ReplyInfoResponseForAi> replyHistory;
+
+    // 새 요약의 최대 글자 수
+    @JsonProperty("max_chars")
+    private Integer maxChars;
+
+}
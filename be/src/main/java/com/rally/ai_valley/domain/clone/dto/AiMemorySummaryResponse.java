@@ -0,0 +1,12 @@
+package com.rally.ai_valley.domain.clone.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class AiMemorySummaryResponse {
+
+    @JsonProperty("summary")
+    private String summary;
+
+}
@@ -6,12 +6,17 @@ import com.rally.ai_valley.domain.reply.entity.Reply;
 import com.rally.ai_valley.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
+// AI 생성마다 설명(description)을 읽으므로 2차 캐시 (정보 수정이 있어 READ_WRITE)
 @Entity
 @Table(name = "clones")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clone")
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
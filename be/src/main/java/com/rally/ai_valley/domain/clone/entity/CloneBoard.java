@@ -4,9 +4,14 @@ import com.rally.ai_valley.common.entity.BaseEntity;
 import com.rally.ai_valley.domain.board.entity.Board;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// 구독 확인 / 활성화 변경이 같은 행에서 일어나므로 READ_WRITE (soft lock 으로 갱신 중 오래된 값 차단)
 @Entity
 @Table(name = "clone_boards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clone-board")
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
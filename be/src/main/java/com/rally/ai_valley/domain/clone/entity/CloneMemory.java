@@ -0,0 +1,42 @@
+package com.rally.ai_valley.domain.clone.entity;
+
+import com.rally.ai_valley.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// 클론별 누적 활동 요약 (게시글 / 댓글을 N개 단위로 요약에 합침)
+// 카운터 증가와 요약 갱신은 모두 행 단위 원자적 UPDATE 로 처리하므로 엔티티는 조회 전용 (CloneMemoryJdbcRepository)
+@Entity
+@Table(name = "clone_memories")
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CloneMemory extends BaseEntity {
+
+    @Id
+    @Column(name = "clone_id", nullable = false)
+    private Long cloneId;
+
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    // 요약에 반영된 마지막 게시글 / 댓글 ID (이후 작성분만 AI 요청에 원문으로 포함)
+    @Column(name = "last_post_id", nullable = false)
+    private Long lastPostId;
+
+    @Column(name = "last_reply_id", nullable = false)
+    private Long lastReplyId;
+
+    // 마지막 요약 이후 작성한 게시글 / 댓글 수
+    @Column(name = "pending_count", nullable = false)
+    private Integer pendingCount;
+
+    @Column(name = "folded_at")
+    private LocalDateTime foldedAt;
+
+}
@@ -1,17 +1,25 @@
 package com.rally.ai_valley.domain.clone.repository;
 
+import com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse;
 import com.rally.ai_valley.domain.clone.entity.CloneBoard;
 import com.rally.ai_valley.domain.clone.entity.CloneBoardId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CloneBoardRepository extends JpaRepository<CloneBoard, CloneBoardId> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
         SELECT cb
         FROM CloneBoard cb
@@ -20,4 +28,34 @@ public interface CloneBoardRepository extends JpaRepository<CloneBoard, CloneBoa
         """)
     Optional<CloneBoard> findCloneBoardByCloneIdAndBoardId(@Param("boardId") Long boardId, @Param("cloneId") Long cloneId);
 
+    // 시뮬레이션: 구독 중인 클론이 있는 게시판 (최초 틱 / 주기적 전체 스캔)
+    @Query("""
+        SELECT DISTINCT cb.board.id
+        FROM CloneBoard cb
+        WHERE cb.isActive = 1
+        """)
+    List<Long> findActiveBoardIds();
+
+    // 시뮬레이션: 마지막 틱 이후 구독이 추가/재활성화된 게시판
+    @Query("""
+        SELECT DISTINCT cb.board.id
+        FROM CloneBoard cb
+        WHERE cb.isActive = 1
+            AND cb.updatedAt > :since
+        """)
+    List<Long> findBoardIdsWithSubscriptionsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // 시뮬레이션: 여러 게시판의 활동 가능한 클론을 한 번에 조회
+    @Query("""
+        SELECT new com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse(c.id, b.id, c.name, c.description, cb.isActive)
+        FROM CloneBoard cb
+        JOIN cb.clone c
+        JOIN cb.board b
+        WHERE b.id IN :boardIds
+            AND b.isDeleted = 0
+            AND cb.isActive = 1
+            AND c.isActive = 1
+        """)
+    List<CloneInBoardInfoResponse> findActiveClonesInBoards(@Param("boardIds") Collection<Long> boardIds);
+
 }
@@ -0,0 +1,51 @@
+package com.rally.ai_valley.domain.clone.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 클론 요약 대기 카운터 증가 / 요약 반영
+// 게시글 / 댓글 저장과 같은 트랜잭션에서 실행되므로 읽고-쓰기 없이 행 단위 원자적 UPSERT / UPDATE 로 처리
+@Repository
+@RequiredArgsConstructor
+public class CloneMemoryJdbcRepository {
+
+    private static final String INCREASE_PENDING_COUNT_SQL = """
+            INSERT INTO clone_memories (clone_id, pending_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE pending_count = pending_count + ?
+            """;
+
+    // 읽은 시점의 기준 ID 가 그대로일 때만 반영 (동시에 실행된 다른 요약 작업과의 중복 반영 방지)
+    // 요약하는 동안 새로 작성된 글은 대기 수에 남겨 다음 요약 대상이 되도록 함
+    private static final String FOLD_SQL = """
+            UPDATE clone_memories
+            SET summary = ?, last_post_id = ?, last_reply_id = ?,
+                pending_count = GREATEST(pending_count - ?, 0), folded_at = ?, updated_at = ?
+            WHERE clone_id = ? AND last_post_id = ? AND last_reply_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public int increasePendingCount(Long cloneId, int delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(INCREASE_PENDING_COUNT_SQL, cloneId, delta, now, now, delta);
+    }
+
+    public boolean fold(Long cloneId,
+                        String summary,
+                        Long expectedLastPostId,
+                        Long expectedLastReplyId,
+                        Long lastPostId,
+                        Long lastReplyId,
+                        int consumedCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(FOLD_SQL, summary, lastPostId, lastReplyId, consumedCount, now, now,
+                cloneId, expectedLastPostId, expectedLastReplyId) == 1;
+    }
+
+}
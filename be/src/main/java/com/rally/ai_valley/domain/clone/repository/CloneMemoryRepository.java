@@ -0,0 +1,40 @@
+package com.rally.ai_valley.domain.clone.repository;
+
+import com.rally.ai_valley.domain.clone.entity.CloneMemory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CloneMemoryRepository extends JpaRepository<CloneMemory, Long> {
+
+    @Query("""
+            SELECT m
+            FROM CloneMemory m
+            WHERE m.cloneId = :cloneId
+        """)
+    Optional<CloneMemory> findCloneMemoryByCloneId(@Param("cloneId") Long cloneId);
+
+    @Query("""
+            SELECT m
+            FROM CloneMemory m
+            WHERE m.cloneId IN :cloneIds
+        """)
+    List<CloneMemory> findCloneMemoriesByCloneIds(@Param("cloneIds") Collection<Long> cloneIds);
+
+    // 요약 대상: 마지막 요약 이후 활동이 많은 클론부터
+    @Query("""
+            SELECT m.cloneId
+            FROM CloneMemory m
+            WHERE m.pendingCount >= :threshold
+            ORDER BY m.pendingCount DESC
+        """)
+    List<Long> findCloneIdsToFold(@Param("threshold") Integer threshold, Pageable pageable);
+
+}
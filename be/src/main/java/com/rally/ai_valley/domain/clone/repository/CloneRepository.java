@@ -4,11 +4,15 @@ import com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse;
 import com.rally.ai_valley.domain.clone.dto.CloneInfoResponse;
 import com.rally.ai_valley.domain.clone.dto.CloneStatisticsResponse;
 import com.rally.ai_valley.domain.clone.entity.Clone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,7 @@ import java.util.Optional;
 @Repository
 public interface CloneRepository extends JpaRepository<Clone, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT c
             FROM Clone c
@@ -23,10 +28,17 @@ public interface CloneRepository extends JpaRepository<Clone, Long> {
         """)
     Optional<Clone> findCloneById(@Param("cloneId") Long cloneId);
 
+    @Query("""
+            SELECT c
+            FROM Clone c
+            WHERE c.id IN :cloneIds
+        """)
+    List<Clone> findClonesByIds(@Param("cloneIds") Collection<Long> cloneIds);
+
     @Query("""
             SELECT new com.rally.ai_valley.domain.clone.dto.CloneInfoResponse(c.id, u.id, u.nickname, c.name, c.description, c.isActive)
             FROM Clone c
-            LEFT JOIN c.user u
+            JOIN c.user u
             WHERE u.id = :userId
         """)
     List<CloneInfoResponse> findAllClonesByUserId(@Param("userId") Long userId);
@@ -39,16 +51,14 @@ public interface CloneRepository extends JpaRepository<Clone, Long> {
         """)
     CloneInfoResponse findCloneByCloneId(@Param("cloneId") Long cloneId);
 
+    // 엔티티별 스칼라 서브쿼리로 각각 집계 (LEFT JOIN 조합 시 구독 x 게시글 x 댓글 크기의 카테시안 곱이 생김)
     @Query("""
             SELECT new com.rally.ai_valley.domain.clone.dto.CloneStatisticsResponse(
-                COUNT(DISTINCT cb.cloneBoardId),
-                COUNT(DISTINCT p.id),
-                COUNT(DISTINCT r.id)
+                (SELECT COUNT(cb) FROM CloneBoard cb WHERE cb.clone.id = c.id AND cb.isActive = 1),
+                (SELECT COUNT(p) FROM Post p WHERE p.clone.id = c.id AND p.isDeleted = 0),
+                (SELECT COUNT(r) FROM Reply r WHERE r.clone.id = c.id AND r.isDeleted = 0)
             )
             FROM Clone c
-            LEFT JOIN c.cloneBoards cb ON cb.isActive = 1
-            LEFT JOIN c.posts p ON p.isDeleted = 0
-            LEFT JOIN c.replies r ON r.isDeleted = 0
             WHERE c.id = :cloneId
         """)
     CloneStatisticsResponse findUserStatisticsByCloneId(@Param("cloneId") Long cloneId);
@@ -56,8 +66,8 @@ public interface CloneRepository extends JpaRepository<Clone, Long> {
     @Query("""
             SELECT new com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse(c.id, b.id, c.name, c.description, cb.isActive)
             FROM CloneBoard cb
-            LEFT JOIN cb.clone c
-            LEFT JOIN cb.board b
+            JOIN cb.clone c
+            JOIN cb.board b
             WHERE b.id = :boardId
                 AND b.isDeleted = 0
                 AND cb.isActive = 1
@@ -67,9 +77,9 @@ public interface CloneRepository extends JpaRepository<Clone, Long> {
     @Query("""
             SELECT new com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse(c.id, b.id, c.name, c.description, cb.isActive)
             FROM CloneBoard cb
-            LEFT JOIN cb.clone c
-            LEFT JOIN cb.board b
-            LEFT JOIN c.user u
+            JOIN cb.clone c
+            JOIN cb.board b
+            JOIN c.user u
             WHERE b.id = :boardId
                 AND u.id = :userId
                 AND b.isDeleted = 0
@@ -0,0 +1,161 @@
+package com.rally.ai_valley.domain.clone.service;
+
+import com.rally.ai_valley.common.ai.context.AiContextBuilder;
+import com.rally.ai_valley.common.ai.service.AiService;
+import com.rally.ai_valley.common.config.CloneMemoryProperties;
+import com.rally.ai_valley.domain.clone.dto.AiMemorySummaryRequest;
+import com.rally.ai_valley.domain.clone.entity.Clone;
+import com.rally.ai_valley.domain.clone.entity.CloneMemory;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryJdbcRepository;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryRepository;
+import com.rally.ai_valley.domain.clone.repository.CloneRepository;
+import com.rally.ai_valley.domain.post.dto.PostInfoForMemory;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoForMemory;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 클론 활동 요약: 마지막 요약 이후 게시글 / 댓글이 foldThreshold 개 이상 쌓인 클론의 이력을 누적 요약에 합침
+// 이후 AI 요청에는 요약 + 요약 이후 작성분만 포함되므로 요청 크기가 이력 길이와 무관하게 유지됨
+// 생성 흐름과 같이 1) 읽기 전용 트랜잭션 조회 -> 2) 커넥션 없이 AI 호출 -> 3) 짧은 쓰기 트랜잭션으로 반영
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "clone.memory.enabled", havingValue = "true")
+public class CloneMemoryFolder {
+
+    private final CloneMemoryRepository cloneMemoryRepository;
+    private final CloneMemoryJdbcRepository cloneMemoryJdbcRepository;
+    private final CloneRepository cloneRepository;
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+    private final AiService aiService;
+    private final AiContextBuilder aiContextBuilder;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final CloneMemoryProperties properties;
+
+
+    // 스케줄러 스레드에서 실행되므로 이번 주기의 요약이 모두 끝날 때까지 기다림 (다음 주기와 겹치지 않음)
+    @Scheduled(fixedDelayString = "${clone.memory.fold-interval-ms:60000}",
+               initialDelayString = "${clone.memory.fold-interval-ms:60000}")
+    public void foldPending() {
+        List<Long> cloneIds = readOnlyTransactionTemplate.execute(status -> cloneMemoryRepository.findCloneIdsToFold(
+                properties.getFoldThreshold(), PageRequest.of(0, properties.getBatchSize())));
+        if (cloneIds == null || cloneIds.isEmpty()) {
+            return;
+        }
+
+        Long folded = Flux.fromIterable(cloneIds)
+                .flatMap(this::fold, properties.getConcurrency())
+                .filter(Boolean::booleanValue)
+                .count()
+                .block();
+
+        log.info("클론 활동 요약 - Candidates: {}, Folded: {}", cloneIds.size(), folded);
+    }
+
+    // 실패한 클론은 대기 수가 그대로 남아 다음 주기에 다시 시도
+    // 요약할 글이 아직 없으면 (모두 safetyLag 이내) 반영하지 않고 대기 수를 그대로 두어 다음 주기에 다시 시도
+    private Mono<Boolean> fold(Long cloneId) {
+        return Mono.fromCallable(() -> readOnlyTransactionTemplate.execute(status -> readFoldContext(cloneId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(context -> !context.posts().isEmpty() || !context.replies().isEmpty())
+                .flatMap(context -> summarize(context)
+                        .publishOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                        .map(summary -> Boolean.TRUE.equals(transactionTemplate.execute(status -> saveFold(context, summary)))))
+                .defaultIfEmpty(false)
+                .onErrorResume(error -> {
+                    log.warn("클론 활동 요약 실패 - Clone ID: {}, Reason: {}", cloneId, error.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private FoldContext readFoldContext(Long cloneId) {
+        CloneMemory memory = cloneMemoryRepository.findCloneMemoryByCloneId(cloneId).orElse(null);
+        Clone clone = cloneRepository.findCloneById(cloneId).orElse(null);
+        if (memory == null || clone == null) {
+            return null;
+        }
+
+        // 먼저 발급된 ID 가 나중에 커밋될 수 있으므로 최근 작성분은 다음 요약으로 미룸 (기준 ID 가 커밋 전 글을 건너뛰지 않도록)
+        LocalDateTime createdBefore = LocalDateTime.now().minus(properties.getSafetyLag());
+        List<PostInfoForMemory> posts = postRepository.findPostsByCloneIdForMemory(cloneId, memory.getLastPostId(),
+                createdBefore, properties.getMaxFoldItems(), properties.getMaxItemChars());
+        List<ReplyInfoForMemory> replies = replyRepository.findRepliesByCloneIdForMemory(cloneId, memory.getLastReplyId(),
+                createdBefore, properties.getMaxFoldItems(), properties.getMaxItemChars());
+
+        return new FoldContext(clone, memory, posts, replies);
+    }
+
+    private Mono<String> summarize(FoldContext context) {
+        return aiService.AiSummarizeMemory(toAiMemorySummaryRequest(context))
+                .map(response -> response.getSummary() != null ? response.getSummary() : "");
+    }
+
+    private AiMemorySummaryRequest toAiMemorySummaryRequest(FoldContext context) {
+        // 요약에는 오래된 글부터 전달 (조회 순서 그대로)
+        List<PostInfoResponseForAi> postHistory = context.posts().stream()
+                .map(post -> new PostInfoResponseForAi(post.getBoardName(), post.getPostTitle(), post.getPostContent()))
+                .toList();
+        List<ReplyInfoResponseForAi> replyHistory = context.replies().stream()
+                .map(reply -> new ReplyInfoResponseForAi(reply.getPostTitle(), reply.getContent()))
+                .toList();
+
+        AiMemorySummaryRequest request = new AiMemorySummaryRequest();
+        request.setCloneId(context.clone().getId());
+        request.setCloneDescription(context.clone().getDescription());
+        request.setPreviousSummary(context.memory().getSummary());
+        request.setPostHistory(postHistory);
+        request.setReplyHistory(replyHistory);
+        request.setMaxChars(properties.getMaxSummaryChars());
+        return request;
+    }
+
+    private boolean saveFold(FoldContext context, String summary) {
+        CloneMemory memory = context.memory();
+        // 기준 ID 는 이번에 요약한 마지막 글까지만 옮김 (maxFoldItems 를 넘는 나머지는 다음 요약에서 이어서 처리)
+        Long lastPostId = context.posts().isEmpty()
+                ? memory.getLastPostId() : context.posts().get(context.posts().size() - 1).getPostId();
+        Long lastReplyId = context.replies().isEmpty()
+                ? memory.getLastReplyId() : context.replies().get(context.replies().size() - 1).getReplyId();
+
+        boolean folded = cloneMemoryJdbcRepository.fold(memory.getCloneId(),
+                AiContextBuilder.truncate(summary.isBlank() ? null : summary, properties.getMaxSummaryChars()),
+                memory.getLastPostId(),
+                memory.getLastReplyId(),
+                lastPostId,
+                lastReplyId,
+                context.posts().size() + context.replies().size()); // 요약한 글 수만 차감 (safetyLag 로 미룬 글은 대기 수에 남김)
+        if (!folded) {
+            // 다른 요약 작업이 먼저 반영한 경우 (이번 결과는 버림)
+            log.warn("클론 활동 요약 충돌 - Clone ID: {}", memory.getCloneId());
+            return false;
+        }
+
+        aiContextBuilder.evictAfterCommit(memory.getCloneId());
+        return true;
+    }
+
+    // posts / replies: ID 오름차순 (마지막 항목이 새 기준 ID)
+    private record FoldContext(Clone clone,
+                               CloneMemory memory,
+                               List<PostInfoForMemory> posts,
+                               List<ReplyInfoForMemory> replies) {
+    }
+
+}
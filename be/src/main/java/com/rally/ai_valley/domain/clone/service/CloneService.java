@@ -1,5 +1,6 @@
 package com.rally.ai_valley.domain.clone.service;
 
+import com.rally.ai_valley.common.config.CacheConfig;
 import com.rally.ai_valley.common.exception.CustomException;
 import com.rally.ai_valley.common.exception.ErrorCode;
 import com.rally.ai_valley.domain.board.dto.BoardSubscriptionRequest;
@@ -10,6 +11,9 @@ import com.rally.ai_valley.domain.user.entity.User;
 import com.rally.ai_valley.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,11 +64,17 @@ public class CloneService {
         return cloneRepository.findAllClonesByUserId(userId);
     }
 
+    @Cacheable(cacheNames = CacheConfig.CLONE, key = "#cloneId", unless = "#result == null")
     @Transactional(readOnly = true)
     public CloneInfoResponse getCloneInfo(Long cloneId) {
         return cloneRepository.findCloneByCloneId(cloneId);
     }
 
+    // 게시글 조회 모델에 클론 이름이 포함되므로 게시글 캐시도 비움 (클론 변경은 드묾)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLONE, key = "#cloneId"),
+            @CacheEvict(cacheNames = CacheConfig.POST, allEntries = true)
+    })
     @Transactional(rollbackFor = Exception.class)
     public CloneInfoResponse updateCloneInfo(Long cloneId, CloneInfoUpdateRequest cloneInfoUpdateRequest) {
         Clone findClone = getCloneById(cloneId);
@@ -76,6 +86,10 @@ public class CloneService {
         return CloneInfoResponse.fromEntity(findClone);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLONE, key = "#cloneId"),
+            @CacheEvict(cacheNames = CacheConfig.POST, allEntries = true)
+    })
     @Transactional(rollbackFor = Exception.class)
     public Long deleteClone(Long cloneId) {
         Clone findClone = getCloneById(cloneId);
@@ -87,7 +101,10 @@ public class CloneService {
 
     @Transactional(readOnly = true)
     public CloneStatisticsResponse getCloneStatistics(Long cloneId) {
-        return cloneRepository.findUserStatisticsByCloneId(cloneId);
+        CloneStatisticsResponse cloneStatisticsResponse = cloneRepository.findUserStatisticsByCloneId(cloneId);
+
+        // 집계 쿼리가 아니므로 클론이 없으면 행이 없음 (기존 응답과 동일하게 0으로 반환)
+        return cloneStatisticsResponse != null ? cloneStatisticsResponse : new CloneStatisticsResponse(0L, 0L, 0L);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,35 @@
+package com.rally.ai_valley.domain.generation.controller;
+
+import com.rally.ai_valley.common.constant.CommonConstant;
+import com.rally.ai_valley.common.constant.CommonStatus;
+import com.rally.ai_valley.common.entity.CommonResponse;
+import com.rally.ai_valley.domain.generation.dto.GenerationJobResponse;
+import com.rally.ai_valley.domain.generation.service.GenerationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class GenerationJobController {
+
+    private final GenerationJobService generationJobService;
+
+    @GetMapping(value = "/generation-jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getGenerationJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(
+                CommonResponse.<GenerationJobResponse>builder()
+                        .successOrNot(CommonConstant.YES_FLAG)
+                        .statusCode(CommonStatus.SUCCESS)
+                        .data(generationJobService.getJob(jobId))
+                        .build());
+    }
+
+}
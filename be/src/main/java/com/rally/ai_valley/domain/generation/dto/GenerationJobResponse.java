@@ -0,0 +1,51 @@
+package com.rally.ai_valley.domain.generation.dto;
+
+import com.rally.ai_valley.domain.generation.entity.GenerationJob;
+import com.rally.ai_valley.domain.generation.entity.GenerationJobStatus;
+import com.rally.ai_valley.domain.generation.entity.GenerationJobType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GenerationJobResponse {
+
+    public String jobId;
+
+    public GenerationJobType type;
+
+    public GenerationJobStatus status;
+
+    // DONE 상태일 때 생성된 게시글/댓글 ID
+    public Long resultId;
+
+    // FAILED 상태일 때 ErrorResponse 와 같은 형식의 오류 코드 / 메시지
+    public String errorCode;
+
+    public String errorMessage;
+
+    public LocalDateTime createdAt;
+
+    public LocalDateTime startedAt;
+
+    public LocalDateTime finishedAt;
+
+
+    public static GenerationJobResponse fromEntity(GenerationJob job) {
+        return GenerationJobResponse.builder()
+                .jobId(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .resultId(job.getResultId())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+}
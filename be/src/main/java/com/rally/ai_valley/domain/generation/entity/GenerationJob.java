@@ -0,0 +1,65 @@
+package com.rally.ai_valley.domain.generation.entity;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 메모리에만 보관되는 생성 작업 (워커 스레드와 조회 스레드가 함께 접근)
+@Getter
+public class GenerationJob {
+
+    private final String id;
+
+    private final GenerationJobType type;
+
+    private final LocalDateTime createdAt;
+
+    private volatile GenerationJobStatus status;
+
+    private volatile Long resultId;
+
+    // FAILED 상태일 때 ErrorCode 이름과 사용자에게 보여줄 메시지 (내부 예외 메시지는 노출하지 않음)
+    private volatile String errorCode;
+
+    private volatile String errorMessage;
+
+    private volatile LocalDateTime startedAt;
+
+    private volatile LocalDateTime finishedAt;
+
+
+    private GenerationJob(GenerationJobType type) {
+        this.id = UUID.randomUUID().toString();
+        this.type = type;
+        this.createdAt = LocalDateTime.now();
+        this.status = GenerationJobStatus.QUEUED;
+    }
+
+    public static GenerationJob create(GenerationJobType type) {
+        return new GenerationJob(type);
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = GenerationJobStatus.RUNNING;
+    }
+
+    public void complete(Long resultId) {
+        this.resultId = resultId;
+        this.finishedAt = LocalDateTime.now();
+        this.status = GenerationJobStatus.DONE;
+    }
+
+    public void fail(String errorCode, String errorMessage) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = GenerationJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == GenerationJobStatus.DONE || status == GenerationJobStatus.FAILED;
+    }
+
+}
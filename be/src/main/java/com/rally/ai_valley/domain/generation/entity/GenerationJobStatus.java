@@ -0,0 +1,8 @@
+package com.rally.ai_valley.domain.generation.entity;
+
+public enum GenerationJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
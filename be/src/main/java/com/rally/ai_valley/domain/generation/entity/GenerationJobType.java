@@ -0,0 +1,6 @@
+package com.rally.ai_valley.domain.generation.entity;
+
+public enum GenerationJobType {
+    POST,
+    REPLY
+}
@@ -0,0 +1,216 @@
+package com.rally.ai_valley.domain.generation.service;
+
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.domain.generation.dto.GenerationJobResponse;
+import com.rally.ai_valley.domain.generation.entity.GenerationJob;
+import com.rally.ai_valley.domain.generation.entity.GenerationJobType;
+import com.rally.ai_valley.domain.post.dto.PostCreateRequest;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
+import com.rally.ai_valley.domain.post.service.PostService;
+import com.rally.ai_valley.domain.reply.dto.ReplyCreateRequest;
+import com.rally.ai_valley.domain.reply.service.ReplyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 게시글 / 댓글 생성 요청의 동시 실행 수 제한 (동기 요청과 async=true 작업이 같은 한도를 공유)
+// - 동시에 진행하는 생성은 최대 worker-count 개, 나머지는 queue-capacity 까지 대기, 그 이상은 429
+// - 생성은 CompletableFuture(Mono) 완료 시점에 슬롯을 반납하므로 AI 응답을 기다리는 동안 스레드를 점유하지 않음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GenerationJobService {
+
+    private final PostService postService;
+    private final ReplyService replyService;
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    // 슬롯이 나기를 기다리는 생성 (running / waiting 은 this 로 보호)
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int running;
+
+    @Value("${generation.job.worker-count:4}")
+    private int workerCount;
+
+    @Value("${generation.job.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 생성 하나가 슬롯을 점유하는 최대 시간 (AI 호출 데드라인 + 조회 / 저장보다 길게), 넘으면 취소하고 슬롯 반납
+    @Value("${generation.job.timeout:60s}")
+    private Duration timeout;
+
+    @Value("${generation.job.retention:30m}")
+    private Duration retention;
+
+
+    // 동기 생성: 한도 안에서 실행하고 결과를 기다림 (한도 초과 시 429)
+    public CompletableFuture<PostInfoResponse> createPost(Long boardId, PostCreateRequest postCreateRequest) {
+        return admit(GenerationJobType.POST, () -> postService.createPost(boardId, postCreateRequest));
+    }
+
+    public CompletableFuture<Long> createReply(Long postId, ReplyCreateRequest replyCreateRequest) {
+        return admit(GenerationJobType.REPLY, () -> replyService.createReply(postId, replyCreateRequest));
+    }
+
+    // 비동기 생성: 작업으로 등록하고 바로 반환 (GET /generation-jobs/{jobId} 로 상태 조회)
+    public GenerationJobResponse submitPost(Long boardId, PostCreateRequest postCreateRequest) {
+        return submit(GenerationJobType.POST,
+                () -> postService.createPost(boardId, postCreateRequest), PostInfoResponse::getPostId);
+    }
+
+    public GenerationJobResponse submitReply(Long postId, ReplyCreateRequest replyCreateRequest) {
+        return submit(GenerationJobType.REPLY,
+                () -> replyService.createReply(postId, replyCreateRequest), Function.identity());
+    }
+
+    public GenerationJobResponse getJob(String jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new CustomException(ErrorCode.GENERATION_JOB_NOT_FOUND);
+        }
+
+        return GenerationJobResponse.fromEntity(job);
+    }
+
+    // 완료된 작업은 보관 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${generation.job.purge-interval-ms:60000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    synchronized int runningCount() {
+        return running;
+    }
+
+    synchronized int waitingCount() {
+        return waiting.size();
+    }
+
+    private <T> GenerationJobResponse submit(GenerationJobType type,
+                                             Supplier<CompletableFuture<T>> generation,
+                                             Function<T, Long> toResultId) {
+        GenerationJob job = GenerationJob.create(type);
+        jobs.put(job.getId(), job);
+
+        CompletableFuture<T> result;
+        try {
+            result = admit(type, () -> {
+                job.start();
+                return generation.get();
+            });
+        } catch (CustomException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        result.whenComplete((generated, error) -> {
+            if (error == null) {
+                job.complete(toResultId.apply(generated));
+                return;
+            }
+            log.error("생성 작업 실패 - JobId: {}, Type: {}", job.getId(), job.getType(), error);
+            fail(job, error);
+        });
+
+        return GenerationJobResponse.fromEntity(job);
+    }
+
+    // 슬롯이 있으면 호출한 스레드에서 바로 시작, 없으면 대기열에 넣고 가득 찼으면 429
+    private <T> CompletableFuture<T> admit(GenerationJobType type, Supplier<CompletableFuture<T>> generation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> start(generation, result);
+
+        synchronized (this) {
+            if (running >= workerCount) {
+                if (waiting.size() >= queueCapacity) {
+                    log.warn("생성 작업 큐가 가득 찼습니다 - Type: {}, Queued: {}", type, waiting.size());
+                    throw new CustomException(ErrorCode.GENERATION_QUEUE_FULL);
+                }
+                waiting.add(start);
+                return result;
+            }
+            running++;
+        }
+
+        start.run();
+        return result;
+    }
+
+    // generation 이 돌려준 future 를 직접 취소해야 Mono 구독까지 취소되므로 파생 future 가 아닌 원본을 받음
+    private <T> void start(Supplier<CompletableFuture<T>> generation, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = generation.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> generationFuture = future;
+        generationFuture.whenComplete((value, error) -> {
+            release();
+            if (error == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+
+        // Mono 에서 만든 future 는 취소 시 AI 호출 구독도 함께 취소됨
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (generationFuture.cancel(true)) {
+                log.warn("생성 작업 시간 초과로 취소 - Timeout: {}", timeout);
+            }
+        });
+    }
+
+    // 대기 중인 생성이 있으면 슬롯을 그대로 넘겨 시작 (조회 단계가 JDBC 작업이므로 boundedElastic 에서 실행)
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                running--;
+            }
+        }
+
+        if (next != null) {
+            Schedulers.boundedElastic().schedule(next);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CancellationException) {
+            return new CustomException(ErrorCode.AI_SERVER_TIMEOUT);
+        }
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    // GlobalExceptionHandler 와 같은 기준: CustomException 은 그 메시지, 그 외(WebClient / SQL 등)는 일반 오류 메시지만 노출
+    private void fail(GenerationJob job, Throwable cause) {
+        if (cause instanceof CustomException customException) {
+            job.fail(customException.getErrorCode().name(), customException.getMessage());
+            return;
+        }
+        job.fail(ErrorCode.INTERNAL_SERVER_ERROR.name(), ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+    }
+
+}
@@ -1,20 +1,31 @@
 package com.rally.ai_valley.domain.post.controller;
 
+import com.rally.ai_valley.common.config.AiClientProperties;
 import com.rally.ai_valley.common.constant.CommonConstant;
 import com.rally.ai_valley.common.constant.CommonStatus;
 import com.rally.ai_valley.common.entity.CommonResponse;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.common.idempotency.IdempotencyService;
+import com.rally.ai_valley.common.utility.SseEmitters;
 import com.rally.ai_valley.domain.auth.Service.AuthService;
+import com.rally.ai_valley.domain.generation.dto.GenerationJobResponse;
+import com.rally.ai_valley.domain.generation.service.GenerationJobService;
+import com.rally.ai_valley.domain.post.dto.PostBatchCreateRequest;
 import com.rally.ai_valley.domain.post.dto.PostCreateRequest;
 import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
 import com.rally.ai_valley.domain.post.service.PostService;
+import com.rally.ai_valley.domain.post.service.PostViewCounter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -23,51 +34,110 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostViewCounter postViewCounter;
+    private final GenerationJobService generationJobService;
+    private final IdempotencyService idempotencyService;
     private final AuthService authService;
+    private final AiClientProperties aiClientProperties;
 
+    // 동기 / async=true 모두 생성 작업 큐의 동시 실행 수 / 대기 한도를 공유 (가득 차면 429)
+    // async=true 이면 생성 작업만 큐에 등록하고 202 + 작업 ID 반환 (GET /generation-jobs/{jobId} 로 상태 조회)
+    // Idempotency-Key 헤더가 있으면 같은 키의 재요청에 저장된 응답을 반환
     @PostMapping(value = "/boards/{boardId}/posts", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> createPost(@PathVariable("boardId") Long boardId, @Valid @RequestBody PostCreateRequest postCreateRequest) {
-        return ResponseEntity.ok(
-        CommonResponse.<PostInfoResponse>builder()
-                .successOrNot(CommonConstant.YES_FLAG)
-                .statusCode(CommonStatus.SUCCESS)
-                .data(postService.createPost(boardId, postCreateRequest))
-                .build());
+    public CompletableFuture<ResponseEntity<?>> createPost(@PathVariable("boardId") Long boardId,
+                                                           @RequestParam(name = "async", required = false) Boolean async,
+                                                           @RequestHeader(name = IdempotencyService.KEY_HEADER, required = false) String idempotencyKey,
+                                                           @Valid @RequestBody PostCreateRequest postCreateRequest) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return generatePost(boardId, async, postCreateRequest);
+        }
+
+        return idempotencyService.execute(idempotencyKey,
+                "POST /boards/" + boardId + "/posts?async=" + Boolean.TRUE.equals(async),
+                postCreateRequest,
+                () -> generatePost(boardId, async, postCreateRequest));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> generatePost(Long boardId, Boolean async, PostCreateRequest postCreateRequest) {
+        if (Boolean.TRUE.equals(async)) {
+            GenerationJobResponse generationJobResponse = generationJobService.submitPost(boardId, postCreateRequest);
+            return CompletableFuture.completedFuture(ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/v1/generation-jobs/" + generationJobResponse.getJobId()))
+                    .body(CommonResponse.<GenerationJobResponse>builder()
+                            .successOrNot(CommonConstant.YES_FLAG)
+                            .statusCode(CommonStatus.SUCCESS)
+                            .data(generationJobResponse)
+                            .build()));
+        }
+
+        return generationJobService.createPost(boardId, postCreateRequest)
+                .thenApply(postInfoResponse -> ResponseEntity.ok(
+                        CommonResponse.<PostInfoResponse>builder()
+                                .successOrNot(CommonConstant.YES_FLAG)
+                                .statusCode(CommonStatus.SUCCESS)
+                                .data(postInfoResponse)
+                                .build()));
+    }
+
+    // 여러 클론이 한 번의 AI 호출로 같은 게시판에 글 작성
+    @PostMapping(value = "/boards/{boardId}/posts:batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<?>> createPostsBatch(@PathVariable("boardId") Long boardId,
+                                                                 @Valid @RequestBody PostBatchCreateRequest postBatchCreateRequest) {
+        return postService.createPostsBatch(boardId, postBatchCreateRequest)
+                .thenApply(postInfoResponses -> ResponseEntity.ok(
+                        CommonResponse.<List<PostInfoResponse>>builder()
+                                .successOrNot(CommonConstant.YES_FLAG)
+                                .statusCode(CommonStatus.SUCCESS)
+                                .data(postInfoResponses)
+                                .build()));
+    }
+
+    // 생성 중인 게시글을 이벤트 스트림으로 전달 (title -> delta... -> done | error)
+    @PostMapping(value = "/boards/{boardId}/posts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPost(@PathVariable("boardId") Long boardId,
+                                 @Valid @RequestBody PostCreateRequest postCreateRequest) {
+        return SseEmitters.from(postService.streamPost(boardId, postCreateRequest), aiClientProperties.getTimeout().getStreamTotal());
     }
 
     // TODO: 게시글 수정
 
     // TODO: 게시글 삭제
 
+    // 조회수는 메모리에 모았다가 주기적으로 반영 (응답에는 반영 전 증가분 포함)
     @GetMapping("/posts/{postId}")
     public ResponseEntity<?> getPostInfo(@PathVariable("postId") Long postId) {
         return ResponseEntity.ok(
                 CommonResponse.<PostInfoResponse>builder()
                         .successOrNot(CommonConstant.YES_FLAG)
                         .statusCode(CommonStatus.SUCCESS)
-                        .data(postService.getPostInfo(postId))
+                        .data(postViewCounter.recordView(postService.getPostInfo(postId)))
                         .build());
     }
 
-    // 특정 클론이 작성한 게시글들
+    // 특정 클론이 작성한 게시글들 (최신순, 다음 페이지는 응답의 nextCursor 로 조회)
     @GetMapping(value = "/clones/{cloneId}/posts", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> getPostsByCloneId(@PathVariable("cloneId") Long cloneId) {
+    public ResponseEntity<?> getPostsByCloneId(@PathVariable("cloneId") Long cloneId,
+                                               @RequestParam(name = "cursor", required = false) String cursor,
+                                               @RequestParam(name = "size", required = false) Integer size) {
         return ResponseEntity.ok(
-                CommonResponse.<List<PostInfoResponse>>builder()
+                CommonResponse.<CursorPageResponse<PostInfoResponse>>builder()
                         .successOrNot(CommonConstant.YES_FLAG)
                         .statusCode(CommonStatus.SUCCESS)
-                        .data(postService.getPostsInClone(cloneId))
+                        .data(postService.getPostsInClone(cloneId, cursor, size))
                         .build());
     }
 
-    // 특정 게시판에 등록되어 있는 게시글들
+    // 특정 게시판에 등록되어 있는 게시글들 (최신순, 다음 페이지는 응답의 nextCursor 로 조회)
     @GetMapping("/boards/{boardId}/posts")
-    public ResponseEntity<?> getPostsByBoardId(@PathVariable("boardId") Long boardId) {
+    public ResponseEntity<?> getPostsByBoardId(@PathVariable("boardId") Long boardId,
+                                               @RequestParam(name = "cursor", required = false) String cursor,
+                                               @RequestParam(name = "size", required = false) Integer size) {
         return ResponseEntity.ok(
-                CommonResponse.<List<PostInfoResponse>>builder()
+                CommonResponse.<CursorPageResponse<PostInfoResponse>>builder()
                         .successOrNot(CommonConstant.YES_FLAG)
                         .statusCode(CommonStatus.SUCCESS)
-                        .data(postService.getPostsInBoard(boardId))
+                        .data(postService.getPostsInBoard(boardId, cursor, size))
                         .build());
     }
 
@@ -0,0 +1,28 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AiPostBatchCloneRequest {
+
+    @JsonProperty("cloneId")
+    private Long cloneId;
+
+    @JsonProperty("clone_description")
+    private String cloneDescription;
+
+    @JsonProperty("post_history")
+    private List<PostInfoResponseForAi> postHistory;
+
+    @JsonProperty("reply_history")
+    private List<ReplyInfoResponseForAi> replyHistory;
+
+    // 마지막 요약까지의 누적 활동 요약 (이력에는 요약 이후 작성분만 포함)
+    @JsonProperty("memory_summary")
+    private String memorySummary;
+
+}
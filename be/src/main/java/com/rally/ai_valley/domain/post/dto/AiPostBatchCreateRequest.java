@@ -0,0 +1,17 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AiPostBatchCreateRequest {
+
+    @JsonProperty("board_description")
+    private String boardDescription;
+
+    @JsonProperty("clones")
+    private List<AiPostBatchCloneRequest> clones;
+
+}
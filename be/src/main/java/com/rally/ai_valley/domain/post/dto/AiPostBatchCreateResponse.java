@@ -0,0 +1,14 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AiPostBatchCreateResponse {
+
+    @JsonProperty("posts")
+    private List<AiPostBatchPostResponse> posts;
+
+}
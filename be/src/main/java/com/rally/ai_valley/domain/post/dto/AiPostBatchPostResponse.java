@@ -0,0 +1,18 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class AiPostBatchPostResponse {
+
+    @JsonProperty("cloneId")
+    private Long cloneId;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("content")
+    private String content;
+
+}
@@ -21,6 +21,10 @@ public class AiPostCreateRequest {
     @JsonProperty("reply_history")
     private List<ReplyInfoResponseForAi> replyHistory;
 
+    // 마지막 요약까지의 누적 활동 요약 (이력에는 요약 이후 작성분만 포함)
+    @JsonProperty("memory_summary")
+    private String memorySummary;
+
     @JsonProperty("board_description")
     private String boardDescription;
 
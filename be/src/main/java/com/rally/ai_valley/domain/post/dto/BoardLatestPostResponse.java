@@ -0,0 +1,14 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BoardLatestPostResponse {
+
+    private Long boardId;
+
+    private Long postId;
+
+}
@@ -0,0 +1,14 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PostBatchCreateRequest {
+
+    @NotEmpty(message = "클론 ID 목록은 비어있을 수 없습니다.")
+    private List<Long> cloneIds;
+
+}
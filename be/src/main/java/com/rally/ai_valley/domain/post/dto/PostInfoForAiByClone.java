@@ -0,0 +1,16 @@
+package com.rally.ai_valley.domain.post.dto;
+
+// 여러 클론의 최근 / 유사 게시글을 한 번에 조회할 때 사용하는 네이티브 쿼리 프로젝션
+public interface PostInfoForAiByClone {
+
+    Long getCloneId();
+
+    Long getPostId();
+
+    String getBoardName();
+
+    String getPostTitle();
+
+    String getPostContent();
+
+}
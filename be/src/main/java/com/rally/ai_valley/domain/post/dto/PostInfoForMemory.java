@@ -0,0 +1,14 @@
+package com.rally.ai_valley.domain.post.dto;
+
+// 클론 요약에 합칠 게시글 (마지막 요약 이후 작성분) 네이티브 쿼리 프로젝션
+public interface PostInfoForMemory {
+
+    Long getPostId();
+
+    String getBoardName();
+
+    String getPostTitle();
+
+    String getPostContent();
+
+}
@@ -52,4 +52,10 @@ public class PostInfoResponse {
                 .build();
     }
 
+    // 조회수만 바꾼 복사본 (캐시에 저장된 응답 객체를 변경하지 않도록)
+    public PostInfoResponse withPostViewCount(Long postViewCount) {
+        return new PostInfoResponse(postId, boardId, cloneId, boardName, cloneName,
+                postTitle, postContent, postViewCount, createdAt, updatedAt);
+    }
+
 }
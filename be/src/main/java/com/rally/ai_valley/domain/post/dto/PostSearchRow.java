@@ -0,0 +1,29 @@
+package com.rally.ai_valley.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 동기화용 조회 결과 (게시판 / 클론 이름 포함, 본문은 최대 길이까지)
+@Getter
+@AllArgsConstructor
+public class PostSearchRow {
+
+    private Long postId;
+
+    private Long boardId;
+
+    private String boardName;
+
+    private Long cloneId;
+
+    private String cloneName;
+
+    private String title;
+
+    private String content;
+
+    private LocalDateTime createdAt;
+
+}
@@ -33,7 +33,8 @@ public class Post extends BaseEntity {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 PostViewCounter 가 JDBC 로 누적 반영하므로 엔티티에서는 수정하지 않음 (변경 감지로 덮어쓰지 않도록)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Long viewCount;
 
     @Column(name = "is_deleted", nullable = false)
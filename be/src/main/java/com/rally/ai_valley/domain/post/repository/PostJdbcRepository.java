@@ -0,0 +1,78 @@
+package com.rally.ai_valley.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// IDENTITY 전략에서는 Hibernate 배치 INSERT가 동작하지 않으므로 JDBC 배치로 직접 저장
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+    private static final String INSERT_POST_SQL = """
+            INSERT INTO posts (board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+            VALUES (:boardId, :cloneId, :title, :content, 0, 0, :createdAt, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+
+    // 저장된 게시글 ID를 입력 순서대로 반환
+    public List<Long> batchInsert(List<PostInsertRow> rows) {
+        SqlParameterSource[] batchArgs = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("boardId", row.boardId())
+                        .addValue("cloneId", row.cloneId())
+                        .addValue("title", row.title())
+                        .addValue("content", row.content())
+                        .addValue("createdAt", Timestamp.valueOf(row.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_POST_SQL, batchArgs, keyHolder, new String[]{"id"});
+
+        // 드라이버마다 키 컬럼명이 다름 (MySQL: GENERATED_KEY, H2: ID)
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    // 여러 게시글의 조회수 증가분을 한 번의 UPDATE 로 반영 (updatedAt 은 변경하지 않음)
+    // 값이 모두 long 이라 SQL 에 직접 넣음 (CASE 안의 바인딩 파라미터는 H2 에서 타입을 추론하지 못함)
+    public int increaseViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder caseClause = new StringBuilder();
+        StringJoiner ids = new StringJoiner(", ");
+        deltas.forEach((postId, delta) -> {
+            caseClause.append(" WHEN ").append(postId.longValue()).append(" THEN ").append(delta.longValue());
+            ids.add(String.valueOf(postId.longValue()));
+        });
+
+        String sql = "UPDATE posts SET view_count = view_count + CASE id" + caseClause + " ELSE 0 END"
+                + " WHERE id IN (" + ids + ")";
+        return namedParameterJdbcTemplate.getJdbcTemplate().update(sql);
+    }
+
+    // 게시글 조회수 (삭제 여부와 관계없이, 없으면 0)
+    public long findViewCount(Long postId) {
+        List<Long> viewCounts = namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForList("SELECT view_count FROM posts WHERE id = ?", Long.class, postId);
+        return viewCounts.isEmpty() || viewCounts.get(0) == null ? 0L : viewCounts.get(0);
+    }
+
+    public record PostInsertRow(Long boardId, Long cloneId, String title, String content, LocalDateTime createdAt) {
+    }
+
+}
@@ -1,13 +1,19 @@
 package com.rally.ai_valley.domain.post.repository;
 
+import com.rally.ai_valley.domain.post.dto.BoardLatestPostResponse;
+import com.rally.ai_valley.domain.post.dto.PostInfoForAiByClone;
+import com.rally.ai_valley.domain.post.dto.PostInfoForMemory;
 import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
-import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.post.dto.PostSearchRow;
 import com.rally.ai_valley.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +40,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         """)
     PostInfoResponse findPostByPostId(@Param("postId") Long postId);
 
+    // 키셋 페이지네이션: (createdAt, id) 내림차순, 조회 개수는 Pageable 로 제한
     @Query("""
             SELECT new com.rally.ai_valley.domain.post.dto.PostInfoResponse(
                 p.id, b.id, c.id, b.name, c.name, p.title, p.content, p.viewCount, p.createdAt, p.updatedAt
@@ -43,8 +50,39 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             JOIN p.clone c
             WHERE b.id = :boardId
                 AND p.isDeleted = 0
+            ORDER BY p.createdAt DESC, p.id DESC
         """)
-    List<PostInfoResponse> findPostsByBoardId(@Param("boardId") Long boardId);
+    List<PostInfoResponse> findPostsByBoardIdFirstPage(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.rally.ai_valley.domain.post.dto.PostInfoResponse(
+                p.id, b.id, c.id, b.name, c.name, p.title, p.content, p.viewCount, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.board b
+            JOIN p.clone c
+            WHERE b.id = :boardId
+                AND p.isDeleted = 0
+                AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    List<PostInfoResponse> findPostsByBoardIdAfterCursor(@Param("boardId") Long boardId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query("""
+            SELECT new com.rally.ai_valley.domain.post.dto.PostInfoResponse(
+                p.id, b.id, c.id, b.name, c.name, p.title, p.content, p.viewCount, p.createdAt, p.updatedAt
+            )
+            FROM Post p
+            JOIN p.board b
+            JOIN p.clone c
+            WHERE c.id = :cloneId
+                AND p.isDeleted = 0
+            ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    List<PostInfoResponse> findPostsByCloneIdFirstPage(@Param("cloneId") Long cloneId, Pageable pageable);
 
     @Query("""
             SELECT new com.rally.ai_valley.domain.post.dto.PostInfoResponse(
@@ -55,19 +93,114 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             JOIN p.clone c
             WHERE c.id = :cloneId
                 AND p.isDeleted = 0
+                AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
         """)
-    List<PostInfoResponse> findPostsByCloneId(@Param("cloneId") Long cloneId);
+    List<PostInfoResponse> findPostsByCloneIdAfterCursor(@Param("cloneId") Long cloneId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    // 클론별 최근 게시글 N개를 한 번의 쿼리로 조회 (AI 이력 후보, 클론별 최신순)
+    // 본문은 maxContentLength 글자까지만 읽어 긴 TEXT 전체를 가져오지 않음
+    // 요약(clone_memories)에 이미 반영된 게시글은 제외
+    @Query(value = """
+           SELECT h.clone_id AS cloneId, h.id AS postId, h.board_name AS boardName, h.title AS postTitle, h.content AS postContent
+           FROM (
+               SELECT p.clone_id, p.id, b.name AS board_name, p.title, SUBSTRING(p.content, 1, :maxContentLength) AS content,
+                      ROW_NUMBER() OVER (PARTITION BY p.clone_id ORDER BY p.created_at DESC, p.id DESC) AS rn
+               FROM posts p
+               JOIN boards b ON b.id = p.board_id
+               LEFT JOIN clone_memories m ON m.clone_id = p.clone_id
+               WHERE p.clone_id IN (:cloneIds)
+                  AND p.is_deleted = 0
+                  AND p.id > COALESCE(m.last_post_id, 0)
+           ) h
+           WHERE h.rn <= :limit
+           ORDER BY h.clone_id, h.rn
+           """, nativeQuery = true)
+    List<PostInfoForAiByClone> findRecentPostsByCloneIdsForAi(@Param("cloneIds") Collection<Long> cloneIds,
+                                                              @Param("limit") int limit,
+                                                              @Param("maxContentLength") int maxContentLength);
 
+    // 임베딩 인덱스에서 찾은 유사 게시글 (최근 이력 후보 밖의 과거 글)
+    @Query(value = """
+           SELECT p.clone_id AS cloneId, p.id AS postId, b.name AS boardName, p.title AS postTitle,
+                  SUBSTRING(p.content, 1, :maxContentLength) AS postContent
+           FROM posts p
+           JOIN boards b ON b.id = p.board_id
+           WHERE p.id IN (:postIds)
+              AND p.is_deleted = 0
+           """, nativeQuery = true)
+    List<PostInfoForAiByClone> findPostsForAiByIds(@Param("postIds") Collection<Long> postIds,
+                                                   @Param("maxContentLength") int maxContentLength);
+
+    // 임베딩 인덱스 적재: afterPostId 이후 게시글을 ID 순서로 limit 개 (키셋 페이지)
+    @Query(value = """
+           SELECT p.clone_id AS cloneId, p.id AS postId, b.name AS boardName, p.title AS postTitle,
+                  SUBSTRING(p.content, 1, :maxContentLength) AS postContent
+           FROM posts p
+           JOIN boards b ON b.id = p.board_id
+           WHERE p.id > :afterPostId
+              AND p.is_deleted = 0
+           ORDER BY p.id
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<PostInfoForAiByClone> findPostsForIndexAfterId(@Param("afterPostId") Long afterPostId,
+                                                        @Param("limit") int limit,
+                                                        @Param("maxContentLength") int maxContentLength);
+
+    // 클론 요약: 마지막 요약 이후 createdBefore 까지 작성한 게시글 (오래된 순 최대 limit 개, 나머지는 다음 요약에서 이어서 조회)
+    @Query(value = """
+           SELECT p.id AS postId, b.name AS boardName, p.title AS postTitle,
+                  SUBSTRING(p.content, 1, :maxContentLength) AS postContent
+           FROM posts p
+           JOIN boards b ON b.id = p.board_id
+           WHERE p.clone_id = :cloneId
+              AND p.is_deleted = 0
+              AND p.id > :afterPostId
+              AND p.created_at <= :createdBefore
+           ORDER BY p.id
+           LIMIT :limit
+           """, nativeQuery = true)
+    List<PostInfoForMemory> findPostsByCloneIdForMemory(@Param("cloneId") Long cloneId,
+                                                        @Param("afterPostId") Long afterPostId,
+                                                        @Param("createdBefore") LocalDateTime createdBefore,
+                                                        @Param("limit") int limit,
+                                                        @Param("maxContentLength") int maxContentLength);
+
+    // 검색 색인 동기화: afterPostId 이후 게시글을 ID 순서로 (키셋 페이지)
     @Query("""
-           SELECT new com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi(b.name, p.title, p.content)
+           SELECT new com.rally.ai_valley.domain.post.dto.PostSearchRow(p.id, b.id, b.name, c.id, c.name, p.title,
+                  SUBSTRING(p.content, 1, :maxContentLength), p.createdAt)
            FROM Post p
            JOIN p.board b
            JOIN p.clone c
-           WHERE c.id = :cloneId
+           WHERE p.id > :afterPostId
+              AND p.isDeleted = 0
+           ORDER BY p.id
+           """)
+    List<PostSearchRow> findPostsForSearchAfterId(@Param("afterPostId") Long afterPostId,
+                                                  @Param("maxContentLength") int maxContentLength,
+                                                  Pageable pageable);
+
+    // 시뮬레이션: 마지막 틱 이후 게시글이 작성된 게시판
+    @Query("""
+           SELECT DISTINCT p.board.id
+           FROM Post p
+           WHERE p.createdAt > :since
+              AND p.isDeleted = 0
+           """)
+    List<Long> findBoardIdsWithPostsCreatedAfter(@Param("since") LocalDateTime since);
+
+    // 시뮬레이션: 게시판별 가장 최근 게시글 (댓글 대상)
+    @Query("""
+           SELECT new com.rally.ai_valley.domain.post.dto.BoardLatestPostResponse(p.board.id, MAX(p.id))
+           FROM Post p
+           WHERE p.board.id IN :boardIds
               AND p.isDeleted = 0
-           ORDER BY p.createdAt DESC
-           LIMIT 3
+           GROUP BY p.board.id
            """)
-    List<PostInfoResponseForAi> findPostsByCloneIdForAi(@Param("cloneId") Long cloneId);
+    List<BoardLatestPostResponse> findLatestPostIdsByBoardIds(@Param("boardIds") Collection<Long> boardIds);
 
-}
\ No newline at end of file
+}
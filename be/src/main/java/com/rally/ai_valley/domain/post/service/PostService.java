@@ -1,26 +1,52 @@
 package com.rally.ai_valley.domain.post.service;
 
+import com.rally.ai_valley.common.ai.context.AiContext;
+import com.rally.ai_valley.common.ai.context.AiContextBuilder;
+import com.rally.ai_valley.common.ai.dto.AiStreamChunk;
 import com.rally.ai_valley.common.ai.service.AiService;
+import com.rally.ai_valley.common.ai.vector.HistoryVectorIndex;
+import com.rally.ai_valley.common.config.CacheConfig;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
 import com.rally.ai_valley.common.exception.CustomException;
 import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.common.exception.ErrorResponse;
+import com.rally.ai_valley.common.metrics.GenerationMetrics;
+import com.rally.ai_valley.common.utility.CursorCodec;
 import com.rally.ai_valley.domain.board.entity.Board;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
 import com.rally.ai_valley.domain.board.repository.BoardRepository;
 import com.rally.ai_valley.domain.clone.entity.Clone;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryJdbcRepository;
 import com.rally.ai_valley.domain.clone.repository.CloneRepository;
-import com.rally.ai_valley.domain.post.dto.AiPostCreateResponse;
-import com.rally.ai_valley.domain.post.dto.PostCreateRequest;
-import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
-import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.post.dto.*;
 import com.rally.ai_valley.domain.post.entity.Post;
+import com.rally.ai_valley.domain.post.repository.PostJdbcRepository;
+import com.rally.ai_valley.domain.post.repository.PostJdbcRepository.PostInsertRow;
 import com.rally.ai_valley.domain.post.repository.PostRepository;
-import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
-import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.service.SearchIndexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,10 +54,22 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final ReplyRepository replyRepository;
+    private final PostJdbcRepository postJdbcRepository;
     private final BoardRepository boardRepository;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
     private final CloneRepository cloneRepository;
+    private final CloneMemoryJdbcRepository cloneMemoryJdbcRepository;
     private final AiService aiService;
+    private final AiContextBuilder aiContextBuilder;
+    private final HistoryVectorIndex historyVectorIndex;
+    private final SearchIndexer searchIndexer;
+    private final PostViewCounter postViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final GenerationMetrics generationMetrics;
+
+    @Value("${post.batch.max-size:20}")
+    private int batchMaxSize;
 
     @Transactional(readOnly = true)
     public Post getPostById(Long postId) {
@@ -39,49 +77,274 @@ public class PostService {
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND, "게시글 ID " + postId + "를 찾을 수 없습니다."));
     }
 
-    @Transactional
-    public PostInfoResponse createPost(Long boardId, PostCreateRequest postCreateRequest) {
+    // 1) 짧은 읽기 전용 트랜잭션으로 컨텍스트 조회 -> 2) 커넥션 없이 AI 호출 -> 3) 짧은 쓰기 트랜잭션으로 저장
+    public CompletableFuture<PostInfoResponse> createPost(Long boardId, PostCreateRequest postCreateRequest) {
+        PostGenerationContext context = generationMetrics.recordRead(GenerationMetrics.TYPE_POST,
+                () -> readOnlyTransactionTemplate.execute(status -> readPostGenerationContext(boardId, postCreateRequest.getCloneId())));
+
+        // AI 서버에서 생성된 Post 정보로받기
+        return generationMetrics.recordAi(GenerationMetrics.TYPE_POST, aiService.AiCreatePost(
+                        context.clone().getId(),
+                        context.clone().getDescription(),
+                        context.aiContext().postHistory(),
+                        context.aiContext().replyHistory(),
+                        context.aiContext().memorySummary(),
+                        context.board().getDescription()))
+                .publishOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                .map(aiPostCreateResponse -> generationMetrics.recordPersist(GenerationMetrics.TYPE_POST,
+                        () -> transactionTemplate.execute(status -> savePost(context, aiPostCreateResponse))))
+                .toFuture();
+    }
+
+    private PostGenerationContext readPostGenerationContext(Long boardId, Long cloneId) {
         Board findBoard = boardRepository.findBoardById(boardId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
-        Clone findClone = cloneRepository.findCloneById(postCreateRequest.getCloneId())
+        Clone findClone = cloneRepository.findCloneById(cloneId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CLONE_NOT_FOUND));
-        List<PostInfoResponseForAi> findPosts = postRepository.findPostsByCloneIdForAi(postCreateRequest.getCloneId());
         // TODO: 댓글만 줘야하나, 게시글과 댓글 매핑해서 줘야하나. -> 포스트 중의 댓글을 내 것으로만 가져가던가 vs. 그냥 내 아이디로만 순수하게 댓글 가져오기 -> 우선 내가 쓴 댓글들만 가져오자.
-        List<ReplyInfoResponseForAi> findReplies = replyRepository.findRepliesByCloneIdForAi(postCreateRequest.getCloneId());
+        AiContext aiContext = aiContextBuilder.build(cloneId, generationTarget(findBoard));
 
-        // AI 서버에서 생성된 Post 정보로받기
-        AiPostCreateResponse aiPostCreateResponse = aiService.AiCreatePost(
-                findClone.getId(),
-                findClone.getDescription(),
-                findPosts,
-                findReplies,
-                findBoard.getDescription()
-        );
+        return new PostGenerationContext(findBoard, findClone, aiContext);
+    }
 
+    private PostInfoResponse savePost(PostGenerationContext context, AiPostCreateResponse aiPostCreateResponse) {
         // AI가 생성한 내용으 Post 생성
-        Post post = Post.create(findBoard,
-                findClone,
+        Post post = Post.create(context.board(),
+                context.clone(),
                 aiPostCreateResponse.getTitle(),
                 aiPostCreateResponse.getContent());
 
         Post savePost = postRepository.save(post);
+        boardCounterJdbcRepository.increasePostCount(context.board().getId(), 1);
+        cloneMemoryJdbcRepository.increasePendingCount(context.clone().getId(), 1);
+        aiContextBuilder.evictAfterCommit(context.clone().getId());
+        historyVectorIndex.addPostAfterCommit(savePost.getId(), context.clone().getId(), savePost.getTitle(), savePost.getContent());
+        searchIndexer.indexAfterCommit(new SearchDocument(SearchDocument.TYPE_POST, savePost.getId(), savePost.getId(),
+                context.board().getId(), context.board().getName(), context.clone().getId(), context.clone().getName(),
+                savePost.getTitle(), savePost.getContent(), savePost.getCreatedAt()));
+
+        return PostInfoResponse.fromEntity(savePost, context.board(), context.clone());
+    }
+
+    // 스트리밍 생성: AI 이벤트(title / delta)를 그대로 전달하고, AI 스트림이 끝나면 누적된 글을 저장한 뒤 done 이벤트 전송
+    // 클라이언트가 중간에 연결을 끊으면 AI 호출도 함께 취소되고 저장하지 않음
+    public Flux<ServerSentEvent<Object>> streamPost(Long boardId, PostCreateRequest postCreateRequest) {
+        return Mono.fromCallable(() -> generationMetrics.recordRead(GenerationMetrics.TYPE_POST,
+                        () -> readOnlyTransactionTemplate.execute(status -> readPostGenerationContext(boardId, postCreateRequest.getCloneId()))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(context -> {
+                    AiPostCreateResponse generatedPost = new AiPostCreateResponse();
+                    StringBuilder content = new StringBuilder();
+
+                    Flux<ServerSentEvent<Object>> chunks = generationMetrics.recordAiStream(GenerationMetrics.TYPE_POST, aiService.AiStreamPost(
+                                    context.clone().getId(),
+                                    context.clone().getDescription(),
+                                    context.aiContext().postHistory(),
+                                    context.aiContext().replyHistory(),
+                                    context.aiContext().memorySummary(),
+                                    context.board().getDescription()))
+                            .doOnNext(event -> {
+                                String text = event.data() != null ? event.data().getText() : "";
+                                if (AiStreamChunk.EVENT_TITLE.equals(event.event())) {
+                                    generatedPost.setTitle(text);
+                                } else if (AiStreamChunk.EVENT_DELTA.equals(event.event())) {
+                                    content.append(text);
+                                }
+                            })
+                            .map(event -> ServerSentEvent.<Object>builder(event.data()).event(event.event()).build());
+
+                    Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> {
+                                generatedPost.setContent(content.toString());
+                                return generationMetrics.recordPersist(GenerationMetrics.TYPE_POST,
+                                        () -> transactionTemplate.execute(status -> savePost(context, generatedPost)));
+                            })
+                            .subscribeOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                            .map(postInfoResponse -> ServerSentEvent.<Object>builder(postInfoResponse).event(AiStreamChunk.EVENT_DONE).build());
+
+                    return chunks.concatWith(done);
+                })
+                .onErrorResume(error -> Mono.just(toErrorEvent(error)));
+    }
+
+    // 스트림 시작 후에는 상태 코드를 바꿀 수 없으므로 오류도 이벤트로 전달
+    private ServerSentEvent<Object> toErrorEvent(Throwable error) {
+        ErrorResponse errorResponse = error instanceof CustomException customException
+                ? new ErrorResponse(customException.getErrorCode().name(), customException.getMessage())
+                : new ErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR.name(), "게시글 생성 중 오류가 발생했습니다.");
+        log.warn("게시글 스트리밍 생성 실패: {}", error.getMessage());
+
+        return ServerSentEvent.<Object>builder(errorResponse).event(AiStreamChunk.EVENT_ERROR).build();
+    }
+
+    // 여러 클론이 한 게시판에 글 작성: 컨텍스트 일괄 조회 -> AI 서버 1회 호출 -> JDBC 배치 저장
+    public CompletableFuture<List<PostInfoResponse>> createPostsBatch(Long boardId, PostBatchCreateRequest postBatchCreateRequest) {
+        List<Long> cloneIds = postBatchCreateRequest.getCloneIds().stream().distinct().toList();
+        if (cloneIds.size() > batchMaxSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "배치 생성은 최대 " + batchMaxSize + "개의 클론까지 가능합니다.");
+        }
+
+        PostBatchGenerationContext context = generationMetrics.recordRead(GenerationMetrics.TYPE_POST_BATCH,
+                () -> readOnlyTransactionTemplate.execute(status -> readPostBatchGenerationContext(boardId, cloneIds)));
+
+        return generationMetrics.recordAi(GenerationMetrics.TYPE_POST_BATCH,
+                        aiService.AiCreatePostBatch(toAiPostBatchCreateRequest(context)))
+                .publishOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                .map(aiPostBatchCreateResponse -> generationMetrics.recordPersist(GenerationMetrics.TYPE_POST_BATCH,
+                        () -> transactionTemplate.execute(status -> savePostsBatch(context, aiPostBatchCreateResponse))))
+                .toFuture();
+    }
+
+    // 클론/이력 조회를 클론 수와 무관하게 최대 3번의 쿼리로 처리 (이력은 캐시에 없는 클론만 조회)
+    private PostBatchGenerationContext readPostBatchGenerationContext(Long boardId, List<Long> cloneIds) {
+        Board findBoard = boardRepository.findBoardById(boardId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+
+        Map<Long, Clone> findClones = cloneRepository.findClonesByIds(cloneIds).stream()
+                .collect(Collectors.toMap(Clone::getId, Function.identity()));
+        if (findClones.size() != cloneIds.size()) {
+            throw new CustomException(ErrorCode.CLONE_NOT_FOUND);
+        }
+
+        Map<Long, AiContext> aiContexts = aiContextBuilder.buildAll(cloneIds, generationTarget(findBoard));
+
+        List<Clone> orderedClones = cloneIds.stream().map(findClones::get).toList();
+
+        return new PostBatchGenerationContext(findBoard, orderedClones, aiContexts);
+    }
 
-        return PostInfoResponse.fromEntity(savePost, findBoard, findClone);
+    // 게시글 생성 대상: 이력 선택 시 게시판 주제와 관련된 글을 우선
+    private String generationTarget(Board board) {
+        return board.getName() + " " + (board.getDescription() != null ? board.getDescription() : "");
     }
 
+    private AiPostBatchCreateRequest toAiPostBatchCreateRequest(PostBatchGenerationContext context) {
+        List<AiPostBatchCloneRequest> cloneRequests = context.clones().stream()
+                .map(clone -> {
+                    AiPostBatchCloneRequest cloneRequest = new AiPostBatchCloneRequest();
+                    cloneRequest.setCloneId(clone.getId());
+                    cloneRequest.setCloneDescription(clone.getDescription());
+                    AiContext aiContext = context.aiContexts().get(clone.getId());
+                    cloneRequest.setPostHistory(aiContext.postHistory());
+                    cloneRequest.setReplyHistory(aiContext.replyHistory());
+                    cloneRequest.setMemorySummary(aiContext.memorySummary());
+                    return cloneRequest;
+                })
+                .toList();
+
+        AiPostBatchCreateRequest request = new AiPostBatchCreateRequest();
+        request.setBoardDescription(context.board().getDescription());
+        request.setClones(cloneRequests);
+        return request;
+    }
+
+    private List<PostInfoResponse> savePostsBatch(PostBatchGenerationContext context, AiPostBatchCreateResponse aiPostBatchCreateResponse) {
+        if (aiPostBatchCreateResponse.getPosts() == null || aiPostBatchCreateResponse.getPosts().isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Clone> clonesById = context.clones().stream()
+                .collect(Collectors.toMap(Clone::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 요청하지 않은 클론의 결과는 무시하고, 같은 클론의 결과가 여러 개면 첫 번째만 저장 (클론당 최대 1개)
+        List<AiPostBatchPostResponse> requestedPosts = aiPostBatchCreateResponse.getPosts().stream()
+                .filter(generatedPost -> clonesById.containsKey(generatedPost.getCloneId()))
+                .toList();
+        List<AiPostBatchPostResponse> generatedPosts = List.copyOf(requestedPosts.stream()
+                .collect(Collectors.toMap(AiPostBatchPostResponse::getCloneId, Function.identity(),
+                        (first, duplicate) -> first, LinkedHashMap::new))
+                .values());
+        if (generatedPosts.size() < requestedPosts.size()) {
+            log.warn("배치 생성 응답의 중복 클론 결과 무시 - Board ID: {}, Duplicates: {}",
+                    context.board().getId(), requestedPosts.size() - generatedPosts.size());
+        }
+        List<PostInsertRow> rows = generatedPosts.stream()
+                .map(generatedPost -> new PostInsertRow(context.board().getId(),
+                        generatedPost.getCloneId(),
+                        generatedPost.getTitle(),
+                        generatedPost.getContent(),
+                        now))
+                .toList();
+        List<Long> postIds = postJdbcRepository.batchInsert(rows);
+        boardCounterJdbcRepository.increasePostCount(context.board().getId(), postIds.size());
+        rows.stream()
+                .collect(Collectors.groupingBy(PostInsertRow::cloneId, Collectors.counting()))
+                .forEach((cloneId, count) -> {
+                    cloneMemoryJdbcRepository.increasePendingCount(cloneId, count.intValue());
+                    aiContextBuilder.evictAfterCommit(cloneId);
+                });
+
+        List<PostInfoResponse> postInfoResponses = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            PostInsertRow row = rows.get(i);
+            historyVectorIndex.addPostAfterCommit(postIds.get(i), row.cloneId(), row.title(), row.content());
+            searchIndexer.indexAfterCommit(new SearchDocument(SearchDocument.TYPE_POST, postIds.get(i), postIds.get(i),
+                    row.boardId(), context.board().getName(), row.cloneId(), clonesById.get(row.cloneId()).getName(),
+                    row.title(), row.content(), now));
+            postInfoResponses.add(PostInfoResponse.builder()
+                    .postId(postIds.get(i))
+                    .boardId(row.boardId())
+                    .cloneId(row.cloneId())
+                    .boardName(context.board().getName())
+                    .cloneName(clonesById.get(row.cloneId()).getName())
+                    .postTitle(row.title())
+                    .postContent(row.content())
+                    .postViewCount(0L)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        return postInfoResponses;
+    }
+
+    // 게시글은 생성 후 수정되지 않으므로 클론 변경 시에만 무효화 (CloneService)
+    // 조회수는 계속 바뀌므로 캐시하지 않음 (응답 시 PostViewCounter.recordView 가 따로 조회해 채움)
+    @Cacheable(cacheNames = CacheConfig.POST, key = "#postId", unless = "#result == null")
     @Transactional(readOnly = true)
     public PostInfoResponse getPostInfo(Long postId) {
-        return postRepository.findPostByPostId(postId);
+        PostInfoResponse post = postRepository.findPostByPostId(postId);
+        return post != null ? post.withPostViewCount(null) : null;
     }
 
+    // 키셋 페이지네이션: size + 1 개를 조회해 다음 페이지 여부 판단
     @Transactional(readOnly = true)
-    public List<PostInfoResponse> getPostsInBoard(Long boardId) {
-        return postRepository.findPostsByBoardId(boardId);
+    public CursorPageResponse<PostInfoResponse> getPostsInBoard(Long boardId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        CursorCodec.Cursor decodedCursor = CursorCodec.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostInfoResponse> posts = decodedCursor == null
+                ? postRepository.findPostsByBoardIdFirstPage(boardId, limit)
+                : postRepository.findPostsByBoardIdAfterCursor(boardId, decodedCursor.createdAt(), decodedCursor.id(), limit);
+        postViewCounter.applyPendingViews(posts);
+
+        return CursorPageResponse.of(posts, pageSize, post -> CursorCodec.encode(post.getCreatedAt(), post.getPostId()));
     }
 
     @Transactional(readOnly = true)
-    public List<PostInfoResponse> getPostsInClone(Long cloneId) {
-        return postRepository.findPostsByCloneId(cloneId);
+    public CursorPageResponse<PostInfoResponse> getPostsInClone(Long cloneId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        CursorCodec.Cursor decodedCursor = CursorCodec.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostInfoResponse> posts = decodedCursor == null
+                ? postRepository.findPostsByCloneIdFirstPage(cloneId, limit)
+                : postRepository.findPostsByCloneIdAfterCursor(cloneId, decodedCursor.createdAt(), decodedCursor.id(), limit);
+        postViewCounter.applyPendingViews(posts);
+
+        return CursorPageResponse.of(posts, pageSize, post -> CursorCodec.encode(post.getCreatedAt(), post.getPostId()));
+    }
+
+    // 트랜잭션 사이에서 전달되는 조회 결과 (준영속 엔티티, 식별자/설명만 사용)
+    private record PostGenerationContext(Board board,
+                                         Clone clone,
+                                         AiContext aiContext) {
+    }
+
+    private record PostBatchGenerationContext(Board board,
+                                              List<Clone> clones,
+                                              Map<Long, AiContext> aiContexts) {
     }
 
 }
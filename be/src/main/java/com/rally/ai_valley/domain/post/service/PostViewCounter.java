@@ -0,0 +1,191 @@
+package com.rally.ai_valley.domain.post.service;
+
+import com.rally.ai_valley.common.config.PostViewProperties;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
+import com.rally.ai_valley.domain.post.repository.PostJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수: 조회마다 행 잠금을 잡는 UPDATE 대신 게시글별 LongAdder 에 모았다가 주기적으로 한 번에 반영
+// - 인기 게시글에 조회가 몰려도 요청 스레드는 메모리 증가만 함 (LongAdder 가 스레드별 셀로 나눠 경합 분산)
+// - 응답의 조회수 = DB 값 + 아직 반영되지 않은 증가분
+// - 게시글 캐시에는 조회수를 넣지 않고 응답마다 DB 값을 PK 로 따로 읽음
+//   (반영 직전에 읽혀 캐시에 들어간 이전 값이 반영 후 빠진 증가분과 합쳐져 조회수가 줄어 보이는 문제 방지)
+// - 반영 실패 시 증가분은 그대로 남겨 다음 주기에 다시 반영
+@Service
+@Slf4j
+public class PostViewCounter {
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final TaskScheduler taskScheduler;
+    private final PostViewProperties properties;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+
+    // 맵에서 뺀(조회가 없던) 카운터: 빼기 직전에 카운터를 얻은 요청의 증가분을 다음 반영에서 마저 합산
+    private List<Map.Entry<Long, LongAdder>> retiredViews = List.of();
+
+
+    public PostViewCounter(PostJdbcRepository postJdbcRepository,
+                           TaskScheduler taskScheduler,
+                           PostViewProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        Gauge.builder("post.view.pending", pendingTotal, LongAdder::sum)
+                .description("DB 에 반영되지 않은 게시글 조회수")
+                .register(meterRegistry);
+    }
+
+    // 조회 1회 기록 후 DB 조회수 + 반영 전 증가분을 채운 응답 반환 (캐시된 응답은 공유 객체이므로 복사본에 반영)
+    // DB 값을 증가분보다 먼저 읽어 반영과 겹쳐도 이번 응답만 잠깐 적게 보일 뿐 캐시에 남지 않음
+    public PostInfoResponse recordView(PostInfoResponse post) {
+        if (post == null) {
+            return null;
+        }
+
+        long flushed = postJdbcRepository.findViewCount(post.getPostId());
+        if (!properties.isEnabled()) {
+            return post.withPostViewCount(flushed);
+        }
+
+        increase(post.getPostId());
+        return post.withPostViewCount(flushed + pendingViews(post.getPostId()));
+    }
+
+    // DB 에서 새로 읽은 목록용 (캐시되지 않은 객체이므로 그대로 갱신)
+    public void applyPendingViews(List<PostInfoResponse> posts) {
+        if (!properties.isEnabled() || pendingViews.isEmpty()) {
+            return;
+        }
+        for (PostInfoResponse post : posts) {
+            post.setPostViewCount(viewCount(post));
+        }
+    }
+
+    public long pendingViews(Long postId) {
+        LongAdder views = pendingViews.get(postId);
+        return views != null ? views.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}",
+               initialDelayString = "${post.view.flush-interval-ms:5000}")
+    public void flushPeriodically() {
+        if (flush()) {
+            earlyFlushScheduled.set(false);
+        }
+    }
+
+    // 종료 시 남은 증가분 반영 (DataSource 보다 먼저 정리됨)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 게시글 ID 순서로 나눠 반영 (동시에 다른 UPDATE 와 잠금 순서가 엇갈리지 않도록), 모두 성공하면 true
+    public synchronized boolean flush() {
+        List<PendingDelta> deltas = new ArrayList<>();
+        List<Map.Entry<Long, LongAdder>> nextRetiredViews = new ArrayList<>();
+        // 뒤늦은 증가분이 있던 카운터는 반영이 실패해도 잃지 않도록 한 주기 더 유지
+        for (Map.Entry<Long, LongAdder> retired : retiredViews) {
+            if (collect(deltas, retired.getKey(), retired.getValue())) {
+                nextRetiredViews.add(retired);
+            }
+        }
+        // 이번 주기에 조회가 없던 게시글은 맵에서 빼서 조회된 적 있는 게시글 수만큼 메모리가 늘지 않도록 함
+        pendingViews.forEach((postId, views) -> {
+            if (!collect(deltas, postId, views) && pendingViews.remove(postId, views)) {
+                nextRetiredViews.add(Map.entry(postId, views));
+            }
+        });
+        retiredViews = nextRetiredViews;
+
+        if (deltas.isEmpty()) {
+            return true;
+        }
+
+        deltas.sort((first, second) -> Long.compare(first.postId(), second.postId()));
+        for (int from = 0; from < deltas.size(); from += properties.getFlushBatchSize()) {
+            List<PendingDelta> batch = deltas.subList(from, Math.min(from + properties.getFlushBatchSize(), deltas.size()));
+            try {
+                postJdbcRepository.increaseViewCounts(toDeltaMap(batch));
+            } catch (Exception e) {
+                log.warn("게시글 조회수 반영 실패 - Posts: {}, Reason: {}", deltas.size() - from, e.getMessage());
+                return false;
+            }
+            applied(batch);
+        }
+        return true;
+    }
+
+    private void increase(Long postId) {
+        LongAdder views = pendingViews.get(postId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        views.increment();
+        pendingTotal.increment();
+
+        if (pendingTotal.sum() >= properties.getMaxPendingViews() && earlyFlushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flushEarly, Instant.now());
+        }
+    }
+
+    // 실패 시 플래그를 남겨 DB 장애 동안 조회마다 반영을 다시 시도하지 않도록 함 (주기 반영이 성공하면 해제)
+    private void flushEarly() {
+        if (flush()) {
+            earlyFlushScheduled.set(false);
+        }
+    }
+
+    private long viewCount(PostInfoResponse post) {
+        long flushed = post.getPostViewCount() != null ? post.getPostViewCount() : 0L;
+        return flushed + pendingViews(post.getPostId());
+    }
+
+    private static boolean collect(List<PendingDelta> deltas, Long postId, LongAdder views) {
+        long delta = views.sum();
+        if (delta == 0) {
+            return false;
+        }
+        deltas.add(new PendingDelta(postId, views, delta));
+        return true;
+    }
+
+    private static Map<Long, Long> toDeltaMap(List<PendingDelta> batch) {
+        Map<Long, Long> deltaMap = new LinkedHashMap<>();
+        for (PendingDelta pending : batch) {
+            deltaMap.merge(pending.postId(), pending.delta(), Long::sum);
+        }
+        return deltaMap;
+    }
+
+    // 반영한 만큼만 뺌 (반영 중에 늘어난 조회수는 남김)
+    private void applied(List<PendingDelta> batch) {
+        for (PendingDelta pending : batch) {
+            pending.views().add(-pending.delta());
+            pendingTotal.add(-pending.delta());
+        }
+    }
+
+    private record PendingDelta(Long postId, LongAdder views, long delta) {
+    }
+
+}
@@ -1,11 +1,18 @@
 package com.rally.ai_valley.domain.reply.controller;
 
+import com.rally.ai_valley.common.config.AiClientProperties;
 import com.rally.ai_valley.common.constant.CommonConstant;
 import com.rally.ai_valley.common.constant.CommonStatus;
 import com.rally.ai_valley.common.entity.CommonResponse;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.common.idempotency.IdempotencyService;
+import com.rally.ai_valley.common.utility.SseEmitters;
 import com.rally.ai_valley.domain.auth.Service.AuthService;
+import com.rally.ai_valley.domain.generation.dto.GenerationJobResponse;
+import com.rally.ai_valley.domain.generation.service.GenerationJobService;
 import com.rally.ai_valley.domain.reply.dto.ReplyCreateRequest;
 import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse;
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadResponse;
 import com.rally.ai_valley.domain.reply.service.ReplyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -23,16 +32,56 @@ import java.util.List;
 public class ReplyController {
 
     private final ReplyService replyService;
+    private final GenerationJobService generationJobService;
+    private final IdempotencyService idempotencyService;
     private final AuthService authService;
+    private final AiClientProperties aiClientProperties;
 
+    // 동기 / async=true 모두 생성 작업 큐의 동시 실행 수 / 대기 한도를 공유 (가득 차면 429)
+    // async=true 이면 생성 작업만 큐에 등록하고 202 + 작업 ID 반환 (GET /generation-jobs/{jobId} 로 상태 조회)
+    // Idempotency-Key 헤더가 있으면 같은 키의 재요청에 저장된 응답을 반환
     @PostMapping(value = "/posts/{postId}/replies", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> createReply(@PathVariable("postId") Long postId, @Valid @RequestBody ReplyCreateRequest replyCreateRequest) {
-        return ResponseEntity.ok(
-                CommonResponse.<Long>builder()
-                        .successOrNot(CommonConstant.YES_FLAG)
-                        .statusCode(CommonStatus.SUCCESS)
-                        .data(replyService.createReply(postId, replyCreateRequest))
-                        .build());
+    public CompletableFuture<ResponseEntity<?>> createReply(@PathVariable("postId") Long postId,
+                                                            @RequestParam(name = "async", required = false) Boolean async,
+                                                            @RequestHeader(name = IdempotencyService.KEY_HEADER, required = false) String idempotencyKey,
+                                                            @Valid @RequestBody ReplyCreateRequest replyCreateRequest) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return generateReply(postId, async, replyCreateRequest);
+        }
+
+        return idempotencyService.execute(idempotencyKey,
+                "POST /posts/" + postId + "/replies?async=" + Boolean.TRUE.equals(async),
+                replyCreateRequest,
+                () -> generateReply(postId, async, replyCreateRequest));
+    }
+
+    private CompletableFuture<ResponseEntity<?>> generateReply(Long postId, Boolean async, ReplyCreateRequest replyCreateRequest) {
+        if (Boolean.TRUE.equals(async)) {
+            GenerationJobResponse generationJobResponse = generationJobService.submitReply(postId, replyCreateRequest);
+            return CompletableFuture.completedFuture(ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/v1/generation-jobs/" + generationJobResponse.getJobId()))
+                    .body(CommonResponse.<GenerationJobResponse>builder()
+                            .successOrNot(CommonConstant.YES_FLAG)
+                            .statusCode(CommonStatus.SUCCESS)
+                            .data(generationJobResponse)
+                            .build()));
+        }
+
+        return generationJobService.createReply(postId, replyCreateRequest)
+                .thenApply(replyId -> ResponseEntity.ok(
+                        CommonResponse.<Long>builder()
+                                .successOrNot(CommonConstant.YES_FLAG)
+                                .statusCode(CommonStatus.SUCCESS)
+                                .data(replyId)
+                                .build()));
+    }
+
+    // 생성 중인 댓글을 이벤트 스트림으로 전달 (delta... -> done | error)
+    @PostMapping(value = "/posts/{postId}/replies/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReply(@PathVariable("postId") Long postId,
+                                  @Valid @RequestBody ReplyCreateRequest replyCreateRequest) {
+        return SseEmitters.from(replyService.streamReply(postId, replyCreateRequest), aiClientProperties.getTimeout().getStreamTotal());
     }
 
     // TODO: 댓글 수정
@@ -49,13 +98,31 @@ public class ReplyController {
                         .build());
     }
 
+    // 최신순, 다음 페이지는 응답의 nextCursor 로 조회
     @GetMapping("/posts/{postId}/replies")
-    public ResponseEntity<?> getRepliesByPostId(@PathVariable("postId") Long postId) {
+    public ResponseEntity<?> getRepliesByPostId(@PathVariable("postId") Long postId,
+                                                @RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(
+                CommonResponse.<CursorPageResponse<ReplyInfoResponse>>builder()
+                        .successOrNot(CommonConstant.YES_FLAG)
+                        .statusCode(CommonStatus.SUCCESS)
+                        .data(replyService.getRepliesInPost(postId, cursor, size))
+                        .build());
+    }
+
+    // 트리 구조 조회: 루트 댓글 단위 페이지 (작성순), 대댓글은 maxDepth / maxChildren 까지 포함
+    @GetMapping(value = "/posts/{postId}/replies/thread", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getReplyThread(@PathVariable("postId") Long postId,
+                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                            @RequestParam(name = "size", required = false) Integer size,
+                                            @RequestParam(name = "maxDepth", required = false) Integer maxDepth,
+                                            @RequestParam(name = "maxChildren", required = false) Integer maxChildren) {
         return ResponseEntity.ok(
-                CommonResponse.<List<ReplyInfoResponse>>builder()
+                CommonResponse.<CursorPageResponse<ReplyThreadResponse>>builder()
                         .successOrNot(CommonConstant.YES_FLAG)
                         .statusCode(CommonStatus.SUCCESS)
-                        .data(replyService.getRepliesInPost(postId))
+                        .data(replyService.getReplyThread(postId, cursor, size, maxDepth, maxChildren))
                         .build());
     }
 
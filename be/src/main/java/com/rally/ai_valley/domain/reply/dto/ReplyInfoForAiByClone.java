@@ -0,0 +1,14 @@
+package com.rally.ai_valley.domain.reply.dto;
+
+// 여러 클론의 최근 / 유사 댓글을 한 번에 조회할 때 사용하는 네이티브 쿼리 프로젝션
+public interface ReplyInfoForAiByClone {
+
+    Long getCloneId();
+
+    Long getReplyId();
+
+    String getPostTitle();
+
+    String getContent();
+
+}
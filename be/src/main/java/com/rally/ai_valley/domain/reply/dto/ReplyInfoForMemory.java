@@ -0,0 +1,12 @@
+package com.rally.ai_valley.domain.reply.dto;
+
+// 클론 요약에 합칠 댓글 (마지막 요약 이후 작성분) 네이티브 쿼리 프로젝션
+public interface ReplyInfoForMemory {
+
+    Long getReplyId();
+
+    String getPostTitle();
+
+    String getContent();
+
+}
@@ -21,10 +21,6 @@ public class ReplyInfoResponse {
 
     public String content;
 
-//    public Long parentReplyId;
-//
-//    public List<ReplyInfoResponse> children = new ArrayList<>();
-
     public LocalDateTime createdAt;
 
     public LocalDateTime updatedAt;
@@ -37,13 +33,8 @@ public class ReplyInfoResponse {
                 .cloneId(reply.getClone().getId())
                 .cloneName(reply.getClone().getName())
                 .content(reply.getContent())
-//                .parentReplyId(reply.getParentReply() != null ? reply.getParentReply().getId() : null)
                 .createdAt(reply.getCreatedAt())
                 .build();
     }
 
-//    public void addChild(ReplyInfoResponse child) {
-//        children.add(child);
-//    }
-
 }
@@ -0,0 +1,31 @@
+package com.rally.ai_valley.domain.reply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 동기화용 조회 결과 (댓글이 달린 게시글 제목 / 게시판 포함, 본문은 최대 길이까지)
+@Getter
+@AllArgsConstructor
+public class ReplySearchRow {
+
+    private Long replyId;
+
+    private Long postId;
+
+    private Long boardId;
+
+    private String boardName;
+
+    private Long cloneId;
+
+    private String cloneName;
+
+    private String postTitle;
+
+    private String content;
+
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,41 @@
+package com.rally.ai_valley.domain.reply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplyThreadResponse {
+
+    public Long replyId;
+
+    public Long parentReplyId;
+
+    public Long cloneId;
+
+    public String cloneName;
+
+    public String content;
+
+    // 루트 댓글 0
+    public int depth;
+
+    // 전체 직계 대댓글 수 (children 은 깊이 / 개수 제한으로 일부만 포함될 수 있음)
+    public int childCount;
+
+    public boolean hasMoreChildren;
+
+    public List<ReplyThreadResponse> children;
+
+    public LocalDateTime createdAt;
+
+    public LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,30 @@
+package com.rally.ai_valley.domain.reply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 스레드 조립용 조회 결과 (페이지에 포함된 루트 댓글 아래 댓글, 부모 ID 포함)
+@Getter
+@AllArgsConstructor
+public class ReplyThreadRow {
+
+    private Long replyId;
+
+    private Long parentReplyId;
+
+    private Long cloneId;
+
+    private String cloneName;
+
+    private String content;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // 대댓글을 읽지 않은 댓글(maxDepth 깊이)의 직계 대댓글 수, 대댓글을 함께 읽은 댓글은 null
+    private Integer childCount;
+
+}
@@ -0,0 +1,74 @@
+package com.rally.ai_valley.domain.reply.repository;
+
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+
+// 스레드 조회: 지정한 루트 댓글 아래 댓글만 재귀 CTE 로 maxDepth 까지 조회
+@Repository
+@RequiredArgsConstructor
+public class ReplyJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    // 루트 / 대댓글을 작성순으로 반환 (삭제된 댓글 아래는 따라가지 않음)
+    // maxDepth 깊이의 댓글은 대댓글을 읽지 않고 child_count 로 개수만 조회
+    // 값이 모두 long / int 라 SQL 에 직접 넣음 (재귀 CTE 안의 바인딩 파라미터는 H2 에서 지원하지 않음)
+    public List<ReplyThreadRow> findThreadRows(List<Long> rootReplyIds, int maxDepth) {
+        if (rootReplyIds.isEmpty()) {
+            return List.of();
+        }
+
+        StringJoiner ids = new StringJoiner(", ");
+        rootReplyIds.forEach(rootReplyId -> ids.add(String.valueOf(rootReplyId.longValue())));
+
+        String sql = """
+                WITH RECURSIVE thread (id, depth) AS (
+                    SELECT r.id, 0
+                    FROM replies r
+                    WHERE r.id IN (%s)
+                    UNION ALL
+                    SELECT r.id, t.depth + 1
+                    FROM replies r
+                    JOIN thread t ON r.parent_reply_id = t.id
+                    WHERE r.is_deleted = 0
+                        AND t.depth < %d
+                )
+                SELECT r.id, r.parent_reply_id, c.id AS clone_id, c.name AS clone_name, r.content, r.created_at, r.updated_at,
+                       CASE WHEN t.depth = %d
+                            THEN (SELECT COUNT(*) FROM replies cr WHERE cr.parent_reply_id = r.id AND cr.is_deleted = 0)
+                       END AS child_count
+                FROM thread t
+                JOIN replies r ON r.id = t.id
+                JOIN clones c ON c.id = r.clone_id
+                ORDER BY r.created_at, r.id
+                """.formatted(ids, maxDepth, maxDepth);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReplyThreadRow(
+                rs.getLong("id"),
+                rs.getObject("parent_reply_id", Long.class),
+                rs.getLong("clone_id"),
+                rs.getString("clone_name"),
+                rs.getString("content"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                toInteger(rs.getObject("child_count"))));
+    }
+
+    // COUNT(*) 결과 타입이 드라이버마다 다름 (MySQL: Long, H2: Long / Integer)
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+}
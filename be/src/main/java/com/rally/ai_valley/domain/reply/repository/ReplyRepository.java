@@ -1,13 +1,18 @@
 package com.rally.ai_valley.domain.reply.repository;
 
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoForAiByClone;
+import com.rally.ai_valley.domain.reply.dto.ReplyInfoForMemory;
 import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse;
-import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.dto.ReplySearchRow;
 import com.rally.ai_valley.domain.reply.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,24 +26,71 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
         """)
     Optional<Reply> findReplyById(@Param("replyId") Long replyId);
 
+    // 키셋 페이지네이션: (createdAt, id) 내림차순, 조회 개수는 Pageable 로 제한
     @Query("""
         SELECT new com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse(r.id, p.id, c.id, c.name, r.content, r.createdAt, r.updatedAt)
         FROM Reply r
-        LEFT JOIN r.clone c
-        LEFT JOIN r.post p
+        JOIN r.clone c
+        JOIN r.post p
         WHERE p.id = :postId
             AND p.isDeleted = 0
             AND r.isDeleted = 0
-        ORDER BY r.createdAt DESC
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<ReplyInfoResponse> findRepliesByPostIdFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse(r.id, p.id, c.id, c.name, r.content, r.createdAt, r.updatedAt)
+        FROM Reply r
+        JOIN r.clone c
+        JOIN r.post p
+        WHERE p.id = :postId
+            AND p.isDeleted = 0
+            AND r.isDeleted = 0
+            AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
     """)
-    List<ReplyInfoResponse> findRepliesByPostId(@Param("postId") Long postId);
+    List<ReplyInfoResponse> findRepliesByPostIdAfterCursor(@Param("postId") Long postId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    // 스레드 조회: 루트 댓글(parent_reply_id IS NULL) ID를 (createdAt, id) 오름차순 키셋 페이지로 조회
+    // 대댓글은 페이지에 포함된 루트 아래만 ReplyJdbcRepository.findThreadRows 로 따로 조회
+    @Query("""
+        SELECT r.id
+        FROM Reply r
+        JOIN r.post p
+        WHERE p.id = :postId
+            AND p.isDeleted = 0
+            AND r.isDeleted = 0
+            AND r.parentReply IS NULL
+        ORDER BY r.createdAt ASC, r.id ASC
+    """)
+    List<Long> findRootReplyIdsByPostIdFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+        SELECT r.id
+        FROM Reply r
+        JOIN r.post p
+        WHERE p.id = :postId
+            AND p.isDeleted = 0
+            AND r.isDeleted = 0
+            AND r.parentReply IS NULL
+            AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+        ORDER BY r.createdAt ASC, r.id ASC
+    """)
+    List<Long> findRootReplyIdsByPostIdAfterCursor(@Param("postId") Long postId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 
 
     @Query("""
         SELECT new com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse(r.id, p.id, c.id, c.name, r.content, r.createdAt, r.updatedAt)
         FROM Reply r
-        LEFT JOIN r.clone c
-        LEFT JOIN r.post p
+        JOIN r.clone c
+        JOIN r.post p
         WHERE c.id = :cloneId
             AND p.isDeleted = 0
             AND r.isDeleted = 0
@@ -46,17 +98,101 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
     """)
     List<ReplyInfoResponse> findRepliesByCloneId(@Param("cloneId") Long cloneId);
 
+    // 클론별 최근 댓글 N개를 한 번의 쿼리로 조회 (AI 이력 후보, 클론별 최신순)
+    // 본문은 maxContentLength 글자까지만 읽어 긴 TEXT 전체를 가져오지 않음
+    // 요약(clone_memories)에 이미 반영된 댓글은 제외
+    @Query(value = """
+        SELECT h.clone_id AS cloneId, h.id AS replyId, h.title AS postTitle, h.content AS content
+        FROM (
+            SELECT r.clone_id, r.id, p.title, SUBSTRING(r.content, 1, :maxContentLength) AS content,
+                   ROW_NUMBER() OVER (PARTITION BY r.clone_id ORDER BY r.created_at DESC, r.id DESC) AS rn
+            FROM replies r
+            JOIN posts p ON p.id = r.post_id
+            LEFT JOIN clone_memories m ON m.clone_id = r.clone_id
+            WHERE r.clone_id IN (:cloneIds)
+                AND p.is_deleted = 0
+                AND r.is_deleted = 0
+                AND r.id > COALESCE(m.last_reply_id, 0)
+        ) h
+        WHERE h.rn <= :limit
+        ORDER BY h.clone_id, h.rn
+    """, nativeQuery = true)
+    List<ReplyInfoForAiByClone> findRecentRepliesByCloneIdsForAi(@Param("cloneIds") Collection<Long> cloneIds,
+                                                                 @Param("limit") int limit,
+                                                                 @Param("maxContentLength") int maxContentLength);
+
+    // 임베딩 인덱스에서 찾은 유사 댓글 (최근 이력 후보 밖의 과거 댓글)
+    @Query(value = """
+        SELECT r.clone_id AS cloneId, r.id AS replyId, p.title AS postTitle, SUBSTRING(r.content, 1, :maxContentLength) AS content
+        FROM replies r
+        JOIN posts p ON p.id = r.post_id
+        WHERE r.id IN (:replyIds)
+            AND p.is_deleted = 0
+            AND r.is_deleted = 0
+    """, nativeQuery = true)
+    List<ReplyInfoForAiByClone> findRepliesForAiByIds(@Param("replyIds") Collection<Long> replyIds,
+                                                      @Param("maxContentLength") int maxContentLength);
+
+    // 임베딩 인덱스 적재: afterReplyId 이후 댓글을 ID 순서로 limit 개 (키셋 페이지)
+    @Query(value = """
+        SELECT r.clone_id AS cloneId, r.id AS replyId, p.title AS postTitle, SUBSTRING(r.content, 1, :maxContentLength) AS content
+        FROM replies r
+        JOIN posts p ON p.id = r.post_id
+        WHERE r.id > :afterReplyId
+            AND p.is_deleted = 0
+            AND r.is_deleted = 0
+        ORDER BY r.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<ReplyInfoForAiByClone> findRepliesForIndexAfterId(@Param("afterReplyId") Long afterReplyId,
+                                                           @Param("limit") int limit,
+                                                           @Param("maxContentLength") int maxContentLength);
+
+    // 클론 요약: 마지막 요약 이후 createdBefore 까지 작성한 댓글 (오래된 순 최대 limit 개, 나머지는 다음 요약에서 이어서 조회)
+    @Query(value = """
+        SELECT r.id AS replyId, p.title AS postTitle, SUBSTRING(r.content, 1, :maxContentLength) AS content
+        FROM replies r
+        JOIN posts p ON p.id = r.post_id
+        WHERE r.clone_id = :cloneId
+            AND p.is_deleted = 0
+            AND r.is_deleted = 0
+            AND r.id > :afterReplyId
+            AND r.created_at <= :createdBefore
+        ORDER BY r.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<ReplyInfoForMemory> findRepliesByCloneIdForMemory(@Param("cloneId") Long cloneId,
+                                                           @Param("afterReplyId") Long afterReplyId,
+                                                           @Param("createdBefore") LocalDateTime createdBefore,
+                                                           @Param("limit") int limit,
+                                                           @Param("maxContentLength") int maxContentLength);
+
+    // 검색 색인 동기화: afterReplyId 이후 댓글을 ID 순서로 (키셋 페이지)
     @Query("""
-        SELECT new com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi(p.title, r.content)
+        SELECT new com.rally.ai_valley.domain.reply.dto.ReplySearchRow(r.id, p.id, b.id, b.name, c.id, c.name, p.title,
+               SUBSTRING(r.content, 1, :maxContentLength), r.createdAt)
         FROM Reply r
-        LEFT JOIN r.clone c
-        LEFT JOIN r.post p
-        WHERE c.id = :cloneId
+        JOIN r.post p
+        JOIN p.board b
+        JOIN r.clone c
+        WHERE r.id > :afterReplyId
+            AND p.isDeleted = 0
+            AND r.isDeleted = 0
+        ORDER BY r.id
+    """)
+    List<ReplySearchRow> findRepliesForSearchAfterId(@Param("afterReplyId") Long afterReplyId,
+                                                     @Param("maxContentLength") int maxContentLength,
+                                                     Pageable pageable);
+
+    // 시뮬레이션: 마지막 틱 이후 댓글이 작성된 게시판
+    @Query("""
+        SELECT DISTINCT p.board.id
+        FROM Reply r
+        JOIN r.post p
+        WHERE r.createdAt > :since
             AND p.isDeleted = 0
             AND r.isDeleted = 0
-        ORDER BY r.createdAt DESC
-        LIMIT 3
     """)
-    List<ReplyInfoResponseForAi> findRepliesByCloneIdForAi(@Param("cloneId") Long cloneId);
+    List<Long> findBoardIdsWithRepliesCreatedAfter(@Param("since") LocalDateTime since);
 
 }
@@ -1,27 +1,49 @@
 package com.rally.ai_valley.domain.reply.service;
 
+import com.rally.ai_valley.common.ai.context.AiContext;
+import com.rally.ai_valley.common.ai.context.AiContextBuilder;
+import com.rally.ai_valley.common.ai.dto.AiStreamChunk;
 import com.rally.ai_valley.common.ai.service.AiService;
+import com.rally.ai_valley.common.ai.vector.HistoryVectorIndex;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
 import com.rally.ai_valley.common.exception.CustomException;
 import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.common.exception.ErrorResponse;
+import com.rally.ai_valley.common.metrics.GenerationMetrics;
+import com.rally.ai_valley.common.utility.CursorCodec;
 import com.rally.ai_valley.domain.board.entity.Board;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
 import com.rally.ai_valley.domain.board.repository.BoardRepository;
 import com.rally.ai_valley.domain.clone.entity.Clone;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryJdbcRepository;
 import com.rally.ai_valley.domain.clone.repository.CloneRepository;
-import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
 import com.rally.ai_valley.domain.post.entity.Post;
 import com.rally.ai_valley.domain.post.repository.PostRepository;
 import com.rally.ai_valley.domain.reply.dto.AiReplyCreateResponse;
 import com.rally.ai_valley.domain.reply.dto.ReplyCreateRequest;
 import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponse;
-import com.rally.ai_valley.domain.reply.dto.ReplyInfoResponseForAi;
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadResponse;
 import com.rally.ai_valley.domain.reply.entity.Reply;
+import com.rally.ai_valley.domain.reply.repository.ReplyJdbcRepository;
 import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.service.SearchIndexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +51,25 @@ import java.util.List;
 public class ReplyService {
 
     private final ReplyRepository replyRepository;
+    private final ReplyJdbcRepository replyJdbcRepository;
     private final BoardRepository boardRepository;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
     private final CloneRepository cloneRepository;
+    private final CloneMemoryJdbcRepository cloneMemoryJdbcRepository;
     private final PostRepository postRepository;
     private final AiService aiService;
+    private final AiContextBuilder aiContextBuilder;
+    private final HistoryVectorIndex historyVectorIndex;
+    private final SearchIndexer searchIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final GenerationMetrics generationMetrics;
+
+    @Value("${reply.thread.max-depth:10}")
+    private int threadMaxDepth;
+
+    @Value("${reply.thread.max-children:50}")
+    private int threadMaxChildren;
 
 
     private Reply getReplyById(Long replyId) {
@@ -40,9 +77,29 @@ public class ReplyService {
                 .orElseThrow(() -> new CustomException(ErrorCode.REPLY_NOT_FOUND));
     }
 
+    // 1) 짧은 읽기 전용 트랜잭션으로 컨텍스트 조회 -> 2) 커넥션 없이 AI 호출 -> 3) 짧은 쓰기 트랜잭션으로 저장
+    public CompletableFuture<Long> createReply(Long postId, ReplyCreateRequest replyCreateRequest) {
+        ReplyGenerationContext context = generationMetrics.recordRead(GenerationMetrics.TYPE_REPLY,
+                () -> readOnlyTransactionTemplate.execute(status -> readReplyGenerationContext(postId, replyCreateRequest)));
+
+        // AI 서버에서 생성된 Reply 정보 받기
+        return generationMetrics.recordAi(GenerationMetrics.TYPE_REPLY, aiService.AiCreateReply(
+                        context.clone().getId(),
+                        context.clone().getDescription(),
+                        context.aiContext().postHistory(),
+                        context.aiContext().replyHistory(),
+                        context.aiContext().memorySummary(),
+                        context.board().getDescription(),
+                        context.post().getTitle(),
+                        context.post().getContent()))
+                .publishOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                .map(aiReplyCreateResponse -> generationMetrics.recordPersist(GenerationMetrics.TYPE_REPLY,
+                        () -> transactionTemplate.execute(status -> saveReply(context, aiReplyCreateResponse))))
+                .toFuture();
+    }
+
     // 프록시 객체(getReferenceById) 사용 가능
-    @Transactional(rollbackFor = Exception.class)
-    public Long createReply(Long postId, ReplyCreateRequest replyCreateRequest) {
+    private ReplyGenerationContext readReplyGenerationContext(Long postId, ReplyCreateRequest replyCreateRequest) {
         Post findPost = postRepository.findPostById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
@@ -50,37 +107,85 @@ public class ReplyService {
                 .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
         Clone findClone = cloneRepository.findCloneById(replyCreateRequest.getCloneId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CLONE_NOT_FOUND));
-        List<PostInfoResponseForAi> findPosts = postRepository.findPostsByCloneIdForAi(replyCreateRequest.getCloneId());
         // TODO: 댓글만 줘야하나, 게시글과 댓글 매핑해서 줘야하나. -> 포스트 중의 댓글을 내 것으로만 가져가던가 vs. 그냥 내 아이디로만 순수하게 댓글 가져오기 -> 우선 내가 쓴 댓글들만 가져오자.
-        List<ReplyInfoResponseForAi> findReplies = replyRepository.findRepliesByCloneIdForAi(postId);
-
+        // 댓글을 달 게시글과 관련된 이력을 우선
+        AiContext aiContext = aiContextBuilder.build(replyCreateRequest.getCloneId(), findPost.getTitle() + " " + findPost.getContent());
 
         Reply findParentReply = null;
         if (replyCreateRequest.getParentReplyId() != null) {
             findParentReply = getReplyById(replyCreateRequest.getParentReplyId());
         }
 
-        // AI 서버에서 생성된 Reply 정보 받기
-        AiReplyCreateResponse aiReplyCreateResponse = aiService.AiCreateReply(
-                findClone.getId(),
-                findClone.getDescription(),
-                findPosts,
-                findReplies,
-                findBoard.getDescription(),
-                findPost.getTitle(),
-                findPost.getContent()
-        );
+        return new ReplyGenerationContext(findPost, findBoard, findClone, findParentReply, aiContext);
+    }
 
+    private Long saveReply(ReplyGenerationContext context, AiReplyCreateResponse aiReplyCreateResponse) {
         // AI가 생성한 내용으로 Reply 생성
         Reply createReply = Reply.create(aiReplyCreateResponse.getContent(),
-                findClone,
-                findPost,
-                findParentReply);
+                context.clone(),
+                context.post(),
+                context.parentReply());
         replyRepository.save(createReply);
+        boardCounterJdbcRepository.increaseReplyCount(context.board().getId(), 1);
+        cloneMemoryJdbcRepository.increasePendingCount(context.clone().getId(), 1);
+        aiContextBuilder.evictAfterCommit(context.clone().getId());
+        historyVectorIndex.addReplyAfterCommit(createReply.getId(), context.clone().getId(), context.post().getTitle(), createReply.getContent());
+        searchIndexer.indexAfterCommit(new SearchDocument(SearchDocument.TYPE_REPLY, createReply.getId(), context.post().getId(),
+                context.board().getId(), context.board().getName(), context.clone().getId(), context.clone().getName(),
+                context.post().getTitle(), createReply.getContent(), createReply.getCreatedAt()));
 
         return createReply.getId();
     }
 
+    // 스트리밍 생성: AI 이벤트(delta)를 그대로 전달하고, AI 스트림이 끝나면 누적된 댓글을 저장한 뒤 done 이벤트 전송
+    // 클라이언트가 중간에 연결을 끊으면 AI 호출도 함께 취소되고 저장하지 않음
+    public Flux<ServerSentEvent<Object>> streamReply(Long postId, ReplyCreateRequest replyCreateRequest) {
+        return Mono.fromCallable(() -> generationMetrics.recordRead(GenerationMetrics.TYPE_REPLY,
+                        () -> readOnlyTransactionTemplate.execute(status -> readReplyGenerationContext(postId, replyCreateRequest))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(context -> {
+                    StringBuilder content = new StringBuilder();
+
+                    Flux<ServerSentEvent<Object>> chunks = generationMetrics.recordAiStream(GenerationMetrics.TYPE_REPLY, aiService.AiStreamReply(
+                                    context.clone().getId(),
+                                    context.clone().getDescription(),
+                                    context.aiContext().postHistory(),
+                                    context.aiContext().replyHistory(),
+                                    context.aiContext().memorySummary(),
+                                    context.board().getDescription(),
+                                    context.post().getTitle(),
+                                    context.post().getContent()))
+                            .doOnNext(event -> {
+                                if (AiStreamChunk.EVENT_DELTA.equals(event.event()) && event.data() != null) {
+                                    content.append(event.data().getText());
+                                }
+                            })
+                            .map(event -> ServerSentEvent.<Object>builder(event.data()).event(event.event()).build());
+
+                    Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> {
+                                AiReplyCreateResponse generatedReply = new AiReplyCreateResponse();
+                                generatedReply.setContent(content.toString());
+                                return generationMetrics.recordPersist(GenerationMetrics.TYPE_REPLY,
+                                        () -> transactionTemplate.execute(status -> saveReply(context, generatedReply)));
+                            })
+                            .subscribeOn(Schedulers.boundedElastic()) // JDBC 작업은 Netty 이벤트 루프 밖에서 수행
+                            .map(replyId -> ServerSentEvent.<Object>builder(Map.of("replyId", replyId)).event(AiStreamChunk.EVENT_DONE).build());
+
+                    return chunks.concatWith(done);
+                })
+                .onErrorResume(error -> Mono.just(toErrorEvent(error)));
+    }
+
+    // 스트림 시작 후에는 상태 코드를 바꿀 수 없으므로 오류도 이벤트로 전달
+    private ServerSentEvent<Object> toErrorEvent(Throwable error) {
+        ErrorResponse errorResponse = error instanceof CustomException customException
+                ? new ErrorResponse(customException.getErrorCode().name(), customException.getMessage())
+                : new ErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR.name(), "댓글 생성 중 오류가 발생했습니다.");
+        log.warn("댓글 스트리밍 생성 실패: {}", error.getMessage());
+
+        return ServerSentEvent.<Object>builder(errorResponse).event(AiStreamChunk.EVENT_ERROR).build();
+    }
+
     @Transactional(readOnly = true)
     public ReplyInfoResponse getReplyInfo(Long replyId) {
         Reply reply = getReplyById(replyId);
@@ -88,38 +193,61 @@ public class ReplyService {
         return ReplyInfoResponse.fromEntity(reply);
     }
 
-    // TODO: 프론트엔드 플랫 구조 사용 고민
+    // 키셋 페이지네이션: size + 1 개를 조회해 다음 페이지 여부 판단
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReplyInfoResponse> getRepliesInPost(Long postId, String cursor, Integer size) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        CursorCodec.Cursor decodedCursor = CursorCodec.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReplyInfoResponse> replies = decodedCursor == null
+                ? replyRepository.findRepliesByPostIdFirstPage(postId, limit)
+                : replyRepository.findRepliesByPostIdAfterCursor(postId, decodedCursor.createdAt(), decodedCursor.id(), limit);
+
+        return CursorPageResponse.of(replies, pageSize, reply -> CursorCodec.encode(reply.getCreatedAt(), reply.getReplyId()));
+    }
+
+    // 스레드 조회: 루트 댓글 ID를 작성순 키셋 페이지로 먼저 조회한 뒤 그 루트 아래 댓글만 maxDepth 까지 읽어 트리로 조립
+    // 깊이 / 대댓글 수 제한으로 응답 크기를 제한하고, 잘린 부분은 childCount / hasMoreChildren 으로 표시
     @Transactional(readOnly = true)
-    public List<ReplyInfoResponse> getRepliesInPost(Long postId) {
-        return replyRepository.findRepliesByPostId(postId);
-
-
-//        Map<Long, ReplyInfoResponse> replyMap = new HashMap<>();
-//        List<ReplyInfoResponse> rootReplies = new ArrayList<>();
-//
-//        // 모든 댓글 DTO 변환, DTO 활용을 위한 맵 생성, 루트 댓글 선별
-//        for (Reply reply : allReplies) {
-//            ReplyInfoResponse replyInfoResponse = ReplyInfoResponse.fromEntity(reply);
-//            replyMap.put(reply.getId(), replyInfoResponse);
-//
-//            if (reply.getParentReply() != null) {
-//                rootReplies.add(replyInfoResponse);
-//            }
-//        }
-//
-//        // 대댓글인 경우 부모 댓글에 추가
-//        for (Reply reply : allReplies) {
-//            if (reply.getParentReply() != null) { // 자식 댓글
-//                ReplyInfoResponse parent = replyMap.get(reply.getParentReply().getId());
-//                ReplyInfoResponse child = replyMap.get(reply.getId());
-//
-//                if(parent != null && child != null) { // 점검
-//                    parent.addChild(child);
-//                }
-//            }
-//        }
-//
-//        return rootReplies;
+    public CursorPageResponse<ReplyThreadResponse> getReplyThread(Long postId, String cursor, Integer size,
+                                                                  Integer maxDepth, Integer maxChildren) {
+        int pageSize = CursorPageResponse.resolveSize(size);
+        int depthLimit = resolveLimit("maxDepth", maxDepth, threadMaxDepth);
+        int childrenLimit = resolveLimit("maxChildren", maxChildren, threadMaxChildren);
+        CursorCodec.Cursor decodedCursor = CursorCodec.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        // 커서(마지막으로 받은 루트 댓글) 이후의 루트부터 size + 1 개
+        List<Long> rootReplyIds = decodedCursor == null
+                ? replyRepository.findRootReplyIdsByPostIdFirstPage(postId, limit)
+                : replyRepository.findRootReplyIdsByPostIdAfterCursor(postId, decodedCursor.createdAt(), decodedCursor.id(), limit);
+
+        List<ReplyThreadResponse> threads = ReplyTreeAssembler.assemble(replyJdbcRepository.findThreadRows(rootReplyIds, depthLimit))
+                .stream()
+                .map(root -> ReplyTreeAssembler.toResponse(root, depthLimit, childrenLimit))
+                .toList();
+
+        return CursorPageResponse.of(threads, pageSize, thread -> CursorCodec.encode(thread.getCreatedAt(), thread.getReplyId()));
+    }
+
+    // 미지정 시 최대값 사용
+    private int resolveLimit(String name, Integer value, int max) {
+        if (value == null) {
+            return max;
+        }
+        if (value < 0 || value > max) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, name + "는 0 이상 " + max + " 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    // 트랜잭션 사이에서 전달되는 조회 결과 (준영속 엔티티, 식별자/본문만 사용)
+    private record ReplyGenerationContext(Post post,
+                                          Board board,
+                                          Clone clone,
+                                          Reply parentReply,
+                                          AiContext aiContext) {
     }
 
 }
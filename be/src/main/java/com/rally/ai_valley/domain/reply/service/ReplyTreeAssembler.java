@@ -0,0 +1,90 @@
+package com.rally.ai_valley.domain.reply.service;
+
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadResponse;
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 평면 댓글 목록 -> 트리 (ID 맵으로 부모를 찾아 O(n) 조립)
+// 입력이 작성순이면 루트 / 대댓글 모두 작성순 유지
+public final class ReplyTreeAssembler {
+
+    private ReplyTreeAssembler() {
+    }
+
+    public static List<Node> assemble(List<ReplyThreadRow> rows) {
+        Map<Long, Node> nodes = new HashMap<>(rows.size() * 2);
+        for (ReplyThreadRow row : rows) {
+            nodes.put(row.getReplyId(), new Node(row));
+        }
+
+        List<Node> roots = new ArrayList<>();
+        for (ReplyThreadRow row : rows) {
+            Node node = nodes.get(row.getReplyId());
+            Node parent = row.getParentReplyId() != null ? nodes.get(row.getParentReplyId()) : null;
+
+            // 부모가 삭제되어 목록에 없으면 루트로 올려 내용이 사라지지 않게 함
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.children.add(node);
+            }
+        }
+
+        return roots;
+    }
+
+    // depth 가 maxDepth 인 노드의 대댓글과 maxChildren 을 넘는 대댓글은 제외 (childCount / hasMoreChildren 으로 표시)
+    public static ReplyThreadResponse toResponse(Node node, int maxDepth, int maxChildren) {
+        return toResponse(node, 0, maxDepth, maxChildren);
+    }
+
+    private static ReplyThreadResponse toResponse(Node node, int depth, int maxDepth, int maxChildren) {
+        ReplyThreadRow row = node.row;
+        int childCount = row.getChildCount() != null ? row.getChildCount() : node.children.size();
+        int included = depth < maxDepth ? Math.min(childCount, maxChildren) : 0;
+
+        List<ReplyThreadResponse> children = new ArrayList<>(included);
+        for (int i = 0; i < included; i++) {
+            children.add(toResponse(node.children.get(i), depth + 1, maxDepth, maxChildren));
+        }
+
+        return ReplyThreadResponse.builder()
+                .replyId(row.getReplyId())
+                .parentReplyId(row.getParentReplyId())
+                .cloneId(row.getCloneId())
+                .cloneName(row.getCloneName())
+                .content(row.getContent())
+                .depth(depth)
+                .childCount(childCount)
+                .hasMoreChildren(included < childCount)
+                .children(children)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    public static final class Node {
+
+        private final ReplyThreadRow row;
+        private final List<Node> children = new ArrayList<>();
+
+
+        private Node(ReplyThreadRow row) {
+            this.row = row;
+        }
+
+        public ReplyThreadRow getRow() {
+            return row;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+
+    }
+
+}
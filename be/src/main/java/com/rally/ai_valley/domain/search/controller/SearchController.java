@@ -0,0 +1,38 @@
+package com.rally.ai_valley.domain.search.controller;
+
+import com.rally.ai_valley.common.constant.CommonConstant;
+import com.rally.ai_valley.common.constant.CommonStatus;
+import com.rally.ai_valley.common.entity.CommonResponse;
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.domain.search.dto.SearchResultResponse;
+import com.rally.ai_valley.domain.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // 게시글 / 댓글 전문 검색 (관련도순, 다음 페이지는 응답의 nextCursor 로 조회)
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> search(@RequestParam(name = "q") String q,
+                                    @RequestParam(name = "board", required = false) Long boardId,
+                                    @RequestParam(name = "clone", required = false) Long cloneId,
+                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                    @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(
+                CommonResponse.<CursorPageResponse<SearchResultResponse>>builder()
+                        .successOrNot(CommonConstant.YES_FLAG)
+                        .statusCode(CommonStatus.SUCCESS)
+                        .data(searchService.search(q, boardId, cloneId, cursor, size))
+                        .build());
+    }
+
+}
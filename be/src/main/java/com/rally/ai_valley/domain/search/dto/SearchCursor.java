@@ -0,0 +1,36 @@
+package com.rally.ai_valley.domain.search.dto;
+
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 검색 페이지 커서: 마지막 결과의 (관련도, 정렬 키)를 Base64 로 인코딩 (다음 페이지는 이 값 뒤부터)
+public record SearchCursor(float score, long sortKey) {
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(SearchResultResponse result) {
+        long sortKey = SearchDocument.sortKey(result.getType(),
+                SearchDocument.TYPE_REPLY.equals(result.getType()) ? result.getReplyId() : result.getPostId());
+        String raw = result.getScore() + DELIMITER + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (null 반환)
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new SearchCursor(Float.parseFloat(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.rally.ai_valley.domain.search.dto;
+
+import com.rally.ai_valley.domain.post.dto.PostSearchRow;
+import com.rally.ai_valley.domain.reply.dto.ReplySearchRow;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 문서 (게시글 또는 댓글 하나, 댓글의 title 은 댓글이 달린 게시글 제목)
+public record SearchDocument(String type,
+                             Long id,
+                             Long postId,
+                             Long boardId,
+                             String boardName,
+                             Long cloneId,
+                             String cloneName,
+                             String title,
+                             String content,
+                             LocalDateTime createdAt) {
+
+    public static final String TYPE_POST = "post";
+    public static final String TYPE_REPLY = "reply";
+
+    public static SearchDocument ofPost(PostSearchRow row) {
+        return new SearchDocument(TYPE_POST, row.getPostId(), row.getPostId(), row.getBoardId(), row.getBoardName(),
+                row.getCloneId(), row.getCloneName(), row.getTitle(), row.getContent(), row.getCreatedAt());
+    }
+
+    public static SearchDocument ofReply(ReplySearchRow row) {
+        return new SearchDocument(TYPE_REPLY, row.getReplyId(), row.getPostId(), row.getBoardId(), row.getBoardName(),
+                row.getCloneId(), row.getCloneName(), row.getPostTitle(), row.getContent(), row.getCreatedAt());
+    }
+
+    // 색인 안에서 유일한 키 (게시글 / 댓글 ID 가 겹치지 않도록 종류를 붙임)
+    public String key() {
+        return type + ":" + id;
+    }
+
+    // 관련도가 같을 때의 정렬 / 커서 기준 (ID 순서 유지, 최하위 비트로 종류 구분)
+    public long sortKey() {
+        return sortKey(type, id);
+    }
+
+    public static long sortKey(String type, Long id) {
+        return (id << 1) | (TYPE_REPLY.equals(type) ? 1 : 0);
+    }
+
+}
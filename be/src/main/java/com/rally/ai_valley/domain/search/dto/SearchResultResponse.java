@@ -0,0 +1,41 @@
+package com.rally.ai_valley.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 검색 결과 (title / snippet 은 HTML 이스케이프 후 검색어를 <em> 으로 강조)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultResponse {
+
+    // post / reply
+    public String type;
+
+    public Long postId;
+
+    // 댓글 결과일 때만 값이 있음
+    public Long replyId;
+
+    public Long boardId;
+
+    public String boardName;
+
+    public Long cloneId;
+
+    public String cloneName;
+
+    public String title;
+
+    public String snippet;
+
+    public Float score;
+
+    public LocalDateTime createdAt;
+
+}
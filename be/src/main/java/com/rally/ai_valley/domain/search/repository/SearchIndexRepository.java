@@ -0,0 +1,334 @@
+package com.rally.ai_valley.domain.search.repository;
+
+import com.rally.ai_valley.common.config.SearchProperties;
+import com.rally.ai_valley.domain.search.dto.SearchCursor;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.dto.SearchResultResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.highlight.Encoder;
+import org.apache.lucene.search.highlight.Formatter;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.NullFragmenter;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 게시글 / 댓글 전문 검색 색인 (내장 Lucene)
+// - 한국어 형태소 분석(nori)으로 제목 / 본문을 색인, 조사 / 어미는 제외되어 "캐시를" 로도 "캐시" 문서가 검색됨
+// - 쓰기는 IndexWriter 버퍼에 바로 반영하고 refresh 주기마다 검색에 노출 (NRT), 디스크 커밋은 commit() 호출 시
+// - 게시판 / 클론 이름, 본문까지 색인에 저장해 검색 응답을 DB 조회 없이 구성
+// - indexPath 가 비어 있으면 메모리 색인 (테스트 / 단일 실행용)
+@Repository
+@Slf4j
+public class SearchIndexRepository {
+
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_POST_ID = "post_id";
+    private static final String FIELD_BOARD_ID = "board_id";
+    private static final String FIELD_BOARD_NAME = "board_name";
+    private static final String FIELD_CLONE_ID = "clone_id";
+    private static final String FIELD_CLONE_NAME = "clone_name";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CREATED_AT = "created_at";
+    private static final String FIELD_SORT_KEY = "sort_key";
+
+    // 커밋에 함께 저장하는 동기화 위치 (재시작 시 이 ID 이후만 DB 에서 다시 읽음)
+    private static final String LAST_POST_ID = "last_post_id";
+    private static final String LAST_REPLY_ID = "last_reply_id";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final String FRAGMENT_SEPARATOR = " … ";
+    private static final Sort RELEVANCE_SORT = new Sort(SortField.FIELD_SCORE,
+            new SortField(FIELD_SORT_KEY, SortField.Type.LONG, true));
+
+    private final SearchProperties properties;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Formatter formatter = new SimpleHTMLFormatter("<em>", "</em>");
+    private final Encoder encoder = new SimpleHTMLEncoder();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+
+    public SearchIndexRepository(SearchProperties properties) {
+        this.properties = properties;
+        try {
+            this.directory = properties.getIndexPath() == null || properties.getIndexPath().isBlank()
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(properties.getIndexPath()));
+            this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + properties.getIndexPath(), e);
+        }
+    }
+
+    // 같은 키의 문서가 있으면 교체 (동기화와 저장 직후 반영이 겹쳐도 중복되지 않음)
+    public void upsert(SearchDocument document) {
+        try {
+            indexWriter.updateDocument(new Term(FIELD_KEY, document.key()), toDocument(document));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 버퍼에 쌓인 변경을 검색에 노출 (변경이 없으면 아무 작업도 하지 않음)
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long lastSyncedPostId() {
+        return commitData(LAST_POST_ID);
+    }
+
+    public long lastSyncedReplyId() {
+        return commitData(LAST_REPLY_ID);
+    }
+
+    // 디스크에 커밋하면서 동기화 위치를 함께 기록
+    public void commit(long lastPostId, long lastReplyId) {
+        try {
+            indexWriter.setLiveCommitData(Map.of(
+                    LAST_POST_ID, String.valueOf(lastPostId),
+                    LAST_REPLY_ID, String.valueOf(lastReplyId)).entrySet());
+            indexWriter.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int documentCount() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    // 관련도순 (같으면 최신 ID 순) 최대 limit 개, after 가 있으면 그 뒤부터
+    // 검색어의 형태소 중 3/4 이상(3개 이하면 전부)이 제목 또는 본문에 있어야 함
+    public List<SearchResultResponse> search(String keyword, Long boardId, Long cloneId, SearchCursor after, int limit) {
+        Query textQuery = textQuery(keyword);
+        if (textQuery == null) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (boardId != null) {
+            builder.add(LongPoint.newExactQuery(FIELD_BOARD_ID, boardId), BooleanClause.Occur.FILTER);
+        }
+        if (cloneId != null) {
+            builder.add(LongPoint.newExactQuery(FIELD_CLONE_ID, cloneId), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopFieldDocs topDocs = after == null
+                    ? searcher.search(query, limit, RELEVANCE_SORT, true)
+                    : searcher.searchAfter(new FieldDoc(Integer.MAX_VALUE, after.score(), new Object[]{after.score(), after.sortKey()}),
+                            query, limit, RELEVANCE_SORT, true);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<SearchResultResponse> results = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                results.add(toResult(storedFields.document(scoreDoc.doc), scoreDoc.score, textQuery));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            indexWriter.close(); // 마지막 동기화 위치와 함께 커밋
+            directory.close();
+        } catch (IOException e) {
+            log.warn("검색 색인 종료 실패 - Reason: {}", e.getMessage());
+        }
+    }
+
+    private Query textQuery(String keyword) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            builder.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_CONTENT, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.SHOULD);
+        }
+        builder.setMinimumNumberShouldMatch((terms.size() * 3 + 3) / 4);
+        return builder.build();
+    }
+
+    // 색인과 같은 분석기로 검색어를 형태소 단위로 나눔
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(SearchDocument searchDocument) {
+        String content = searchDocument.content() != null ? searchDocument.content() : "";
+        if (content.length() > properties.getMaxContentChars()) {
+            content = content.substring(0, properties.getMaxContentChars());
+        }
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_KEY, searchDocument.key(), Field.Store.NO));
+        document.add(new StoredField(FIELD_TYPE, searchDocument.type()));
+        document.add(new StoredField(FIELD_ID, searchDocument.id()));
+        document.add(new StoredField(FIELD_POST_ID, searchDocument.postId()));
+        document.add(new LongPoint(FIELD_BOARD_ID, searchDocument.boardId()));
+        document.add(new StoredField(FIELD_BOARD_ID, searchDocument.boardId()));
+        document.add(new StoredField(FIELD_BOARD_NAME, Objects.toString(searchDocument.boardName(), "")));
+        document.add(new LongPoint(FIELD_CLONE_ID, searchDocument.cloneId()));
+        document.add(new StoredField(FIELD_CLONE_ID, searchDocument.cloneId()));
+        document.add(new StoredField(FIELD_CLONE_NAME, Objects.toString(searchDocument.cloneName(), "")));
+        document.add(new TextField(FIELD_TITLE, Objects.toString(searchDocument.title(), ""), Field.Store.YES));
+        document.add(new TextField(FIELD_CONTENT, content, Field.Store.YES));
+        if (searchDocument.createdAt() != null) {
+            document.add(new StoredField(FIELD_CREATED_AT, searchDocument.createdAt().toString()));
+        }
+        document.add(new NumericDocValuesField(FIELD_SORT_KEY, searchDocument.sortKey()));
+        return document;
+    }
+
+    private SearchResultResponse toResult(Document document, float score, Query textQuery) {
+        boolean reply = SearchDocument.TYPE_REPLY.equals(document.get(FIELD_TYPE));
+        String createdAt = document.get(FIELD_CREATED_AT);
+
+        return SearchResultResponse.builder()
+                .type(document.get(FIELD_TYPE))
+                .postId(document.getField(FIELD_POST_ID).numericValue().longValue())
+                .replyId(reply ? document.getField(FIELD_ID).numericValue().longValue() : null)
+                .boardId(document.getField(FIELD_BOARD_ID).numericValue().longValue())
+                .boardName(document.get(FIELD_BOARD_NAME))
+                .cloneId(document.getField(FIELD_CLONE_ID).numericValue().longValue())
+                .cloneName(document.get(FIELD_CLONE_NAME))
+                .title(highlightTitle(textQuery, document.get(FIELD_TITLE)))
+                .snippet(highlightContent(textQuery, document.get(FIELD_CONTENT)))
+                .score(score)
+                .createdAt(createdAt != null ? LocalDateTime.parse(createdAt) : null)
+                .build();
+    }
+
+    // 제목은 자르지 않고 전체를 강조
+    private String highlightTitle(Query textQuery, String title) {
+        Highlighter highlighter = new Highlighter(formatter, encoder, new QueryScorer(textQuery));
+        highlighter.setTextFragmenter(new NullFragmenter());
+        String highlighted = bestFragments(highlighter, FIELD_TITLE, title, 1);
+        return highlighted != null ? highlighted : encoder.encodeText(title);
+    }
+
+    // 본문은 검색어가 많이 나온 조각 maxFragments 개 (없으면 앞부분)
+    private String highlightContent(Query textQuery, String content) {
+        QueryScorer scorer = new QueryScorer(textQuery);
+        Highlighter highlighter = new Highlighter(formatter, encoder, scorer);
+        highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, properties.getFragmentChars()));
+        String highlighted = bestFragments(highlighter, FIELD_CONTENT, content, properties.getMaxFragments());
+        if (highlighted != null) {
+            return highlighted;
+        }
+        return encoder.encodeText(content.length() > properties.getFragmentChars()
+                ? content.substring(0, properties.getFragmentChars()) + "…"
+                : content);
+    }
+
+    private String bestFragments(Highlighter highlighter, String field, String text, int maxFragments) {
+        try {
+            String[] fragments = highlighter.getBestFragments(analyzer, field, text, maxFragments);
+            return fragments.length > 0 ? String.join(FRAGMENT_SEPARATOR, fragments) : null;
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            log.warn("검색어 강조 실패 - Reason: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long commitData(String key) {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (key.equals(entry.getKey())) {
+                    return Long.parseLong(entry.getValue());
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패 - Reason: {}", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.rally.ai_valley.domain.search.service;
+
+import com.rally.ai_valley.common.config.SearchProperties;
+import com.rally.ai_valley.domain.post.dto.PostSearchRow;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.dto.ReplySearchRow;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.repository.SearchIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 검색 색인 갱신
+// 1) 게시글 / 댓글 저장 트랜잭션이 커밋되면 바로 색인 (refresh 주기 안에 검색에 노출)
+// 2) 기동 시 / 주기적으로 마지막 동기화 위치(조금 앞) 이후 작성분을 DB 에서 읽어 색인 후 디스크에 커밋
+//    (저장 직후 반영이 실패했거나 커밋 전에 종료된 경우의 누락 보정, 같은 키는 교체되므로 중복 없음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexer {
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final SearchProperties properties;
+
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${search.sync-interval-ms:60000}",
+               initialDelayString = "${search.sync-interval-ms:60000}")
+    public void syncPeriodically() {
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        searchIndexRepository.refresh();
+    }
+
+    public void indexAfterCommit(SearchDocument document) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(document);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(document);
+            }
+        });
+    }
+
+    // 기동 시 동기화와 주기 동기화가 겹치지 않도록 직렬화
+    public synchronized void sync() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long syncedPostId = searchIndexRepository.lastSyncedPostId();
+            long syncedReplyId = searchIndexRepository.lastSyncedReplyId();
+            // 먼저 발급된 ID 가 나중에 커밋될 수 있으므로 동기화 위치 조금 앞부터 다시 읽음 (위치는 뒤로 물리지 않음)
+            long lastPostId = Math.max(syncedPostId, syncPosts(rescanFrom(syncedPostId)));
+            long lastReplyId = Math.max(syncedReplyId, syncReplies(rescanFrom(syncedReplyId)));
+            searchIndexRepository.commit(lastPostId, lastReplyId);
+            searchIndexRepository.refresh();
+            log.debug("검색 색인 동기화 - Last Post ID: {}, Last Reply ID: {}, Elapsed: {}ms",
+                    lastPostId, lastReplyId, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 다음 주기에 같은 위치부터 다시 시도
+            log.warn("검색 색인 동기화 실패 - Reason: {}", e.getMessage());
+        }
+    }
+
+    private long rescanFrom(long syncedId) {
+        return Math.max(0, syncedId - properties.getSyncRescanIds());
+    }
+
+    private long syncPosts(long afterPostId) {
+        long lastPostId = afterPostId;
+        while (true) {
+            long after = lastPostId;
+            List<PostSearchRow> page = readOnlyTransactionTemplate.execute(status -> postRepository.findPostsForSearchAfterId(
+                    after, properties.getMaxContentChars(), PageRequest.of(0, properties.getSyncBatchSize())));
+            if (page == null || page.isEmpty()) {
+                return lastPostId;
+            }
+
+            for (PostSearchRow row : page) {
+                searchIndexRepository.upsert(SearchDocument.ofPost(row));
+                lastPostId = row.getPostId();
+            }
+            if (page.size() < properties.getSyncBatchSize()) {
+                return lastPostId;
+            }
+        }
+    }
+
+    private long syncReplies(long afterReplyId) {
+        long lastReplyId = afterReplyId;
+        while (true) {
+            long after = lastReplyId;
+            List<ReplySearchRow> page = readOnlyTransactionTemplate.execute(status -> replyRepository.findRepliesForSearchAfterId(
+                    after, properties.getMaxContentChars(), PageRequest.of(0, properties.getSyncBatchSize())));
+            if (page == null || page.isEmpty()) {
+                return lastReplyId;
+            }
+
+            for (ReplySearchRow row : page) {
+                searchIndexRepository.upsert(SearchDocument.ofReply(row));
+                lastReplyId = row.getReplyId();
+            }
+            if (page.size() < properties.getSyncBatchSize()) {
+                return lastReplyId;
+            }
+        }
+    }
+
+    // 색인 실패가 저장 결과에 영향을 주지 않도록 로그만 남김 (다음 동기화에서 보정)
+    private void index(SearchDocument document) {
+        try {
+            searchIndexRepository.upsert(document);
+        } catch (Exception e) {
+            log.warn("검색 색인 실패 - Key: {}, Reason: {}", document.key(), e.getMessage());
+        }
+    }
+
+}
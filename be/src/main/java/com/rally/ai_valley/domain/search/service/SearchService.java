@@ -0,0 +1,55 @@
+package com.rally.ai_valley.domain.search.service;
+
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.domain.search.dto.SearchCursor;
+import com.rally.ai_valley.domain.search.dto.SearchResultResponse;
+import com.rally.ai_valley.domain.search.repository.SearchIndexRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class SearchService {
+
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final Timer searchTimer;
+
+
+    public SearchService(SearchIndexRepository searchIndexRepository, MeterRegistry meterRegistry) {
+        this.searchIndexRepository = searchIndexRepository;
+        this.searchTimer = Timer.builder("search.query")
+                .description("전문 검색 시간 (색인 조회 + 강조)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("search.index.documents", searchIndexRepository, SearchIndexRepository::documentCount)
+                .description("검색 색인 문서 수")
+                .register(meterRegistry);
+    }
+
+    // 관련도순 검색 (board / clone 이 있으면 해당 게시판 / 클론의 글만), size + 1 개로 다음 페이지 여부 판단
+    public CursorPageResponse<SearchResultResponse> search(String keyword, Long boardId, Long cloneId, String cursor, Integer size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "검색어를 입력해주세요.");
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.");
+        }
+
+        int pageSize = CursorPageResponse.resolveSize(size);
+        SearchCursor after = SearchCursor.decode(cursor);
+        List<SearchResultResponse> rows = searchTimer.record(() ->
+                searchIndexRepository.search(keyword.strip(), boardId, cloneId, after, pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, SearchCursor::encode);
+    }
+
+}
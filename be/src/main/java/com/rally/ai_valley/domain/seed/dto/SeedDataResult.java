@@ -0,0 +1,11 @@
+package com.rally.ai_valley.domain.seed.dto;
+
+public record SeedDataResult(long users,
+                             long clones,
+                             long boards,
+                             long subscriptions,
+                             long posts,
+                             long replies,
+                             long nestedReplies,
+                             long elapsedMillis) {
+}
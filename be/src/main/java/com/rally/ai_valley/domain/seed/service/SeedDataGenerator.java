@@ -0,0 +1,242 @@
+package com.rally.ai_valley.domain.seed.service;
+
+import com.rally.ai_valley.common.config.SeedDataProperties;
+import com.rally.ai_valley.common.utility.ZipfDistribution;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
+import com.rally.ai_valley.domain.seed.dto.SeedDataResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 대용량 합성 데이터 적재: 사용자 / 클론 / 게시판 / 구독 / 게시글 / 댓글(대댓글 체인)
+// ID를 직접 지정해 JDBC 배치로 넣으므로 생성 키 조회 없이 외래 키를 연결 (MySQL은 rewriteBatchedStatements 로 다중 행 INSERT)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeedDataGenerator {
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+            VALUES (?, ?, 'seed_password', ?, 'ROLE_USER', 1, ?, ?)
+            """;
+    private static final String INSERT_CLONE_SQL = """
+            INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 1, ?, ?)
+            """;
+    private static final String INSERT_BOARD_SQL = """
+            INSERT INTO boards (id, created_by, name, description, is_deleted, clone_count, post_count, reply_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, 0, 0, 0, ?, ?)
+            """;
+    private static final String INSERT_CLONE_BOARD_SQL = """
+            INSERT INTO clone_boards (clone_id, board_id, is_active, created_at, updated_at)
+            VALUES (?, ?, 1, ?, ?)
+            """;
+    private static final String INSERT_POST_SQL = """
+            INSERT INTO posts (id, board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)
+            """;
+    private static final String INSERT_REPLY_SQL = """
+            INSERT INTO replies (id, post_id, clone_id, parent_reply_id, content, is_deleted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+
+    public SeedDataResult generate(SeedDataProperties properties) {
+        if (properties.getUsers() < 1 || properties.getClones() < 1 || properties.getBoards() < 1) {
+            throw new IllegalArgumentException("사용자 / 클론 / 게시판 수는 1 이상이어야 합니다.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Random random = new Random(properties.getRandomSeed());
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        // 기존 데이터 뒤에 이어서 적재
+        long userBase = maxId("users");
+        long cloneBase = maxId("clones");
+        long boardBase = maxId("boards");
+        long postBase = maxId("posts");
+        long replyBase = maxId("replies");
+
+        // 사용자
+        try (BatchWriter writer = new BatchWriter(INSERT_USER_SQL, properties.getBatchSize())) {
+            for (long i = 1; i <= properties.getUsers(); i++) {
+                long userId = userBase + i;
+                writer.add(userId, "seed-user-" + userId + "@example.com", "seed" + userId, nowTimestamp, nowTimestamp);
+            }
+        }
+
+        // 클론 (사용자에게 무작위 배정)
+        try (BatchWriter writer = new BatchWriter(INSERT_CLONE_SQL, properties.getBatchSize())) {
+            for (long i = 1; i <= properties.getClones(); i++) {
+                long cloneId = cloneBase + i;
+                long userId = userBase + 1 + random.nextInt(properties.getUsers());
+                writer.add(cloneId, userId, "seed-clone-" + cloneId, "합성 데이터 클론 " + cloneId, nowTimestamp, nowTimestamp);
+            }
+        }
+
+        // 게시판
+        try (BatchWriter writer = new BatchWriter(INSERT_BOARD_SQL, properties.getBatchSize())) {
+            for (long i = 1; i <= properties.getBoards(); i++) {
+                long boardId = boardBase + i;
+                long userId = userBase + 1 + random.nextInt(properties.getUsers());
+                writer.add(boardId, userId, "seed-board-" + boardId, "합성 데이터 게시판 " + boardId, nowTimestamp, nowTimestamp);
+            }
+        }
+
+        // 구독: 인기 게시판(낮은 순위)일수록 구독자가 많음
+        ZipfDistribution boardDistribution = new ZipfDistribution(properties.getBoards(), properties.getZipfExponent());
+        List<List<Long>> subscribersByBoard = new ArrayList<>();
+        for (int i = 0; i < properties.getBoards(); i++) {
+            subscribersByBoard.add(new ArrayList<>());
+        }
+        int subscriptionsPerClone = Math.min(properties.getSubscriptionsPerClone(), properties.getBoards());
+        long subscriptionCount = 0;
+        try (BatchWriter writer = new BatchWriter(INSERT_CLONE_BOARD_SQL, properties.getBatchSize())) {
+            for (long i = 1; i <= properties.getClones(); i++) {
+                long cloneId = cloneBase + i;
+                Set<Integer> boardIndexes = new HashSet<>();
+                // 인기 게시판에 몰려 중복이 많으면 시도 횟수 제한 후 중단
+                for (int attempt = 0; boardIndexes.size() < subscriptionsPerClone && attempt < subscriptionsPerClone * 10; attempt++) {
+                    boardIndexes.add(boardDistribution.sample(random));
+                }
+                for (int boardIndex : boardIndexes) {
+                    subscribersByBoard.get(boardIndex).add(cloneId);
+                    writer.add(cloneId, boardBase + 1 + boardIndex, nowTimestamp, nowTimestamp);
+                    subscriptionCount++;
+                }
+            }
+        }
+
+        // 게시글: 게시판은 멱법칙으로 선택, 작성 시각은 최근 N일에 걸쳐 ID 순서대로 증가
+        LocalDateTime postStartAt = now.minusDays(properties.getDays());
+        long postIntervalSeconds = Math.max(1, properties.getDays() * 86_400L / Math.max(1, properties.getPosts()));
+        try (BatchWriter writer = new BatchWriter(INSERT_POST_SQL, properties.getBatchSize())) {
+            for (long i = 1; i <= properties.getPosts(); i++) {
+                long postId = postBase + i;
+                int boardIndex = boardDistribution.sample(random);
+                long cloneId = pickClone(subscribersByBoard.get(boardIndex), cloneBase, properties.getClones(), random);
+                Timestamp createdAt = Timestamp.valueOf(postStartAt.plusSeconds(i * postIntervalSeconds));
+                writer.add(postId, boardBase + 1 + boardIndex, cloneId,
+                        "seed-post-" + postId, "합성 데이터 게시글 본문 " + postId, createdAt, createdAt);
+            }
+        }
+
+        // 댓글: 게시글은 멱법칙으로 선택 (순위를 무작위로 섞어 오래된 글에만 몰리지 않게 함)
+        // 일정 확률로 같은 게시글의 직전 댓글을 부모로 지정해 대댓글 체인 생성
+        long nestedReplyCount = 0;
+        if (properties.getPosts() > 0) {
+            ZipfDistribution postDistribution = new ZipfDistribution(properties.getPosts(), properties.getZipfExponent());
+            int[] postByRank = shuffledIndexes(properties.getPosts(), random);
+            long[] lastReplyByPost = new long[properties.getPosts()];
+            int[] replyCountByPost = new int[properties.getPosts()];
+
+            try (BatchWriter writer = new BatchWriter(INSERT_REPLY_SQL, properties.getBatchSize())) {
+                for (long i = 1; i <= properties.getReplies(); i++) {
+                    long replyId = replyBase + i;
+                    int postIndex = postByRank[postDistribution.sample(random)];
+                    long cloneId = cloneBase + 1 + random.nextInt(properties.getClones());
+
+                    Long parentReplyId = null;
+                    if (lastReplyByPost[postIndex] != 0 && random.nextDouble() < properties.getReplyNestingProbability()) {
+                        parentReplyId = lastReplyByPost[postIndex];
+                        nestedReplyCount++;
+                    }
+
+                    // 게시글 작성 이후 1분 간격으로 이어지도록 배치
+                    replyCountByPost[postIndex]++;
+                    Timestamp createdAt = Timestamp.valueOf(postStartAt
+                            .plusSeconds((postIndex + 1L) * postIntervalSeconds)
+                            .plusMinutes(replyCountByPost[postIndex]));
+                    writer.add(replyId, postBase + 1 + postIndex, cloneId, parentReplyId,
+                            "합성 데이터 댓글 " + replyId, createdAt, createdAt);
+                    lastReplyByPost[postIndex] = replyId;
+                }
+            }
+        }
+
+        // 비정규화 카운터를 실제 행 수로 맞춤
+        transactionTemplate.executeWithoutResult(status -> boardCounterJdbcRepository.reconcileCounters(properties.getBatchSize()));
+
+        SeedDataResult result = new SeedDataResult(properties.getUsers(), properties.getClones(), properties.getBoards(),
+                subscriptionCount, properties.getPosts(), properties.getReplies(), nestedReplyCount,
+                System.currentTimeMillis() - startedAt);
+        log.info("시드 데이터 적재 완료 - {}", result);
+
+        return result;
+    }
+
+    private long maxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    // 게시판 구독자 중에서 작성자 선택 (구독자가 없으면 전체 클론 중 선택)
+    private long pickClone(List<Long> subscribers, long cloneBase, int cloneCount, Random random) {
+        if (subscribers.isEmpty()) {
+            return cloneBase + 1 + random.nextInt(cloneCount);
+        }
+        return subscribers.get(random.nextInt(subscribers.size()));
+    }
+
+    private int[] shuffledIndexes(int size, Random random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = temp;
+        }
+        return indexes;
+    }
+
+    // batchSize 만큼 모아 한 트랜잭션으로 배치 INSERT (메모리 사용량 일정)
+    private class BatchWriter implements AutoCloseable {
+
+        private final String sql;
+        private final int batchSize;
+        private final List<Object[]> rows;
+
+
+        private BatchWriter(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = batchSize;
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            rows.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.rally.ai_valley.domain.seed.service;
+
+import com.rally.ai_valley.common.config.SeedDataProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// seed.enabled=true 로 기동하면 설정된 규모의 합성 데이터를 한 번 적재 (예: --seed.enabled=true --seed.posts=100000)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true")
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final SeedDataGenerator seedDataGenerator;
+    private final SeedDataProperties seedDataProperties;
+
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seedDataGenerator.generate(seedDataProperties);
+    }
+
+}
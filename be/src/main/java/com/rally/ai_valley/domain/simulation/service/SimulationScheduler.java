@@ -0,0 +1,155 @@
+package com.rally.ai_valley.domain.simulation.service;
+
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.utility.TokenBucket;
+import com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse;
+import com.rally.ai_valley.domain.clone.repository.CloneBoardRepository;
+import com.rally.ai_valley.domain.generation.service.GenerationJobService;
+import com.rally.ai_valley.domain.post.dto.BoardLatestPostResponse;
+import com.rally.ai_valley.domain.post.dto.PostCreateRequest;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.dto.ReplyCreateRequest;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// 클론들이 스스로 게시글/댓글을 작성하도록 주기적으로 생성 작업을 발행
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "simulation.enabled", havingValue = "true")
+public class SimulationScheduler {
+
+    private final CloneBoardRepository cloneBoardRepository;
+    private final PostRepository postRepository;
+    private final ReplyRepository replyRepository;
+    private final GenerationJobService generationJobService;
+
+    private final Map<Long, TokenBucket> boardBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket globalBucket;
+
+    private LocalDateTime lastTickAt;
+    private long tickCount;
+
+    @Value("${simulation.activity-probability:0.3}")
+    private double activityProbability;
+
+    @Value("${simulation.post-probability:0.4}")
+    private double postProbability;
+
+    @Value("${simulation.board-rate-per-minute:2}")
+    private long boardRatePerMinute;
+
+    @Value("${simulation.full-scan-every-ticks:30}")
+    private long fullScanEveryTicks;
+
+
+    // 지연 초기화는 스레드 안전하지 않으므로 전역 버킷은 생성 시 만들어 둠
+    public SimulationScheduler(CloneBoardRepository cloneBoardRepository,
+                               PostRepository postRepository,
+                               ReplyRepository replyRepository,
+                               GenerationJobService generationJobService,
+                               @Value("${simulation.global-rate-per-minute:20}") long globalRatePerMinute) {
+        this.cloneBoardRepository = cloneBoardRepository;
+        this.postRepository = postRepository;
+        this.replyRepository = replyRepository;
+        this.generationJobService = generationJobService;
+        this.globalBucket = new TokenBucket(globalRatePerMinute);
+    }
+
+    @Scheduled(fixedDelayString = "${simulation.tick-interval-ms:10000}",
+               initialDelayString = "${simulation.initial-delay-ms:10000}")
+    @Transactional(readOnly = true)
+    public void tick() {
+        LocalDateTime tickStartedAt = LocalDateTime.now();
+
+        Set<Long> boardIds = findCandidateBoardIds();
+        lastTickAt = tickStartedAt;
+        tickCount++;
+
+        if (boardIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<CloneInBoardInfoResponse>> clonesByBoard = cloneBoardRepository.findActiveClonesInBoards(boardIds)
+                .stream()
+                .collect(Collectors.groupingBy(CloneInBoardInfoResponse::getBoardId));
+
+        Map<Long, Long> latestPostByBoard = postRepository.findLatestPostIdsByBoardIds(clonesByBoard.keySet())
+                .stream()
+                .collect(Collectors.toMap(BoardLatestPostResponse::getBoardId, BoardLatestPostResponse::getPostId));
+
+        int dispatched = 0;
+        for (Map.Entry<Long, List<CloneInBoardInfoResponse>> entry : clonesByBoard.entrySet()) {
+            dispatched += dispatchBoard(entry.getKey(), entry.getValue(), latestPostByBoard.get(entry.getKey()));
+        }
+
+        log.info("시뮬레이션 틱 #{} - Boards: {}, Dispatched: {}", tickCount, clonesByBoard.size(), dispatched);
+    }
+
+    // 최초 틱과 주기적 전체 스캔을 제외하면 마지막 틱 이후 활동이 있었던 게시판만 대상
+    private Set<Long> findCandidateBoardIds() {
+        if (lastTickAt == null || (fullScanEveryTicks > 0 && tickCount % fullScanEveryTicks == 0)) {
+            return new HashSet<>(cloneBoardRepository.findActiveBoardIds());
+        }
+
+        Set<Long> boardIds = new HashSet<>();
+        boardIds.addAll(postRepository.findBoardIdsWithPostsCreatedAfter(lastTickAt));
+        boardIds.addAll(replyRepository.findBoardIdsWithRepliesCreatedAfter(lastTickAt));
+        boardIds.addAll(cloneBoardRepository.findBoardIdsWithSubscriptionsUpdatedAfter(lastTickAt));
+
+        return boardIds;
+    }
+
+    private int dispatchBoard(Long boardId, List<CloneInBoardInfoResponse> clones, Long latestPostId) {
+        TokenBucket boardBucket = boardBuckets.computeIfAbsent(boardId, id -> new TokenBucket(boardRatePerMinute));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<CloneInBoardInfoResponse> shuffled = new ArrayList<>(clones);
+        Collections.shuffle(shuffled, random);
+
+        int dispatched = 0;
+        for (CloneInBoardInfoResponse clone : shuffled) {
+            if (random.nextDouble() >= activityProbability) {
+                continue;
+            }
+            // 게시판 한도를 먼저 확인해야 전역 토큰을 낭비하지 않음
+            if (!boardBucket.tryAcquire()) {
+                break;
+            }
+            if (!globalBucket.tryAcquire()) {
+                return dispatched;
+            }
+
+            boolean writePost = latestPostId == null || random.nextDouble() < postProbability;
+            try {
+                if (writePost) {
+                    PostCreateRequest postCreateRequest = new PostCreateRequest();
+                    postCreateRequest.setCloneId(clone.getCloneId());
+                    generationJobService.submitPost(boardId, postCreateRequest);
+                } else {
+                    generationJobService.submitReply(latestPostId, ReplyCreateRequest.builder()
+                            .cloneId(clone.getCloneId())
+                            .build());
+                }
+                dispatched++;
+            } catch (CustomException e) {
+                // 작업 큐가 가득 찬 경우 이번 틱은 여기서 중단
+                log.warn("시뮬레이션 발행 중단 - Board ID: {}, Reason: {}", boardId, e.getErrorCode());
+                return dispatched;
+            }
+        }
+
+        return dispatched;
+    }
+
+}
@@ -2,8 +2,11 @@ package com.rally.ai_valley.domain.user.repository;
 
 import com.rally.ai_valley.domain.user.dto.UserStatisticsResponse;
 import com.rally.ai_valley.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +16,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT u " +
             "FROM User u " +
             "WHERE u.id = :userId AND u.isActive = 1")
@@ -24,17 +28,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
-    // 서브쿼리도 가능
+    // 엔티티별 스칼라 서브쿼리로 각각 집계 (LEFT JOIN 조합 시 클론 x 게시글 x 댓글 크기의 카테시안 곱이 생김)
     @Query("""
         SELECT new com.rally.ai_valley.domain.user.dto.UserStatisticsResponse(
-            COUNT(DISTINCT p.id),
-            COUNT(DISTINCT r.id),
-            COUNT(DISTINCT c.id)
+            (SELECT COUNT(p) FROM Post p WHERE p.clone.user.id = u.id),
+            (SELECT COUNT(r) FROM Reply r WHERE r.clone.user.id = u.id),
+            (SELECT COUNT(c) FROM Clone c WHERE c.user.id = u.id)
             )
         FROM User u
-        LEFT JOIN u.clones c
-        LEFT JOIN c.posts p
-        LEFT JOIN c.replies r
         WHERE u.id = :userId
             AND u.isActive = 1
     """)
@@ -62,7 +62,10 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserStatisticsResponse getUserStatistics(Long userId) {
-        return userRepository.findUserStatistics(userId);
+        UserStatisticsResponse userStatisticsResponse = userRepository.findUserStatistics(userId);
+
+        // 집계 쿼리가 아니므로 사용자가 없으면 행이 없음 (기존 응답과 동일하게 0으로 반환)
+        return userStatisticsResponse != null ? userStatisticsResponse : new UserStatisticsResponse(0L, 0L, 0L);
     }
 
 }
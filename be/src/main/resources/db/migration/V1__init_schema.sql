@@ -0,0 +1,81 @@
+-- 초기 스키마 (Flyway 도입 전 ddl-auto=update 로 관리되던 운영 DB 구조와 동일)
+-- 기존 운영 DB는 baseline-on-migrate 로 V1을 건너뛰고 V2부터 적용하므로 이후 변경은 V1에 넣지 않음
+
+CREATE TABLE users (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    email           VARCHAR(255) NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    nickname        VARCHAR(255) NOT NULL,
+    role            VARCHAR(20)  NOT NULL,
+    last_login_time DATETIME(6),
+    is_active       INT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE clones (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    is_active   INT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_clones_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE boards (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_by  BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    is_deleted  INT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_boards_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+);
+
+CREATE TABLE clone_boards (
+    clone_id   BIGINT NOT NULL,
+    board_id   BIGINT NOT NULL,
+    is_active  INT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (clone_id, board_id),
+    CONSTRAINT fk_clone_boards_clone FOREIGN KEY (clone_id) REFERENCES clones (id),
+    CONSTRAINT fk_clone_boards_board FOREIGN KEY (board_id) REFERENCES boards (id)
+);
+
+CREATE TABLE posts (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    board_id   BIGINT       NOT NULL,
+    clone_id   BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    view_count BIGINT       NOT NULL,
+    is_deleted INT          NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_board FOREIGN KEY (board_id) REFERENCES boards (id),
+    CONSTRAINT fk_posts_clone FOREIGN KEY (clone_id) REFERENCES clones (id)
+);
+
+CREATE TABLE replies (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    post_id         BIGINT NOT NULL,
+    clone_id        BIGINT NOT NULL,
+    parent_reply_id BIGINT,
+    content         TEXT   NOT NULL,
+    is_deleted      INT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_replies_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_replies_clone FOREIGN KEY (clone_id) REFERENCES clones (id),
+    CONSTRAINT fk_replies_parent FOREIGN KEY (parent_reply_id) REFERENCES replies (id)
+);
@@ -0,0 +1,15 @@
+-- 조회 조건에 맞춘 복합 인덱스 (RepositoryQueryPlanTest 로 전체 스캔 여부 검증)
+
+-- 게시판 / 클론별 게시글, 게시글별 댓글 목록 (키셋 페이지네이션)
+CREATE INDEX idx_posts_board_created ON posts (board_id, is_deleted, created_at, id);
+CREATE INDEX idx_posts_clone_created ON posts (clone_id, is_deleted, created_at, id);
+CREATE INDEX idx_replies_post_created ON replies (post_id, is_deleted, created_at, id);
+
+-- 클론별 댓글 목록 / AI 컨텍스트용 최근 댓글 (clone_id = ? AND is_deleted = 0 ORDER BY created_at DESC)
+CREATE INDEX idx_replies_clone_created ON replies (clone_id, is_deleted, created_at);
+
+-- 게시판의 구독 클론 목록 (PK는 clone_id 선행이라 board_id 조건에 쓸 수 없음)
+CREATE INDEX idx_clone_boards_board_active ON clone_boards (board_id, is_active);
+
+-- 게시판 목록 (is_deleted = 0)
+CREATE INDEX idx_boards_deleted ON boards (is_deleted);
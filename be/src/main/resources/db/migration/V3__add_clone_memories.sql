@@ -0,0 +1,18 @@
+-- 클론별 누적 활동 요약 (AI 요청에는 요약 + 마지막 요약 이후 작성한 게시글 / 댓글만 포함)
+-- last_post_id / last_reply_id: 요약에 반영된 마지막 게시글 / 댓글 ID
+-- pending_count: 마지막 요약 이후 작성한 게시글 / 댓글 수 (요약 작업 대상 선정 기준)
+CREATE TABLE clone_memories (
+    clone_id      BIGINT NOT NULL,
+    summary       TEXT,
+    last_post_id  BIGINT NOT NULL DEFAULT 0,
+    last_reply_id BIGINT NOT NULL DEFAULT 0,
+    pending_count INT    NOT NULL DEFAULT 0,
+    folded_at     DATETIME(6),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (clone_id),
+    CONSTRAINT fk_clone_memories_clone FOREIGN KEY (clone_id) REFERENCES clones (id)
+);
+
+-- 요약 대상 클론 조회 (pending_count >= ? ORDER BY pending_count DESC)
+CREATE INDEX idx_clone_memories_pending ON clone_memories (pending_count);
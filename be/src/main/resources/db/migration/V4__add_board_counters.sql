@@ -0,0 +1,11 @@
+-- 게시판 비정규화 카운터 (목록 조회 시 COUNT 서브쿼리 제거)
+-- 기존 데이터는 실제 행 수로 채움 (이후 증감은 BoardCounterJdbcRepository, 오차는 BoardCounterReconciler 가 보정)
+ALTER TABLE boards ADD COLUMN clone_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN post_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE boards b
+SET clone_count = (SELECT COUNT(*) FROM clone_boards cb WHERE cb.board_id = b.id AND cb.is_active = 1),
+    post_count = (SELECT COUNT(*) FROM posts p WHERE p.board_id = b.id AND p.is_deleted = 0),
+    reply_count = (SELECT COUNT(*) FROM replies r INNER JOIN posts p ON r.post_id = p.id
+                   WHERE p.board_id = b.id AND p.is_deleted = 0 AND r.is_deleted = 0);
@@ -0,0 +1,11 @@
+-- 시뮬레이션 틱의 "마지막 틱 이후 활동" 조회 (created_at / updated_at > ? 범위 조건)
+-- 범위 조건 컬럼을 앞에 두고 조회 컬럼까지 포함해 테이블 크기와 무관하게 최근 행만 읽도록 함
+
+-- 마지막 틱 이후 게시글이 작성된 게시판 (posts.created_at > ? AND is_deleted = 0)
+CREATE INDEX idx_posts_created_board ON posts (created_at, is_deleted, board_id);
+
+-- 마지막 틱 이후 댓글이 작성된 게시판 (replies.created_at > ? AND is_deleted = 0, 게시글은 PK 로 조인)
+CREATE INDEX idx_replies_created_post ON replies (created_at, is_deleted, post_id);
+
+-- 마지막 틱 이후 구독이 추가 / 재활성화된 게시판 (clone_boards.updated_at > ? AND is_active = 1)
+CREATE INDEX idx_clone_boards_updated_board ON clone_boards (updated_at, is_active, board_id);
@@ -0,0 +1,4 @@
+-- 댓글 스레드 조회
+
+-- 게시글의 루트 댓글 키셋 페이지 (post_id = ? AND parent_reply_id IS NULL AND is_deleted = 0 ORDER BY created_at, id)
+CREATE INDEX idx_replies_post_root_created ON replies (post_id, parent_reply_id, is_deleted, created_at, id);
@@ -0,0 +1,140 @@
+package com.rally.ai_valley;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 스키마(db/migration) 기준으로 모든 @Query 의 실행 계획을 확인해 전체 스캔(tableScan)이 없는지 검증
+// 각 메서드를 더미 인자로 실행해 Hibernate 가 만든 SQL 을 수집한 뒤 H2(MySQL 모드) EXPLAIN 으로 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.rally.ai_valley.RepositoryQueryPlanTest$SqlCapture")
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final String FULL_SCAN_MARKER = ".tableScan";
+
+    // 의도적으로 전체 스캔을 허용하는 쿼리: 시뮬레이션의 주기적 전체 게시판 스캔 (기본 비활성화, full-scan-every-ticks 마다 1회)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "CloneBoardRepository.findActiveBoardIds"
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("모든 조회 @Query 가 인덱스를 사용 (전체 스캔 없음)")
+    void noFullScanInRepositoryQueries() throws Exception {
+        // given
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> violations = new ArrayList<>();
+        int checkedQueries = 0;
+
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+
+            for (Method method : information.getRepositoryInterface().getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Query.class) || method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                String queryName = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+
+                // when
+                SqlCapture.clear();
+                method.invoke(repository, dummyArguments(method));
+
+                // then
+                for (String sql : SqlCapture.drain()) {
+                    String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+                    checkedQueries++;
+                    if (plan != null && plan.contains(FULL_SCAN_MARKER) && !FULL_SCAN_ALLOWED.contains(queryName)) {
+                        violations.add(queryName + System.lineSeparator() + plan);
+                    }
+                }
+            }
+        }
+
+        assertThat(checkedQueries).isPositive();
+        assertThat(violations)
+                .withFailMessage(() -> "전체 스캔이 발생하는 쿼리:" + System.lineSeparator()
+                        + String.join(System.lineSeparator() + System.lineSeparator(), violations))
+                .isEmpty();
+    }
+
+    // 빈 테이블에서 실행만 되면 되므로 타입별 고정값 사용
+    private Object[] dummyArguments(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(this::dummyValue)
+                .toArray();
+    }
+
+    private Object dummyValue(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == String.class) {
+            return "query-plan";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (Pageable.class.isAssignableFrom(type)) {
+            return PageRequest.of(0, 20);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L, 2L);
+        }
+        throw new IllegalArgumentException("지원하지 않는 파라미터 타입: " + type);
+    }
+
+    // Hibernate 가 실행하는 SQL 수집 (hibernate.session_factory.statement_inspector)
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> drain() {
+            synchronized (STATEMENTS) {
+                List<String> statements = new ArrayList<>(STATEMENTS);
+                STATEMENTS.clear();
+                return statements;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.rally.ai_valley.common.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 테스트용 로컬 AI 서버. /post, /post/batch, /post/stream, /reply 를 흉내 내고 받은 요청을 기록한다.
+ * 응답 지연(setLatency), 스트리밍 이벤트 간 지연(setEventInterval), done 전 스트림 종료(setStreamTruncated)와
+ * 실패(failNext, failAlways)를 주입할 수 있다.
+ */
+public class StubAiServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final List<JsonNode> receivedBodies = new CopyOnWriteArrayList<>();
+    private final HttpServer server;
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration eventInterval = Duration.ZERO;
+    private volatile int failureStatus = 500;
+    private volatile boolean failAlways;
+    private volatile boolean streamTruncated;
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    public StubAiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/post", exchange -> handle(exchange, this::createPost));
+        server.createContext("/post/batch", exchange -> handle(exchange, this::createPostBatch));
+        server.createContext("/post/stream", this::streamPost);
+        server.createContext("/reply", exchange -> handle(exchange, this::createReply));
+    }
+
+    public StubAiServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public List<JsonNode> getReceivedBodies() {
+        return receivedBodies;
+    }
+
+    public StubAiServer setLatency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    // 스트리밍 이벤트 사이의 지연
+    public StubAiServer setEventInterval(Duration eventInterval) {
+        this.eventInterval = eventInterval;
+        return this;
+    }
+
+    // true 면 스트리밍 응답을 done 이벤트 없이 정상 종료한다
+    public StubAiServer setStreamTruncated(boolean streamTruncated) {
+        this.streamTruncated = streamTruncated;
+        return this;
+    }
+
+    // 다음 count 건의 요청을 status 로 실패시킨다
+    public StubAiServer failNext(int count, int status) {
+        this.failureStatus = status;
+        this.remainingFailures.set(count);
+        return this;
+    }
+
+    public StubAiServer failAlways(int status) {
+        this.failureStatus = status;
+        this.failAlways = true;
+        return this;
+    }
+
+    public StubAiServer recover() {
+        this.failAlways = false;
+        this.remainingFailures.set(0);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private JsonNode createPost(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("title", "stub title " + request.path("cloneId").asLong());
+        response.put("content", "stub content for " + request.path("board_description").asText());
+        return response;
+    }
+
+    private JsonNode createPostBatch(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode posts = response.putArray("posts");
+        for (JsonNode clone : request.path("clones")) {
+            posts.addObject()
+                    .put("cloneId", clone.path("cloneId").asLong())
+                    .put("title", "stub title " + clone.path("cloneId").asLong())
+                    .put("content", "stub content for " + request.path("board_description").asText());
+        }
+        return response;
+    }
+
+    private JsonNode createReply(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("content", "stub reply to " + request.path("post_title").asText());
+        return response;
+    }
+
+    // title -> delta x2 -> done 순서로 이벤트를 하나씩 flush
+    private void streamPost(HttpExchange exchange) throws IOException {
+        JsonNode request = record(exchange);
+        if (injectFault(exchange)) {
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            writeEvent(outputStream, "title", "stub title " + request.path("cloneId").asLong());
+            writeEvent(outputStream, "delta", "stub content ");
+            if (streamTruncated) {
+                return;
+            }
+            writeEvent(outputStream, "delta", "for " + request.path("board_description").asText());
+            writeEvent(outputStream, "done", null);
+        }
+    }
+
+    private void writeEvent(OutputStream outputStream, String event, String text) throws IOException {
+        sleep(eventInterval);
+        ObjectNode data = objectMapper.createObjectNode();
+        if (text != null) {
+            data.put("text", text);
+        }
+        String frame = "event: " + event + "\ndata: " + objectMapper.writeValueAsString(data) + "\n\n";
+        outputStream.write(frame.getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    // 지연 후, 실패가 주입되어 있으면 오류 응답을 보내고 true 반환
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        sleep(latency);
+
+        boolean fail = failAlways || remainingFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+        if (!fail) {
+            return false;
+        }
+
+        byte[] body = "{\"detail\":\"stub failure\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(failureStatus, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+        return true;
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JsonNode record(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        receivedBodies.add(request);
+        return request;
+    }
+
+    private void handle(HttpExchange exchange, Function<JsonNode, JsonNode> handler) throws IOException {
+        JsonNode request = record(exchange);
+        if (injectFault(exchange)) {
+            return;
+        }
+
+        byte[] body = objectMapper.writeValueAsString(handler.apply(request)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
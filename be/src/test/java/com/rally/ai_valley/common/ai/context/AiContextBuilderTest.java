@@ -0,0 +1,195 @@
+package com.rally.ai_valley.common.ai.context;
+
+import com.rally.ai_valley.common.ai.embedding.EmbeddingProvider;
+import com.rally.ai_valley.common.ai.embedding.HashingEmbeddingProvider;
+import com.rally.ai_valley.common.ai.vector.HistoryVectorIndex;
+import com.rally.ai_valley.common.config.AiContextProperties;
+import com.rally.ai_valley.domain.clone.entity.CloneMemory;
+import com.rally.ai_valley.domain.clone.repository.CloneMemoryRepository;
+import com.rally.ai_valley.domain.post.dto.PostInfoForAiByClone;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponseForAi;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AiContextBuilderTest {
+
+    private static final Long CLONE_ID = 1L;
+
+    private PostRepository postRepository;
+    private ReplyRepository replyRepository;
+    private CloneMemoryRepository cloneMemoryRepository;
+    private HistoryVectorIndex historyVectorIndex;
+    private EmbeddingProvider embeddingProvider;
+    private AiContextProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        replyRepository = mock(ReplyRepository.class);
+        cloneMemoryRepository = mock(CloneMemoryRepository.class);
+        historyVectorIndex = mock(HistoryVectorIndex.class);
+        embeddingProvider = new HashingEmbeddingProvider(128);
+        properties = new AiContextProperties();
+        when(replyRepository.findRecentRepliesByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 본문은 문장 끝에서 자르고 말줄임표를 붙임")
+    void truncateAtSentenceBoundary() {
+        // given
+        String text = "첫 문장입니다. 두 번째 문장은 조금 더 깁니다. 세 번째 문장";
+
+        // when
+        String truncated = AiContextBuilder.truncate(text, 30);
+
+        // then
+        assertThat(truncated).isEqualTo("첫 문장입니다. 두 번째 문장은 조금 더 깁니다.…");
+        assertThat(AiContextBuilder.truncate("짧은 글", 30)).isEqualTo("짧은 글");
+    }
+
+    @Test
+    @DisplayName("최대 개수 안에서 생성 대상과 관련된 이력을 우선 선택하고 최신순으로 정렬")
+    void selectRelevantWithinMaxItems() {
+        // given
+        properties.setMaxItems(2);
+        properties.setRelevanceWeight(0.8);
+        List<PostInfoForAiByClone> posts = List.of(
+                post("잡담", "오늘 점심 메뉴", "김치찌개를 먹었다"),
+                post("개발", "스프링 캐시 정리", "스프링 캐시 설정 방법"),
+                post("잡담", "주말 계획", "등산을 간다"),
+                post("개발", "스프링 트랜잭션", "스프링 트랜잭션 전파 속성")
+        );
+        when(postRepository.findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(posts);
+        AiContextBuilder builder = new AiContextBuilder(postRepository, replyRepository, cloneMemoryRepository, historyVectorIndex, embeddingProvider, properties, new SimpleMeterRegistry());
+
+        // when
+        AiContext context = builder.build(CLONE_ID, "개발 스프링 이야기");
+
+        // then
+        assertThat(context.postHistory())
+                .extracting(PostInfoResponseForAi::getPostTitle)
+                .containsExactly("스프링 캐시 정리", "스프링 트랜잭션");
+    }
+
+    @Test
+    @DisplayName("글자 수 예산을 넘는 이력은 제외")
+    void excludeOverBudget() {
+        // given
+        properties.setMaxChars(20);
+        List<PostInfoForAiByClone> posts = List.of(
+                post("b", "짧은 글", "본문"),
+                post("b", "긴 글", "이 본문은 예산을 넘을 만큼 충분히 깁니다")
+        );
+        when(postRepository.findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(posts);
+        AiContextBuilder builder = new AiContextBuilder(postRepository, replyRepository, cloneMemoryRepository, historyVectorIndex, embeddingProvider, properties, new SimpleMeterRegistry());
+
+        // when
+        AiContext context = builder.build(CLONE_ID, "");
+
+        // then
+        assertThat(context.postHistory())
+                .extracting(PostInfoResponseForAi::getPostTitle)
+                .containsExactly("짧은 글");
+    }
+
+    @Test
+    @DisplayName("누적 요약을 함께 전달하고 요약 길이만큼 이력 예산을 줄임")
+    void includeMemorySummaryWithinBudget() {
+        // given
+        properties.setMaxChars(30);
+        CloneMemory memory = mock(CloneMemory.class);
+        when(memory.getCloneId()).thenReturn(CLONE_ID);
+        when(memory.getSummary()).thenReturn("요약된 지난 활동 내용");
+        when(cloneMemoryRepository.findCloneMemoriesByCloneIds(anyCollection())).thenReturn(List.of(memory));
+        List<PostInfoForAiByClone> posts = List.of(
+                post("b", "짧은 글", "본문"),
+                post("b", "조금 긴 글", "요약이 없으면 들어갈 본문")
+        );
+        when(postRepository.findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(posts);
+        AiContextBuilder builder = new AiContextBuilder(postRepository, replyRepository, cloneMemoryRepository, historyVectorIndex, embeddingProvider, properties, new SimpleMeterRegistry());
+
+        // when
+        AiContext context = builder.build(CLONE_ID, "");
+
+        // then
+        assertThat(context.memorySummary()).isEqualTo("요약된 지난 활동 내용");
+        assertThat(context.postHistory())
+                .extracting(PostInfoResponseForAi::getPostTitle)
+                .containsExactly("짧은 글");
+    }
+
+    @Test
+    @DisplayName("임베딩 인덱스에서 찾은 과거 이력을 최근 이력 후보에 더해 선택")
+    void includeSimilarHistoryFromIndex() {
+        // given
+        properties.setMaxItems(2);
+        properties.setRelevanceWeight(0.8);
+        List<PostInfoForAiByClone> recentPosts = List.of(
+                post(3L, "잡담", "오늘 점심 메뉴", "김치찌개를 먹었다"),
+                post(2L, "잡담", "주말 계획", "등산을 간다")
+        );
+        List<PostInfoForAiByClone> similarPosts = List.of(post(1L, "개발", "스프링 캐시 정리", "스프링 캐시 설정 방법"));
+        when(postRepository.findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(recentPosts);
+        when(postRepository.findPostsForAiByIds(anyCollection(), anyInt())).thenReturn(similarPosts);
+        when(historyVectorIndex.isEnabled()).thenReturn(true);
+        when(historyVectorIndex.findSimilar(eq(CLONE_ID), any()))
+                .thenReturn(new HistoryVectorIndex.SimilarHistory(List.of(1L, 3L), List.of()));
+        AiContextBuilder builder = new AiContextBuilder(postRepository, replyRepository, cloneMemoryRepository, historyVectorIndex, embeddingProvider, properties, new SimpleMeterRegistry());
+
+        // when
+        AiContext context = builder.build(CLONE_ID, "스프링 캐시 이야기");
+
+        // then
+        assertThat(context.postHistory())
+                .extracting(PostInfoResponseForAi::getPostTitle)
+                .containsExactly("오늘 점심 메뉴", "스프링 캐시 정리");
+        verify(postRepository).findPostsForAiByIds(eq(Set.of(1L)), anyInt()); // 최근 후보에 있는 3번은 다시 조회하지 않음
+    }
+
+    @Test
+    @DisplayName("같은 클론의 이력은 캐시에서 재사용하고 무효화 후 다시 조회")
+    void cacheUntilEvicted() {
+        // given
+        when(postRepository.findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt())).thenReturn(List.of());
+        AiContextBuilder builder = new AiContextBuilder(postRepository, replyRepository, cloneMemoryRepository, historyVectorIndex, embeddingProvider, properties, new SimpleMeterRegistry());
+
+        // when
+        builder.build(CLONE_ID, "첫 요청");
+        builder.build(CLONE_ID, "두 번째 요청");
+        builder.evictAfterCommit(CLONE_ID);
+        builder.build(CLONE_ID, "무효화 이후 요청");
+
+        // then
+        verify(postRepository, times(2)).findRecentPostsByCloneIdsForAi(anyCollection(), anyInt(), anyInt());
+        verify(replyRepository, times(2)).findRecentRepliesByCloneIdsForAi(anyCollection(), anyInt(), anyInt());
+    }
+
+    private PostInfoForAiByClone post(String boardName, String title, String content) {
+        return post(null, boardName, title, content);
+    }
+
+    private PostInfoForAiByClone post(Long postId, String boardName, String title, String content) {
+        PostInfoForAiByClone post = mock(PostInfoForAiByClone.class);
+        when(post.getCloneId()).thenReturn(CLONE_ID);
+        when(post.getPostId()).thenReturn(postId);
+        when(post.getBoardName()).thenReturn(boardName);
+        when(post.getPostTitle()).thenReturn(title);
+        when(post.getPostContent()).thenReturn(content);
+        return post;
+    }
+
+}
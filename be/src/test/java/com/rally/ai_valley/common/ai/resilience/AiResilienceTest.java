@@ -0,0 +1,157 @@
+package com.rally.ai_valley.common.ai.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_valley.common.ai.StubAiServer;
+import com.rally.ai_valley.common.ai.cache.AiRequestCoalescer;
+import com.rally.ai_valley.common.ai.service.AiService;
+import com.rally.ai_valley.common.config.AiClientProperties;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.domain.post.dto.AiPostCreateResponse;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiResilienceTest {
+
+    private StubAiServer stubAiServer;
+    private AiClientProperties aiClientProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubAiServer = new StubAiServer().start();
+        aiClientProperties = new AiClientProperties();
+        aiClientProperties.getRetry().setMinBackoff(Duration.ofMillis(10));
+        aiClientProperties.getRetry().setMaxBackoff(Duration.ofMillis(50));
+        aiClientProperties.getDedup().setEnabled(false); // 동일 요청을 반복 호출하므로 중복 제거 비활성화
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAiServer.close();
+    }
+
+    @Test
+    @DisplayName("일시적인 5xx 오류는 재시도 후 성공")
+    void retryTransientFailure() {
+        // given
+        stubAiServer.failNext(1, 503);
+        AiService aiService = aiService(CircuitBreakerConfig.ofDefaults(), BulkheadConfig.ofDefaults());
+
+        // when
+        AiPostCreateResponse response = createPost(aiService).block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai.retry", "outcome", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 더 이상 재시도하지 않음")
+    void retryBudgetExhausted() {
+        // given
+        stubAiServer.failAlways(503);
+        aiClientProperties.getRetry().setBudgetRatio(0);
+        aiClientProperties.getRetry().setBudgetMaxTokens(1);
+        AiService aiService = aiService(CircuitBreakerConfig.ofDefaults(), BulkheadConfig.ofDefaults());
+
+        // when
+        assertThatThrownBy(() -> createPost(aiService).block()).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> createPost(aiService).block()).isInstanceOf(RuntimeException.class);
+
+        // then - 첫 요청만 1회 재시도, 이후 재시도 시도는 모두 예산 부족으로 거절
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(3);
+        assertThat(meterRegistry.counter("ai.retry", "outcome", "retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.retry", "outcome", "budget_exhausted").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 AI 서버를 호출하지 않고 즉시 실패")
+    void circuitBreakerOpens() {
+        // given
+        stubAiServer.failAlways(500);
+        aiClientProperties.getRetry().setMaxAttempts(0);
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build();
+        AiResilience aiResilience = aiResilience(circuitBreakerConfig, BulkheadConfig.ofDefaults());
+        AiService aiService = aiService(aiResilience);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> createPost(aiService).block()).isInstanceOf(RuntimeException.class);
+        }
+
+        // when & then
+        assertThat(aiResilience.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> createPost(aiService).block())
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_UNAVAILABLE));
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(4);
+        assertThat(meterRegistry.counter("ai.circuitbreaker.transition", "from", "CLOSED", "to", "OPEN").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 대기하지 않고 즉시 거절")
+    void bulkheadRejectsWhenFull() {
+        // given
+        stubAiServer.setLatency(Duration.ofMillis(500));
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        AiService aiService = aiService(CircuitBreakerConfig.ofDefaults(), bulkheadConfig);
+
+        // when
+        CompletableFuture<AiPostCreateResponse> inFlight = createPost(aiService).toFuture();
+
+        // then
+        assertThatThrownBy(() -> createPost(aiService).block())
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_UNAVAILABLE));
+        assertThat(inFlight.join()).isNotNull();
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(1);
+    }
+
+    private Mono<AiPostCreateResponse> createPost(AiService aiService) {
+        return aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제");
+    }
+
+    private AiService aiService(CircuitBreakerConfig circuitBreakerConfig, BulkheadConfig bulkheadConfig) {
+        return aiService(aiResilience(circuitBreakerConfig, bulkheadConfig));
+    }
+
+    private AiService aiService(AiResilience aiResilience) {
+        return new AiService(WebClient.builder()
+                .baseUrl(stubAiServer.getBaseUrl())
+                .build(), aiClientProperties, aiResilience,
+                new AiRequestCoalescer(new ObjectMapper(), aiClientProperties, meterRegistry));
+    }
+
+    private AiResilience aiResilience(CircuitBreakerConfig circuitBreakerConfig, BulkheadConfig bulkheadConfig) {
+        return new AiResilience(CircuitBreakerRegistry.of(circuitBreakerConfig),
+                BulkheadRegistry.of(bulkheadConfig), aiClientProperties, meterRegistry);
+    }
+}
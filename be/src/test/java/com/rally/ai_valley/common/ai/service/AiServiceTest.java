@@ -0,0 +1,163 @@
+package com.rally.ai_valley.common.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_valley.common.ai.StubAiServer;
+import com.rally.ai_valley.common.ai.cache.AiRequestCoalescer;
+import com.rally.ai_valley.common.ai.dto.AiStreamChunk;
+import com.rally.ai_valley.common.ai.resilience.AiResilience;
+import com.rally.ai_valley.common.config.AiClientProperties;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import com.rally.ai_valley.domain.post.dto.AiPostBatchCloneRequest;
+import com.rally.ai_valley.domain.post.dto.AiPostBatchCreateRequest;
+import com.rally.ai_valley.domain.post.dto.AiPostBatchCreateResponse;
+import com.rally.ai_valley.domain.post.dto.AiPostCreateResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AiServiceTest {
+
+    private StubAiServer stubAiServer;
+    private AiClientProperties aiClientProperties;
+    private AiService aiService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubAiServer = new StubAiServer().start();
+        aiClientProperties = new AiClientProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        aiService = new AiService(WebClient.builder()
+                .baseUrl(stubAiServer.getBaseUrl())
+                .build(), aiClientProperties,
+                new AiResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), aiClientProperties, meterRegistry),
+                new AiRequestCoalescer(new ObjectMapper(), aiClientProperties, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAiServer.close();
+    }
+
+    @Test
+    @DisplayName("게시글 생성 요청 테스트")
+    void aiCreatePost() {
+        // when
+        AiPostCreateResponse response = aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getTitle()).isEqualTo("stub title 1");
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 게시글 생성 요청 테스트 - 여러 클론을 한 번의 요청으로 처리")
+    void aiCreatePostBatch() {
+        // given
+        AiPostBatchCreateRequest request = new AiPostBatchCreateRequest();
+        request.setBoardDescription("게시판 주제");
+        request.setClones(List.of(cloneRequest(1L), cloneRequest(2L), cloneRequest(3L)));
+
+        // when
+        AiPostBatchCreateResponse response = aiService.AiCreatePostBatch(request).block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getPosts()).hasSize(3);
+        assertThat(response.getPosts()).extracting("cloneId").containsExactly(1L, 2L, 3L);
+        assertThat(stubAiServer.getRequestCount("/post/batch")).isEqualTo(1);
+        assertThat(stubAiServer.getRequestCount("/post")).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 스트리밍 요청 테스트 - done 이벤트 전까지의 이벤트만 전달")
+    void aiStreamPost() {
+        // when
+        List<ServerSentEvent<AiStreamChunk>> events = aiService.AiStreamPost(1L, "성향", List.of(), List.of(), null, "게시판 주제")
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event)
+                .containsExactly(AiStreamChunk.EVENT_TITLE, AiStreamChunk.EVENT_DELTA, AiStreamChunk.EVENT_DELTA);
+        assertThat(events.get(0).data().getText()).isEqualTo("stub title 1");
+        assertThat(events.get(1).data().getText() + events.get(2).data().getText())
+                .isEqualTo("stub content for 게시판 주제");
+        assertThat(stubAiServer.getRequestCount("/post/stream")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 동일 요청은 하나의 AI 호출을 공유")
+    void coalesceInFlightRequests() {
+        // given
+        stubAiServer.setLatency(Duration.ofMillis(300));
+
+        // when
+        CompletableFuture<AiPostCreateResponse> first = aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").toFuture();
+        CompletableFuture<AiPostCreateResponse> second = aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").toFuture();
+
+        // then
+        assertThat(first.join()).isEqualTo(second.join());
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.dedup.requests", "result", "inflight_hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 안에 다시 들어온 동일 요청은 캐시된 결과 반환, 내용이 다르면 새로 호출")
+    void cacheRecentResult() {
+        // when
+        aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").block();
+        aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").block();
+        aiService.AiCreatePost(2L, "성향", List.of(), List.of(), null, "게시판 주제").block();
+
+        // then
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai.dedup.requests", "result", "cache_hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.dedup.requests", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도를 포함한 전체 시간이 상한을 넘으면 남은 재시도를 취소하고 AI_SERVER_TIMEOUT")
+    void cancelRetriesAfterRequestDeadline() throws Exception {
+        // given
+        aiClientProperties.getTimeout().setRequestDeadline(Duration.ofSeconds(1));
+        stubAiServer.setLatency(Duration.ofMillis(400)).failAlways(503); // 재시도 2회까지 모두 마치면 약 1.6초 이상
+
+        // when
+        long startedAt = System.nanoTime();
+        Throwable error = catchThrowable(() -> aiService.AiCreatePost(1L, "성향", List.of(), List.of(), null, "게시판 주제").block());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        int requestCount = stubAiServer.getRequestCount("/post");
+        Thread.sleep(1500); // 취소되지 않았다면 이 사이에 재시도가 들어옴
+
+        // then
+        assertThat(error).isInstanceOf(CustomException.class);
+        assertThat(((CustomException) error).getErrorCode()).isEqualTo(ErrorCode.AI_SERVER_TIMEOUT);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1500));
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(requestCount);
+    }
+
+    private AiPostBatchCloneRequest cloneRequest(Long cloneId) {
+        AiPostBatchCloneRequest cloneRequest = new AiPostBatchCloneRequest();
+        cloneRequest.setCloneId(cloneId);
+        cloneRequest.setCloneDescription("성향 " + cloneId);
+        cloneRequest.setPostHistory(List.of());
+        cloneRequest.setReplyHistory(List.of());
+        return cloneRequest;
+    }
+}
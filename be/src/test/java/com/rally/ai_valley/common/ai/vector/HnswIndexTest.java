@@ -0,0 +1,125 @@
+package com.rally.ai_valley.common.ai.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int SIZE = 1500;
+    private static final int GROUPS = 10;
+
+    @Test
+    @DisplayName("근사 검색 결과가 전체 비교 결과의 상위 항목을 대부분 포함")
+    void searchRecallAgainstExact() {
+        // given
+        Random random = new Random(1);
+        float[][] vectors = clusteredVectors(random);
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 64, 0, 42);
+        for (int i = 0; i < SIZE; i++) {
+            index.add(i, i % GROUPS, vectors[i]);
+        }
+
+        // when
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = vectors[random.nextInt(SIZE)];
+            Set<Long> expected = exactTopK(vectors, query, 10);
+            for (HnswIndex.Match match : index.search(query, 10, 64)) {
+                if (expected.contains(match.key())) {
+                    hits++;
+                }
+            }
+        }
+
+        // then
+        assertThat(hits / (double) (queries * 10)).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("그룹 검색은 그래프 탐색 / 전체 비교 모두 해당 그룹의 항목만 반환")
+    void searchWithinGroup() {
+        // given
+        Random random = new Random(2);
+        float[][] vectors = clusteredVectors(random);
+        HnswIndex graphIndex = new HnswIndex(DIMENSION, 16, 64, 0, 42);
+        HnswIndex exactIndex = new HnswIndex(DIMENSION, 16, 64, SIZE, 42);
+        for (int i = 0; i < SIZE; i++) {
+            graphIndex.add(i, i % GROUPS, vectors[i]);
+            exactIndex.add(i, i % GROUPS, vectors[i]);
+        }
+
+        // when
+        List<HnswIndex.Match> graphMatches = graphIndex.search(vectors[7], 5, 64, 7L);
+        List<HnswIndex.Match> exactMatches = exactIndex.search(vectors[7], 5, 64, 7L);
+
+        // then
+        assertThat(graphMatches).hasSize(5).allMatch(match -> match.key() % GROUPS == 7);
+        assertThat(exactMatches).hasSize(5).allMatch(match -> match.key() % GROUPS == 7);
+        assertThat(exactMatches.get(0).key()).isEqualTo(7L);
+        assertThat(graphIndex.search(vectors[7], 5, 64, 99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 번만 추가되고 없는 키의 유사도는 NaN")
+    void ignoreDuplicateKey() {
+        // given
+        HnswIndex index = new HnswIndex(2, 4, 8, 10, 42);
+
+        // when
+        boolean added = index.add(1L, 1L, new float[]{1, 0});
+        boolean duplicated = index.add(1L, 1L, new float[]{0, 1});
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.similarity(1L, new float[]{1, 0})).isEqualTo(1f);
+        assertThat(index.similarity(2L, new float[]{1, 0})).isNaN();
+    }
+
+    // 중심 50개 주변에 모인 정규화 벡터
+    private float[][] clusteredVectors(Random random) {
+        float[][] centers = new float[50][DIMENSION];
+        for (float[] center : centers) {
+            for (int j = 0; j < DIMENSION; j++) {
+                center[j] = (float) random.nextGaussian();
+            }
+        }
+
+        float[][] vectors = new float[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            float[] center = centers[random.nextInt(centers.length)];
+            float[] vector = new float[DIMENSION];
+            double norm = 0;
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = center[j] + 0.5f * (float) random.nextGaussian();
+                norm += vector[j] * vector[j];
+            }
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] /= (float) Math.sqrt(norm);
+            }
+            vectors[i] = vector;
+        }
+        return vectors;
+    }
+
+    private Set<Long> exactTopK(float[][] vectors, float[] query, int k) {
+        Long[] keys = new Long[vectors.length];
+        float[] similarities = new float[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            keys[i] = (long) i;
+            for (int j = 0; j < DIMENSION; j++) {
+                similarities[i] += vectors[i][j] * query[j];
+            }
+        }
+        Arrays.sort(keys, (a, b) -> Float.compare(similarities[b.intValue()], similarities[a.intValue()]));
+        return new HashSet<>(Arrays.asList(keys).subList(0, k));
+    }
+
+}
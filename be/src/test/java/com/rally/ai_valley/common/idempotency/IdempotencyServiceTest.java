@@ -0,0 +1,96 @@
+package com.rally.ai_valley.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger actionCount;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new ObjectMapper(), Duration.ofMinutes(1), 100);
+        actionCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 저장된 응답을 반환하고 작업을 다시 실행하지 않음")
+    void replayStoredResponse() {
+        // given
+        idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), this::createdResponse).join();
+
+        // when
+        ResponseEntity<?> replayed = idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), this::createdResponse).join();
+
+        // then
+        assertThat(actionCount.get()).isEqualTo(1);
+        assertThat(replayed.getBody()).isEqualTo("post 1");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키의 요청은 첫 요청의 결과를 기다림")
+    void concurrentDuplicateWaitsForFirst() {
+        // given
+        CompletableFuture<ResponseEntity<?>> pending = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<?>> first = idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), () -> {
+            actionCount.incrementAndGet();
+            return pending;
+        });
+
+        // when
+        CompletableFuture<ResponseEntity<?>> duplicate = idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), this::createdResponse);
+
+        // then
+        assertThat(duplicate).isNotDone();
+        pending.complete(ResponseEntity.ok("post 1"));
+        assertThat(duplicate.join().getBody()).isEqualTo(first.join().getBody());
+        assertThat(actionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED 예외")
+    void rejectReusedKeyWithDifferentRequest() {
+        // given
+        idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), this::createdResponse).join();
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 2), this::createdResponse))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 시도할 수 있음")
+    void failedRequestIsNotStored() {
+        // given
+        CompletableFuture<ResponseEntity<?>> failed = idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1),
+                () -> CompletableFuture.failedFuture(new RuntimeException("AI 서버 오류")));
+        assertThat(failed).isCompletedExceptionally();
+
+        // when
+        ResponseEntity<?> response = idempotencyService.execute("key-1", "POST /boards/1/posts", Map.of("cloneId", 1), this::createdResponse).join();
+
+        // then
+        assertThat(response.getBody()).isEqualTo("post 1");
+        assertThat(actionCount.get()).isEqualTo(1);
+    }
+
+    private CompletableFuture<ResponseEntity<?>> createdResponse() {
+        return CompletableFuture.completedFuture(ResponseEntity.ok("post " + actionCount.incrementAndGet()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.rally.ai_valley.common.utility;
+
+import com.rally.ai_valley.common.exception.CustomException;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 URL 에 그대로 쓸 수 있고 디코딩하면 (createdAt, id) 가 그대로 복원됨")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000);
+
+        // when
+        String cursor = CursorCodec.encode(createdAt, 42L);
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+
+        // then
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 잘못된 커서는 INVALID_INPUT_VALUE")
+    void decodeMissingOrInvalidCursor() {
+        assertThat(CursorCodec.decode(null)).isNull();
+        assertThat(CursorCodec.decode(" ")).isNull();
+
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(LocalDateTime.of(2025, 1, 1, 0, 0), 1L).substring(3)))
+                .isInstanceOf(CustomException.class);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.rally.ai_valley.domain.board.repository;
+
+import com.rally.ai_valley.domain.board.service.BoardCounterReconciler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 카운터 증감이 호출한 쪽 트랜잭션에 참여하는지 보려면 커밋/롤백을 직접 해야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BoardCounterJdbcRepository.class, BoardCounterReconciler.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardCounterJdbcRepositoryTest {
+
+    private static final long USER_ID = 9401L;
+    private static final long CLONE_ID = 9401L;
+    private static final long BOARD_ID = 9401L;
+    private static final long POST_ID = 9401L;
+    private static final long DELETED_POST_ID = 9402L;
+    private static final long OTHER_BOARD_ID = 9402L;
+
+    @Autowired
+    private BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+    @Autowired
+    private BoardCounterReconciler boardCounterReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'counter@example.com', 'password', 'counter', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'counter-clone', 'counter clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'counter-board', 'counter board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM replies WHERE clone_id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM posts WHERE board_id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clone_boards WHERE board_id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM boards WHERE id IN (?, ?)", BOARD_ID, OTHER_BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clones WHERE id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("카운터 증감은 호출한 쪽 트랜잭션 안에서 실행되어 커밋 전에는 다른 커넥션에 보이지 않음")
+    void increaseJoinsCallerTransaction() {
+        // when
+        long[] seenBeforeCommit = transactionTemplate.execute(status -> {
+            boardCounterJdbcRepository.increasePostCount(BOARD_ID, 1);
+            return new long[]{
+                    counters().get("POST_COUNT"),        // 같은 트랜잭션
+                    postCountFromOtherConnection()       // 커밋 전 다른 커넥션
+            };
+        });
+
+        // then
+        assertThat(seenBeforeCommit).containsExactly(1L, 0L);
+        assertThat(postCountFromOtherConnection()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션이 롤백되면 카운터 증감도 함께 롤백")
+    void increaseRolledBackWithCaller() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            boardCounterJdbcRepository.increaseCloneCount(BOARD_ID, 1);
+            boardCounterJdbcRepository.increasePostCount(BOARD_ID, 1);
+            boardCounterJdbcRepository.increaseReplyCount(BOARD_ID, 1);
+            throw new IllegalStateException("저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(counters()).containsEntry("CLONE_COUNT", 0L)
+                .containsEntry("POST_COUNT", 0L)
+                .containsEntry("REPLY_COUNT", 0L);
+    }
+
+    @Test
+    @DisplayName("보정은 삭제되지 않은 실제 행 수로 어긋난 카운터를 맞춤")
+    void reconcileFixesDrift() {
+        // given
+        jdbcTemplate.update("INSERT INTO clone_boards (clone_id, board_id, is_active, created_at, updated_at) VALUES (?, ?, 1, NOW(), NOW())",
+                CLONE_ID, BOARD_ID);
+        insertPost(POST_ID, 0);
+        insertPost(DELETED_POST_ID, 1);
+        insertReply(POST_ID, 0);
+        insertReply(POST_ID, 1);
+        insertReply(DELETED_POST_ID, 0); // 삭제된 게시글의 댓글은 세지 않음
+        jdbcTemplate.update("UPDATE boards SET clone_count = 5, post_count = 0, reply_count = 7 WHERE id = ?", BOARD_ID);
+
+        // when
+        boardCounterReconciler.reconcile();
+
+        // then
+        assertThat(counters()).containsEntry("CLONE_COUNT", 1L)
+                .containsEntry("POST_COUNT", 1L)
+                .containsEntry("REPLY_COUNT", 1L);
+    }
+
+    @Test
+    @DisplayName("보정은 게시판을 배치로 나눠 처리해도 모든 게시판의 카운터를 맞춤")
+    void reconcileInBatches() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'other-board', 'other board', 0, NOW(), NOW())
+                """, OTHER_BOARD_ID, USER_ID);
+        insertPost(POST_ID, 0);
+        jdbcTemplate.update("UPDATE boards SET post_count = 3 WHERE id = ?", OTHER_BOARD_ID);
+
+        // when
+        int updated = boardCounterJdbcRepository.reconcileCounters(1);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(counters(BOARD_ID)).containsEntry("POST_COUNT", 1L);
+        assertThat(counters(OTHER_BOARD_ID)).containsEntry("POST_COUNT", 0L);
+    }
+
+    private Map<String, Long> counters() {
+        return counters(BOARD_ID);
+    }
+
+    private Map<String, Long> counters(long boardId) {
+        return jdbcTemplate.queryForObject("SELECT clone_count, post_count, reply_count FROM boards WHERE id = ?",
+                (rs, rowNum) -> Map.of(
+                        "CLONE_COUNT", rs.getLong("clone_count"),
+                        "POST_COUNT", rs.getLong("post_count"),
+                        "REPLY_COUNT", rs.getLong("reply_count")),
+                boardId);
+    }
+
+    // 스프링 트랜잭션에 묶이지 않은 별도 커넥션으로 조회
+    private long postCountFromOtherConnection() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT post_count FROM boards WHERE id = ?")) {
+            statement.setLong(1, BOARD_ID);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void insertPost(long postId, int isDeleted) {
+        jdbcTemplate.update("""
+                INSERT INTO posts (id, board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, 'title', 'content', 0, ?, NOW(), NOW())
+                """, postId, BOARD_ID, CLONE_ID, isDeleted);
+    }
+
+    private void insertReply(long postId, int isDeleted) {
+        jdbcTemplate.update("""
+                INSERT INTO replies (post_id, clone_id, content, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'reply', ?, NOW(), NOW())
+                """, postId, CLONE_ID, isDeleted);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.rally.ai_valley.domain.board.repository;
+
+import com.rally.ai_valley.domain.board.entity.Board;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(BoardCounterJdbcRepository.class)
+class BoardSecondLevelCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long BOARD_ID = 1L;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'cache@example.com', 'password', 'cache', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'board', 'description', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("영속성 컨텍스트를 비운 뒤 다시 조회하면 2차 캐시에서 게시판을 로드")
+    void boardLoadedFromSecondLevelCache() {
+        // when
+        entityManager.find(Board.class, BOARD_ID);
+        entityManager.clear();
+        entityManager.find(Board.class, BOARD_ID);
+
+        // then
+        CacheRegionStatistics boardRegion = statistics.getDomainDataRegionStatistics("board");
+        assertThat(boardRegion.getMissCount()).isEqualTo(1);
+        assertThat(boardRegion.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터 증감은 게시판 캐시 영역을 비우지 않음")
+    void counterUpdateKeepsBoardRegion() {
+        // given
+        entityManager.find(Board.class, BOARD_ID);
+        entityManager.clear();
+
+        // when
+        boardCounterJdbcRepository.increasePostCount(BOARD_ID, 1);
+        entityManager.find(Board.class, BOARD_ID);
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics("board").getHitCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT post_count FROM boards WHERE id = ?", Long.class, BOARD_ID))
+                .isEqualTo(1L);
+    }
+
+}
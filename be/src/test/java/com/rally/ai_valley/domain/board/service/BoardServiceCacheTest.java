@@ -0,0 +1,90 @@
+package com.rally.ai_valley.domain.board.service;
+
+import com.rally.ai_valley.common.config.CacheConfig;
+import com.rally.ai_valley.domain.board.dto.BoardInfoResponse;
+import com.rally.ai_valley.domain.board.dto.BoardSubscriptionRequest;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
+import com.rally.ai_valley.domain.board.repository.BoardRepository;
+import com.rally.ai_valley.domain.clone.entity.CloneBoard;
+import com.rally.ai_valley.domain.clone.repository.CloneBoardRepository;
+import com.rally.ai_valley.domain.clone.repository.CloneRepository;
+import com.rally.ai_valley.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 캐시 프록시만 구성해 조회 캐시와 쓰기 시 무효화 확인 (트랜잭션 / DB 없이 저장소는 목으로 대체)
+@SpringJUnitConfig({CacheConfig.class, BoardService.class})
+class BoardServiceCacheTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @MockitoBean
+    private BoardRepository boardRepository;
+
+    @MockitoBean
+    private BoardCounterJdbcRepository boardCounterJdbcRepository;
+
+    @MockitoBean
+    private CloneRepository cloneRepository;
+
+    @MockitoBean
+    private CloneBoardRepository cloneBoardRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("게시판 조회는 캐시에서 응답하고 구독 변경 시 해당 게시판과 목록 캐시를 무효화")
+    void boardCacheEvictedOnSubscriptionChange() {
+        // given
+        BoardInfoResponse board = BoardInfoResponse.builder().boardId(1L).name("board").build();
+        when(boardRepository.findBoardByBoardId(1L)).thenReturn(board);
+        when(boardRepository.findAllBoards()).thenReturn(List.of(board));
+
+        CloneBoard cloneBoard = mock(CloneBoard.class);
+        when(cloneBoard.getIsActive()).thenReturn(1);
+        when(cloneBoardRepository.findCloneBoardByCloneIdAndBoardId(1L, 2L)).thenReturn(Optional.of(cloneBoard));
+
+        BoardSubscriptionRequest request = new BoardSubscriptionRequest();
+        request.setCloneId(2L);
+
+        // when
+        boardService.getBoardInfo(1L);
+        boardService.getBoardInfo(1L);
+        boardService.getAllBoardsInfo();
+        boardService.getAllBoardsInfo();
+        boardService.removeCloneFromBoard(1L, request);
+        boardService.getBoardInfo(1L);
+        boardService.getAllBoardsInfo();
+
+        // then
+        verify(boardRepository, times(2)).findBoardByBoardId(1L);
+        verify(boardRepository, times(2)).findAllBoards();
+        assertThat(boardService.getBoardInfo(1L)).isSameAs(board);
+    }
+
+    @Test
+    @DisplayName("없는 게시판(null)은 캐시하지 않음")
+    void nullResultNotCached() {
+        // given
+        when(boardRepository.findBoardByBoardId(99L)).thenReturn(null);
+
+        // when
+        boardService.getBoardInfo(99L);
+        boardService.getBoardInfo(99L);
+
+        // then
+        verify(boardRepository, times(2)).findBoardByBoardId(99L);
+    }
+
+}
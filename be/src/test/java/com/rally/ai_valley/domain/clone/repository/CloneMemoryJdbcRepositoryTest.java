@@ -0,0 +1,88 @@
+package com.rally.ai_valley.domain.clone.repository;
+
+import com.rally.ai_valley.domain.clone.entity.CloneMemory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CloneMemoryJdbcRepository.class)
+class CloneMemoryJdbcRepositoryTest {
+
+    private static final long USER_ID = 1L;
+    private static final long CLONE_ID = 1L;
+
+    @Autowired
+    private CloneMemoryJdbcRepository cloneMemoryJdbcRepository;
+
+    @Autowired
+    private CloneMemoryRepository cloneMemoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'memory@example.com', 'password', 'memory', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'memory-clone', 'memory clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("첫 활동에서 요약 행을 만들고 이후 활동은 대기 수만 증가")
+    void increasePendingCountUpserts() {
+        // when
+        cloneMemoryJdbcRepository.increasePendingCount(CLONE_ID, 1);
+        cloneMemoryJdbcRepository.increasePendingCount(CLONE_ID, 3);
+
+        // then
+        CloneMemory memory = cloneMemoryRepository.findCloneMemoryByCloneId(CLONE_ID).orElseThrow();
+        assertThat(memory.getPendingCount()).isEqualTo(4);
+        assertThat(memory.getLastPostId()).isZero();
+        assertThat(memory.getSummary()).isNull();
+        assertThat(cloneMemoryRepository.findCloneIdsToFold(4, PageRequest.of(0, 10))).containsExactly(CLONE_ID);
+        assertThat(cloneMemoryRepository.findCloneIdsToFold(5, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요약 중에 추가된 활동은 대기 수에 남기고, 기준 ID 가 바뀐 뒤의 중복 반영은 무시")
+    void foldKeepsNewActivityAndRejectsStaleFold() {
+        // given
+        cloneMemoryJdbcRepository.increasePendingCount(CLONE_ID, 10);
+        cloneMemoryJdbcRepository.increasePendingCount(CLONE_ID, 2); // 요약하는 동안 작성된 글
+
+        // when
+        boolean folded = cloneMemoryJdbcRepository.fold(CLONE_ID, "요약", 0L, 0L, 100L, 50L, 10);
+        boolean staleFolded = cloneMemoryJdbcRepository.fold(CLONE_ID, "이전 기준의 요약", 0L, 0L, 90L, 40L, 10);
+
+        // then
+        entityManager.clear();
+        CloneMemory memory = cloneMemoryRepository.findCloneMemoryByCloneId(CLONE_ID).orElseThrow();
+        assertThat(folded).isTrue();
+        assertThat(staleFolded).isFalse();
+        assertThat(memory.getSummary()).isEqualTo("요약");
+        assertThat(memory.getLastPostId()).isEqualTo(100L);
+        assertThat(memory.getLastReplyId()).isEqualTo(50L);
+        assertThat(memory.getPendingCount()).isEqualTo(2);
+        assertThat(memory.getFoldedAt()).isNotNull();
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.rally.ai_valley.domain.clone.repository;
+
+import com.rally.ai_valley.domain.clone.dto.CloneStatisticsResponse;
+import com.rally.ai_valley.domain.user.dto.UserStatisticsResponse;
+import com.rally.ai_valley.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 통계 쿼리 벤치마크: ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// 이전 LEFT JOIN + COUNT(DISTINCT) 쿼리와 결과가 같고, 카테시안 곱이 사라져 더 빠른지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class StatisticsQueryBenchmarkTest {
+
+    private static final long USER_ID = 1L;
+    private static final long CLONE_ID = 1L;
+    private static final int BOARD_COUNT = 10;
+    private static final int POST_COUNT = 200;
+    private static final int REPLY_COUNT = 500;
+    private static final int ITERATIONS = 5;
+
+    // 변경 전 쿼리 (구독 x 게시글 x 댓글 = 1,000,000 행을 만든 뒤 DISTINCT 집계)
+    private static final String LEGACY_CLONE_STATISTICS_JPQL = """
+            SELECT new com.rally.ai_valley.domain.clone.dto.CloneStatisticsResponse(
+                COUNT(DISTINCT cb.cloneBoardId),
+                COUNT(DISTINCT p.id),
+                COUNT(DISTINCT r.id)
+            )
+            FROM Clone c
+            LEFT JOIN c.cloneBoards cb ON cb.isActive = 1
+            LEFT JOIN c.posts p ON p.isDeleted = 0
+            LEFT JOIN c.replies r ON r.isDeleted = 0
+            WHERE c.id = :cloneId
+            """;
+
+    private static final String LEGACY_USER_STATISTICS_JPQL = """
+            SELECT new com.rally.ai_valley.domain.user.dto.UserStatisticsResponse(
+                COUNT(DISTINCT p.id),
+                COUNT(DISTINCT r.id),
+                COUNT(DISTINCT c.id)
+            )
+            FROM User u
+            LEFT JOIN u.clones c
+            LEFT JOIN c.posts p
+            LEFT JOIN c.replies r
+            WHERE u.id = :userId
+                AND u.isActive = 1
+            """;
+
+    @Autowired
+    private CloneRepository cloneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'bench@example.com', 'password', 'bench', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'bench-clone', 'benchmark clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+
+        List<Object[]> boards = new ArrayList<>();
+        for (long boardId = 1; boardId <= BOARD_COUNT; boardId++) {
+            boards.add(new Object[]{boardId, USER_ID, "board-" + boardId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO boards (id, created_by, name, is_deleted, clone_count, post_count, reply_count, created_at, updated_at)
+                VALUES (?, ?, ?, 0, 0, 0, 0, NOW(), NOW())
+                """, boards);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO clone_boards (clone_id, board_id, is_active, created_at, updated_at)
+                VALUES (?, ?, 1, NOW(), NOW())
+                """, boards.stream().map(board -> new Object[]{CLONE_ID, board[0]}).toList());
+
+        List<Object[]> posts = new ArrayList<>();
+        for (long postId = 1; postId <= POST_COUNT; postId++) {
+            posts.add(new Object[]{postId, postId % BOARD_COUNT + 1, CLONE_ID, "post-" + postId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO posts (id, board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'content', 0, 0, NOW(), NOW())
+                """, posts);
+
+        List<Object[]> replies = new ArrayList<>();
+        for (long replyId = 1; replyId <= REPLY_COUNT; replyId++) {
+            replies.add(new Object[]{replyId, replyId % POST_COUNT + 1, CLONE_ID});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO replies (id, post_id, clone_id, content, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, 'reply', 0, NOW(), NOW())
+                """, replies);
+    }
+
+    @Test
+    @DisplayName("클론 통계: 서브쿼리 집계가 기존 쿼리와 같은 결과를 더 빠르게 반환")
+    void cloneStatistics() {
+        // given
+        Supplier<CloneStatisticsResponse> legacy = () -> entityManager
+                .createQuery(LEGACY_CLONE_STATISTICS_JPQL, CloneStatisticsResponse.class)
+                .setParameter("cloneId", CLONE_ID)
+                .getSingleResult();
+        Supplier<CloneStatisticsResponse> current = () -> cloneRepository.findUserStatisticsByCloneId(CLONE_ID);
+
+        // when
+        CloneStatisticsResponse expected = legacy.get();
+        CloneStatisticsResponse actual = current.get();
+        long legacyNanos = measure(legacy);
+        long currentNanos = measure(current);
+
+        // then
+        print("clone statistics", legacyNanos, currentNanos);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual).isEqualTo(new CloneStatisticsResponse((long) BOARD_COUNT, (long) POST_COUNT, (long) REPLY_COUNT));
+        assertThat(currentNanos).isLessThan(legacyNanos);
+    }
+
+    @Test
+    @DisplayName("사용자 통계: 서브쿼리 집계가 기존 쿼리와 같은 결과를 더 빠르게 반환")
+    void userStatistics() {
+        // given
+        Supplier<UserStatisticsResponse> legacy = () -> entityManager
+                .createQuery(LEGACY_USER_STATISTICS_JPQL, UserStatisticsResponse.class)
+                .setParameter("userId", USER_ID)
+                .getSingleResult();
+        Supplier<UserStatisticsResponse> current = () -> userRepository.findUserStatistics(USER_ID);
+
+        // when
+        UserStatisticsResponse expected = legacy.get();
+        UserStatisticsResponse actual = current.get();
+        long legacyNanos = measure(legacy);
+        long currentNanos = measure(current);
+
+        // then
+        print("user statistics", legacyNanos, currentNanos);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual).isEqualTo(new UserStatisticsResponse((long) POST_COUNT, (long) REPLY_COUNT, 1L));
+        assertThat(currentNanos).isLessThan(legacyNanos);
+    }
+
+    // 워밍업 이후 최소 실행 시간 (GC/JIT 영향 최소화)
+    private long measure(Supplier<?> query) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+
+    private void print(String name, long legacyNanos, long currentNanos) {
+        System.out.printf("[benchmark] %s - legacy: %.2fms, current: %.2fms (x%.1f)%n",
+                name, legacyNanos / 1_000_000.0, currentNanos / 1_000_000.0, (double) legacyNanos / currentNanos);
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.rally.ai_valley.domain.generation.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.rally.ai_valley.common.ai.StubAiServer;
+import com.rally.ai_valley.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// 워커 1개 + 큐 1칸으로 생성 작업 큐의 거절(429), 동기 요청과의 한도 공유, 상태 전이, 보관 기간 정리 확인
+@SpringBootTest(properties = {
+        "generation.job.worker-count=1",
+        "generation.job.queue-capacity=1",
+        "generation.job.retention=0s",
+        "generation.job.purge-interval-ms=3600000", // 정리는 테스트에서 직접 호출
+        "ai.client.dedup.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GenerationJobServiceTest {
+
+    private static final long USER_ID = 9201L;
+    private static final long CLONE_ID = 9201L;
+    private static final long BOARD_ID = 9201L;
+    private static final long MISSING_BOARD_ID = 9299L;
+    private static final Duration AI_LATENCY = Duration.ofMillis(1500);
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    private static final StubAiServer stubAiServer = startStubAiServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GenerationJobService generationJobService;
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.server.url", stubAiServer::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStubAiServer() {
+        stubAiServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'job@example.com', 'password', 'job', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'job-clone', 'job clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'job-board', 'job board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 다음 테스트 전에 남은 작업이 끝나도록 대기 (워커가 1개뿐)
+        await().atMost(WAIT).until(() -> generationJobService.runningCount() == 0 && generationJobService.waitingCount() == 0);
+        stubAiServer.setLatency(Duration.ZERO).recover();
+        jdbcTemplate.update("DELETE FROM posts WHERE board_id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clone_memories WHERE clone_id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clones WHERE id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 429, 받은 작업은 QUEUED -> RUNNING -> DONE 순서로 진행")
+    void rejectWhenQueueFullAndCompleteAcceptedJobs() throws Exception {
+        // given
+        stubAiServer.setLatency(AI_LATENCY);
+        int aiRequestCount = stubAiServer.getRequestCount("/post");
+
+        // when
+        MvcResult running = submitPost(BOARD_ID);
+        await().atMost(WAIT).until(() -> stubAiServer.getRequestCount("/post") == aiRequestCount + 1); // 워커가 AI 응답 대기 중
+        MvcResult queued = submitPost(BOARD_ID);
+        MvcResult rejected = submitPost(BOARD_ID);
+
+        // then
+        assertThat(running.getResponse().getStatus()).isEqualTo(202);
+        assertThat(queued.getResponse().getStatus()).isEqualTo(202);
+        assertThat(rejected.getResponse().getStatus()).isEqualTo(429);
+        assertThat(JsonPath.<String>read(rejected.getResponse().getContentAsString(), "$.code"))
+                .isEqualTo(ErrorCode.GENERATION_QUEUE_FULL.name());
+
+        String runningJobId = jobId(running);
+        String queuedJobId = jobId(queued);
+        assertThat(jobStatus(runningJobId)).isEqualTo("RUNNING");
+        assertThat(jobStatus(queuedJobId)).isEqualTo("QUEUED");
+
+        await().atMost(WAIT).until(() -> "DONE".equals(jobStatus(runningJobId)) && "DONE".equals(jobStatus(queuedJobId)));
+        assertThat(JsonPath.<Object>read(getJob(runningJobId).getResponse().getContentAsString(), "$.data.resultId")).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE board_id = ?", Long.class, BOARD_ID))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("동기 생성 요청도 같은 한도를 사용: 가득 차면 429, 자리가 나면 대기 후 200")
+    void syncRequestsShareQueueLimits() throws Exception {
+        // given
+        stubAiServer.setLatency(AI_LATENCY);
+        int aiRequestCount = stubAiServer.getRequestCount("/post");
+        String runningJobId = jobId(submitPost(BOARD_ID));
+        await().atMost(WAIT).until(() -> stubAiServer.getRequestCount("/post") == aiRequestCount + 1);
+
+        // when
+        MvcResult queuedSync = mockMvc.perform(post("/api/v1/boards/{boardId}/posts", BOARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andReturn();
+        MvcResult rejectedSync = mockMvc.perform(post("/api/v1/boards/{boardId}/posts", BOARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andReturn();
+
+        // then
+        assertThat(rejectedSync.getResponse().getStatus()).isEqualTo(429);
+        assertThat(generationJobService.waitingCount()).isEqualTo(1);
+        assertThat(stubAiServer.getRequestCount("/post")).isEqualTo(aiRequestCount + 1); // 대기 중인 동기 요청은 아직 AI 호출 전
+
+        MvcResult completedSync = mockMvc.perform(asyncDispatch(queuedSync)).andReturn();
+        assertThat(completedSync.getResponse().getStatus()).isEqualTo(200);
+        assertThat(jobStatus(runningJobId)).isEqualTo("DONE");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE board_id = ?", Long.class, BOARD_ID))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 내부 예외 메시지 대신 ErrorCode 메시지로 응답")
+    void failedJobExposesErrorCodeMessageOnly() throws Exception {
+        // given
+        stubAiServer.failAlways(400);
+
+        // when
+        String aiFailedJobId = jobId(submitPost(BOARD_ID));
+        String missingBoardJobId = jobId(submitPost(MISSING_BOARD_ID));
+        await().atMost(WAIT).until(() -> "FAILED".equals(jobStatus(aiFailedJobId)) && "FAILED".equals(jobStatus(missingBoardJobId)));
+
+        // then
+        String aiFailed = getJob(aiFailedJobId).getResponse().getContentAsString();
+        assertThat(JsonPath.<String>read(aiFailed, "$.data.errorCode")).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.name());
+        assertThat(JsonPath.<String>read(aiFailed, "$.data.errorMessage")).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        assertThat(aiFailed).doesNotContain("stub failure", stubAiServer.getBaseUrl());
+
+        String missingBoard = getJob(missingBoardJobId).getResponse().getContentAsString();
+        assertThat(JsonPath.<String>read(missingBoard, "$.data.errorCode")).isEqualTo(ErrorCode.BOARD_NOT_FOUND.name());
+        assertThat(JsonPath.<String>read(missingBoard, "$.data.errorMessage")).isEqualTo(ErrorCode.BOARD_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 작업만 정리하고 진행 중인 작업은 남김")
+    void purgeOnlyFinishedJobs() throws Exception {
+        // given
+        String finishedJobId = jobId(submitPost(BOARD_ID));
+        await().atMost(WAIT).until(() -> "DONE".equals(jobStatus(finishedJobId)));
+        stubAiServer.setLatency(AI_LATENCY);
+        String runningJobId = jobId(submitPost(BOARD_ID));
+        await().atMost(WAIT).until(() -> "RUNNING".equals(jobStatus(runningJobId)));
+
+        // when
+        Thread.sleep(10); // retention=0s: 완료 시각이 정리 기준 시각보다 앞서도록
+        generationJobService.purgeFinishedJobs();
+
+        // then
+        assertThat(getJob(finishedJobId).getResponse().getStatus()).isEqualTo(404);
+        assertThat(getJob(runningJobId).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    private MvcResult submitPost(long boardId) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/boards/{boardId}/posts", boardId)
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andReturn();
+        // 큐 등록에 성공하면 완료된 CompletableFuture 로 응답하므로 비동기 디스패치로 결과를 받음
+        return mvcResult.getRequest().isAsyncStarted()
+                ? mockMvc.perform(asyncDispatch(mvcResult)).andReturn()
+                : mvcResult;
+    }
+
+    private MvcResult getJob(String jobId) throws Exception {
+        return mockMvc.perform(get("/api/v1/generation-jobs/{jobId}", jobId)).andReturn();
+    }
+
+    private String jobStatus(String jobId) throws Exception {
+        return JsonPath.read(getJob(jobId).getResponse().getContentAsString(), "$.data.status");
+    }
+
+    private static String jobId(MvcResult mvcResult) throws Exception {
+        return JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.data.jobId");
+    }
+
+    private static StubAiServer startStubAiServer() {
+        try {
+            return new StubAiServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
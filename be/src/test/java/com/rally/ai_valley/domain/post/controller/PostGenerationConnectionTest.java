@@ -0,0 +1,127 @@
+package com.rally.ai_valley.domain.post.controller;
+
+import com.rally.ai_valley.common.ai.StubAiServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시글 생성 요청이 AI 응답을 기다리는 동안 DB 커넥션을 점유하지 않는지 확인 (OSIV 비활성화 + 3단계 생성)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostGenerationConnectionTest {
+
+    private static final long USER_ID = 9101L;
+    private static final long CLONE_ID = 9101L;
+    private static final long BOARD_ID = 9101L;
+    private static final Duration AI_LATENCY = Duration.ofSeconds(2);
+
+    private static final StubAiServer stubAiServer = startStubAiServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.server.url", stubAiServer::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStubAiServer() {
+        stubAiServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'connection@example.com', 'password', 'connection', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'connection-clone', 'connection clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'connection-board', 'connection board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+        stubAiServer.setLatency(AI_LATENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE board_id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clone_memories WHERE clone_id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clones WHERE id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("AI 응답을 기다리는 동안 사용 중인 커넥션이 없고, 응답 후 게시글 저장")
+    void releaseConnectionDuringAiCall() throws Exception {
+        // given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        // when
+        long startedAt = System.nanoTime();
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/boards/{boardId}/posts", BOARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        await().atMost(AI_LATENCY).until(() -> stubAiServer.getRequestCount("/post") == 1);
+        await().atMost(AI_LATENCY).until(() -> pool.getActiveConnections() == 0);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(AI_LATENCY); // 아직 AI 응답 전
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.boardId").value(BOARD_ID));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE board_id = ?", Long.class, BOARD_ID))
+                .isEqualTo(1L);
+    }
+
+    private static StubAiServer startStubAiServer() {
+        try {
+            return new StubAiServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.rally.ai_valley.domain.post.controller;
+
+import com.rally.ai_valley.common.ai.StubAiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 스트리밍 응답 전체 시간이 spring.mvc.async.request-timeout 을 넘어도 끊기지 않는지, 잘린 스트림은 저장하지 않는지 확인
+@SpringBootTest(properties = {
+        "spring.mvc.async.request-timeout=1s",
+        "ai.client.timeout.stream-total=5m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostStreamTimeoutTest {
+
+    private static final long USER_ID = 9301L;
+    private static final long CLONE_ID = 9301L;
+    private static final long BOARD_ID = 9301L;
+    private static final Duration EVENT_INTERVAL = Duration.ofMillis(500); // 이벤트 4개 -> 약 2초
+
+    private static final StubAiServer stubAiServer = startStubAiServer();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.server.url", stubAiServer::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStubAiServer() {
+        stubAiServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'stream@example.com', 'password', 'stream', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'stream-clone', 'stream clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'stream-board', 'stream board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+        stubAiServer.setEventInterval(EVENT_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAiServer.setStreamTruncated(false);
+        jdbcTemplate.update("DELETE FROM posts WHERE board_id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clone_memories WHERE clone_id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM boards WHERE id = ?", BOARD_ID);
+        jdbcTemplate.update("DELETE FROM clones WHERE id = ?", CLONE_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("스트리밍 엔드포인트는 비동기 요청 타임아웃 대신 스트리밍 전용 타임아웃을 사용")
+    void streamOutlivesAsyncRequestTimeout() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/boards/{boardId}/posts/stream", BOARD_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> mvcResult.getResponse().getContentAsString().contains("event:done"));
+        String body = mvcResult.getResponse().getContentAsString();
+        assertThat(body).contains("event:title", "event:delta").doesNotContain("event:error");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE board_id = ?", Long.class, BOARD_ID))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("AI 연결이 done 이벤트 전에 정상 종료되면 잘린 글을 저장하지 않고 error 이벤트 전송")
+    void doNotPersistTruncatedStream() throws Exception {
+        // given
+        stubAiServer.setStreamTruncated(true);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/boards/{boardId}/posts/stream", BOARD_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cloneId\": " + CLONE_ID + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> mvcResult.getResponse().getContentAsString().contains("event:error"));
+        String body = mvcResult.getResponse().getContentAsString();
+        assertThat(body).contains("event:title", "AI_SERVER_ERROR").doesNotContain("event:done");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE board_id = ?", Long.class, BOARD_ID))
+                .isZero();
+    }
+
+    private static StubAiServer startStubAiServer() {
+        try {
+            return new StubAiServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.rally.ai_valley.domain.post.repository;
+
+import com.rally.ai_valley.common.entity.CursorPageResponse;
+import com.rally.ai_valley.common.utility.CursorCodec;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시판 게시글 키셋 페이지네이션: PostService.getPostsInBoard 와 같은 방식으로 (createdAt, id) 커서를 따라감
+@DataJpaTest
+@ActiveProfiles("test")
+class PostRepositoryCursorTest {
+
+    private static final long USER_ID = 1L;
+    private static final long CLONE_ID = 1L;
+    private static final long BOARD_ID = 1L;
+    private static final LocalDateTime TIED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'cursor@example.com', 'password', 'cursor', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'cursor-clone', 'cursor clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'cursor-board', 'cursor board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+
+        // 2, 3, 4 는 작성 시각이 같아 id 로만 순서가 정해짐, 6 은 삭제된 글
+        insertPost(1L, TIED_AT.minusHours(2), 0);
+        insertPost(2L, TIED_AT, 0);
+        insertPost(3L, TIED_AT, 0);
+        insertPost(4L, TIED_AT, 0);
+        insertPost(5L, TIED_AT.plusHours(1), 0);
+        insertPost(6L, TIED_AT.plusHours(2), 1);
+    }
+
+    @Test
+    @DisplayName("작성 시각이 같은 글이 페이지 경계에 걸쳐도 중복/누락 없이 최신순으로 이어지고, 마지막 페이지는 커서 없음")
+    void followCursorAcrossTiedCreatedAt() {
+        // when
+        List<CursorPageResponse<PostInfoResponse>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<PostInfoResponse> page = getPostsInBoard(cursor, 2);
+            pages.add(page);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).hasSize(3);
+        assertThat(pages).extracting(page -> page.getItems().stream().map(PostInfoResponse::getPostId).toList())
+                .containsExactly(List.of(5L, 4L), List.of(3L, 2L), List.of(1L));
+        assertThat(pages.get(0).getNextCursor()).isEqualTo(CursorCodec.encode(TIED_AT, 4L));
+        assertThat(pages.get(1).getNextCursor()).isEqualTo(CursorCodec.encode(TIED_AT, 2L));
+        assertThat(pages.get(2).isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("남은 글 수가 페이지 크기와 같으면 다음 페이지 없음 (빈 페이지를 한 번 더 요청하지 않음)")
+    void lastPageWhenRemainingEqualsSize() {
+        // when
+        CursorPageResponse<PostInfoResponse> page = getPostsInBoard(null, 5);
+        CursorPageResponse<PostInfoResponse> afterLast = getPostsInBoard(CursorCodec.encode(TIED_AT.minusHours(2), 1L), 5);
+
+        // then
+        assertThat(page.getItems()).extracting(PostInfoResponse::getPostId).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(afterLast.getItems()).isEmpty();
+        assertThat(afterLast.isHasNext()).isFalse();
+    }
+
+    private CursorPageResponse<PostInfoResponse> getPostsInBoard(String cursor, int size) {
+        CursorCodec.Cursor decodedCursor = CursorCodec.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<PostInfoResponse> posts = decodedCursor == null
+                ? postRepository.findPostsByBoardIdFirstPage(BOARD_ID, limit)
+                : postRepository.findPostsByBoardIdAfterCursor(BOARD_ID, decodedCursor.createdAt(), decodedCursor.id(), limit);
+
+        return CursorPageResponse.of(posts, size, post -> CursorCodec.encode(post.getCreatedAt(), post.getPostId()));
+    }
+
+    private void insertPost(long postId, LocalDateTime createdAt, int isDeleted) {
+        jdbcTemplate.update("""
+                INSERT INTO posts (id, board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'content', 0, ?, ?, ?)
+                """, postId, BOARD_ID, CLONE_ID, "post " + postId, isDeleted, createdAt, createdAt);
+    }
+
+}
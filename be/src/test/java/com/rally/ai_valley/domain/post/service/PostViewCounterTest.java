@@ -0,0 +1,124 @@
+package com.rally.ai_valley.domain.post.service;
+
+import com.rally.ai_valley.common.config.PostViewProperties;
+import com.rally.ai_valley.domain.post.dto.PostInfoResponse;
+import com.rally.ai_valley.domain.post.repository.PostJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class PostViewCounterTest {
+
+    private PostJdbcRepository postJdbcRepository;
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        postJdbcRepository = mock(PostJdbcRepository.class);
+        postViewCounter = new PostViewCounter(postJdbcRepository, mock(TaskScheduler.class),
+                new PostViewProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("조회수는 반영 전에도 응답에 포함되고, 반영 시 게시글별 증가분을 한 번의 UPDATE 로 합쳐 보냄")
+    void coalesceViewsIntoSingleUpdate() {
+        // given
+        PostInfoResponse cached = post(1L, null);
+        when(postJdbcRepository.findViewCount(1L)).thenReturn(10L);
+
+        // when
+        postViewCounter.recordView(cached);
+        postViewCounter.recordView(cached);
+        PostInfoResponse viewed = postViewCounter.recordView(cached);
+        postViewCounter.recordView(post(2L, 0L));
+        boolean flushed = postViewCounter.flush();
+
+        // then
+        assertThat(viewed.getPostViewCount()).isEqualTo(13L);
+        assertThat(cached.getPostViewCount()).isNull(); // 캐시된 응답은 변경하지 않음
+        assertThat(flushed).isTrue();
+        verify(postJdbcRepository, times(1)).increaseViewCounts(Map.of(1L, 3L, 2L, 1L));
+        assertThat(postViewCounter.pendingViews(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 전에 읽힌 게시글이 반영 후 캐시에 들어가도 응답 조회수는 줄지 않음")
+    void staleCacheLoadDuringFlushDoesNotUndercount() {
+        // given
+        AtomicLong storedViewCount = new AtomicLong(10L); // DB 의 view_count
+        when(postJdbcRepository.findViewCount(1L)).thenAnswer(invocation -> storedViewCount.get());
+        when(postJdbcRepository.increaseViewCounts(anyMap())).thenAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            storedViewCount.addAndGet(deltas.get(1L));
+            return 1;
+        });
+        postViewCounter.recordView(post(1L, null));
+        postViewCounter.recordView(post(1L, null));
+        postViewCounter.recordView(post(1L, null));
+
+        // when
+        PostInfoResponse loadedBeforeFlush = post(1L, 10L); // 캐시 적재 중 반영 전 값을 읽음
+        postViewCounter.flush();
+        PostInfoResponse viewed = postViewCounter.recordView(loadedBeforeFlush); // 반영 후 캐시에 들어간 값으로 응답
+
+        // then
+        assertThat(storedViewCount.get()).isEqualTo(13L);
+        assertThat(viewed.getPostViewCount()).isEqualTo(14L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 남겨 두었다가 다음 반영에 포함")
+    void keepViewsWhenFlushFails() {
+        // given
+        postViewCounter.recordView(post(1L, 0L));
+        postViewCounter.recordView(post(1L, 0L));
+        when(postJdbcRepository.increaseViewCounts(anyMap()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+
+        // when
+        boolean firstFlushed = postViewCounter.flush();
+        long pendingAfterFailure = postViewCounter.pendingViews(1L);
+        boolean secondFlushed = postViewCounter.flush();
+
+        // then
+        assertThat(firstFlushed).isFalse();
+        assertThat(pendingAfterFailure).isEqualTo(2L);
+        assertThat(secondFlushed).isTrue();
+        verify(postJdbcRepository, times(2)).increaseViewCounts(Map.of(1L, 2L));
+        assertThat(postViewCounter.pendingViews(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회 응답에도 반영 전 조회수를 더함")
+    void applyPendingViewsToList() {
+        // given
+        postViewCounter.recordView(post(1L, 5L));
+        List<PostInfoResponse> posts = List.of(post(1L, 5L), post(2L, 7L));
+
+        // when
+        postViewCounter.applyPendingViews(posts);
+
+        // then
+        assertThat(posts).extracting(PostInfoResponse::getPostViewCount).containsExactly(6L, 7L);
+    }
+
+    private static PostInfoResponse post(Long postId, Long viewCount) {
+        return PostInfoResponse.builder()
+                .postId(postId)
+                .postViewCount(viewCount)
+                .build();
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.rally.ai_valley.domain.reply.repository;
+
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 스레드 조회: 루트 댓글 키셋 페이지 + 페이지에 포함된 루트 아래 댓글만 maxDepth 까지 조회
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReplyJdbcRepository.class)
+class ReplyJdbcRepositoryTest {
+
+    private static final long USER_ID = 9501L;
+    private static final long CLONE_ID = 9501L;
+    private static final long BOARD_ID = 9501L;
+    private static final long POST_ID = 9501L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @Autowired
+    private ReplyJdbcRepository replyJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, nickname, role, is_active, created_at, updated_at)
+                VALUES (?, 'thread@example.com', 'password', 'thread', 'ROLE_USER', 1, NOW(), NOW())
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO clones (id, user_id, name, description, is_active, created_at, updated_at)
+                VALUES (?, ?, 'thread-clone', 'thread clone', 1, NOW(), NOW())
+                """, CLONE_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO boards (id, created_by, name, description, is_deleted, created_at, updated_at)
+                VALUES (?, ?, 'thread-board', 'thread board', 0, NOW(), NOW())
+                """, BOARD_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO posts (id, board_id, clone_id, title, content, view_count, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, 'title', 'content', 0, 0, NOW(), NOW())
+                """, POST_ID, BOARD_ID, CLONE_ID);
+
+        // 9501 -> 9502 -> 9503 -> 9504, 9501 -> 9505(삭제) -> 9506, 루트 9507 / 9508
+        insertReply(9501L, null, 0);
+        insertReply(9502L, 9501L, 0);
+        insertReply(9503L, 9502L, 0);
+        insertReply(9504L, 9503L, 0);
+        insertReply(9505L, 9501L, 1);
+        insertReply(9506L, 9505L, 0);
+        insertReply(9507L, null, 0);
+        insertReply(9508L, null, 0);
+    }
+
+    @Test
+    @DisplayName("루트 댓글 ID만 작성순 키셋 페이지로 조회")
+    void pageRootReplyIds() {
+        // when
+        List<Long> firstPage = replyRepository.findRootReplyIdsByPostIdFirstPage(POST_ID, PageRequest.of(0, 2));
+        List<Long> nextPage = replyRepository.findRootReplyIdsByPostIdAfterCursor(
+                POST_ID, BASE_TIME.plusMinutes(9507L), 9507L, PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).containsExactly(9501L, 9507L);
+        assertThat(nextPage).containsExactly(9508L);
+    }
+
+    @Test
+    @DisplayName("지정한 루트 아래 댓글만 maxDepth 까지 읽고, 마지막 깊이는 대댓글 수만 조회 (삭제된 댓글 아래는 제외)")
+    void findThreadRowsUnderRoots() {
+        // when
+        List<ReplyThreadRow> rows = replyJdbcRepository.findThreadRows(List.of(9501L), 2);
+
+        // then
+        assertThat(rows).extracting(ReplyThreadRow::getReplyId, ReplyThreadRow::getParentReplyId, ReplyThreadRow::getChildCount)
+                .containsExactly(
+                        tuple(9501L, null, null),
+                        tuple(9502L, 9501L, null),
+                        tuple(9503L, 9502L, 1));
+    }
+
+    @Test
+    @DisplayName("루트가 없으면 조회하지 않음")
+    void findThreadRowsWithoutRoots() {
+        // when & then
+        assertThat(replyJdbcRepository.findThreadRows(List.of(), 2)).isEmpty();
+    }
+
+    private void insertReply(long replyId, Long parentReplyId, int isDeleted) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(replyId);
+        jdbcTemplate.update("""
+                INSERT INTO replies (id, post_id, clone_id, parent_reply_id, content, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 'reply', ?, ?, ?)
+                """, replyId, POST_ID, CLONE_ID, parentReplyId, isDeleted, createdAt, createdAt);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.rally.ai_valley.domain.reply.service;
+
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadResponse;
+import com.rally.ai_valley.domain.reply.dto.ReplyThreadRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplyTreeAssemblerTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("부모 ID로 트리를 조립하고 작성순을 유지")
+    void assembleKeepsOrder() {
+        // given
+        List<ReplyThreadRow> rows = List.of(
+                row(1L, null),
+                row(2L, 1L),
+                row(3L, null),
+                row(4L, 1L),
+                row(5L, 2L));
+
+        // when
+        List<ReplyTreeAssembler.Node> roots = ReplyTreeAssembler.assemble(rows);
+
+        // then
+        assertThat(roots).extracting(root -> root.getRow().getReplyId()).containsExactly(1L, 3L);
+        assertThat(roots.get(0).getChildren()).extracting(child -> child.getRow().getReplyId()).containsExactly(2L, 4L);
+        assertThat(roots.get(0).getChildren().get(0).getChildren()).extracting(child -> child.getRow().getReplyId())
+                .containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("부모가 목록에 없는 댓글은 루트로 포함")
+    void orphanBecomesRoot() {
+        // given
+        List<ReplyThreadRow> rows = List.of(row(2L, 99L), row(3L, 2L));
+
+        // when
+        List<ReplyTreeAssembler.Node> roots = ReplyTreeAssembler.assemble(rows);
+
+        // then
+        assertThat(roots).extracting(root -> root.getRow().getReplyId()).containsExactly(2L);
+        assertThat(roots.get(0).getChildren()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("깊이 / 대댓글 수 제한을 넘는 부분은 제외하고 childCount 로 표시")
+    void toResponseAppliesLimits() {
+        // given
+        List<ReplyThreadRow> rows = List.of(
+                row(1L, null),
+                row(2L, 1L),
+                row(3L, 1L),
+                row(4L, 1L),
+                row(5L, 2L),
+                row(6L, 5L));
+        ReplyTreeAssembler.Node root = ReplyTreeAssembler.assemble(rows).get(0);
+
+        // when
+        ReplyThreadResponse response = ReplyTreeAssembler.toResponse(root, 2, 2);
+
+        // then
+        assertThat(response.getChildCount()).isEqualTo(3);
+        assertThat(response.isHasMoreChildren()).isTrue();
+        assertThat(response.getChildren()).extracting(ReplyThreadResponse::getReplyId).containsExactly(2L, 3L);
+
+        ReplyThreadResponse depthOne = response.getChildren().get(0);
+        assertThat(depthOne.getDepth()).isEqualTo(1);
+        assertThat(depthOne.getChildren()).extracting(ReplyThreadResponse::getReplyId).containsExactly(5L);
+
+        ReplyThreadResponse depthTwo = depthOne.getChildren().get(0);
+        assertThat(depthTwo.getDepth()).isEqualTo(2);
+        assertThat(depthTwo.getChildCount()).isEqualTo(1);
+        assertThat(depthTwo.getChildren()).isEmpty();
+        assertThat(depthTwo.isHasMoreChildren()).isTrue();
+    }
+
+    private ReplyThreadRow row(Long replyId, Long parentReplyId) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(replyId);
+        return new ReplyThreadRow(replyId, parentReplyId, 1L, "clone", "content " + replyId, createdAt, createdAt, null);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.rally.ai_valley.domain.search.repository;
+
+import com.rally.ai_valley.common.config.SearchProperties;
+import com.rally.ai_valley.domain.search.dto.SearchCursor;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.dto.SearchResultResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexRepositoryTest {
+
+    private SearchIndexRepository searchIndexRepository;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        properties.setIndexPath(""); // 메모리 색인
+        searchIndexRepository = new SearchIndexRepository(properties);
+
+        searchIndexRepository.upsert(post(1L, 1L, 1L, "스프링 캐시 정리", "카페인으로 스프링 캐시를 설정하는 방법을 정리했습니다."));
+        searchIndexRepository.upsert(post(2L, 2L, 2L, "주말 계획", "이번 주말에는 등산을 갑니다."));
+        searchIndexRepository.upsert(reply(1L, 2L, 2L, 1L, "주말 계획", "캐시 설정은 만료 시간이 중요합니다."));
+        searchIndexRepository.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndexRepository.close();
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 검색어도 형태소 단위로 찾고 검색어를 강조")
+    void searchKoreanWithHighlight() {
+        // when
+        List<SearchResultResponse> results = searchIndexRepository.search("캐시를", null, null, null, 10);
+
+        // then
+        assertThat(results).extracting(SearchResultResponse::getType).containsExactly("post", "reply");
+        assertThat(results.get(0).getTitle()).contains("<em>캐시</em>");
+        assertThat(results.get(0).getSnippet()).contains("<em>캐시</em>");
+        assertThat(results.get(1).getReplyId()).isEqualTo(1L);
+        assertThat(results.get(1).getPostId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시판 / 클론 조건으로 결과를 거름")
+    void searchWithFilters() {
+        // when
+        List<SearchResultResponse> byBoard = searchIndexRepository.search("캐시", 2L, null, null, 10);
+        List<SearchResultResponse> byClone = searchIndexRepository.search("캐시", null, 2L, null, 10);
+
+        // then
+        assertThat(byBoard).extracting(SearchResultResponse::getType).containsExactly("reply");
+        assertThat(byClone).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후의 결과만 다음 페이지로 반환")
+    void searchAfterCursor() {
+        // given
+        SearchResultResponse first = searchIndexRepository.search("캐시", null, null, null, 1).get(0);
+
+        // when
+        List<SearchResultResponse> next = searchIndexRepository.search("캐시", null, null,
+                SearchCursor.decode(SearchCursor.encode(first)), 10);
+
+        // then
+        assertThat(next).hasSize(1);
+        assertThat(next.get(0).getType()).isNotEqualTo(first.getType());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 색인하면 문서를 교체하고 본문의 HTML 은 이스케이프")
+    void upsertReplacesAndEscapes() {
+        // given
+        searchIndexRepository.upsert(post(2L, 2L, 2L, "주말 계획", "<b>등산</b> 대신 캐시 공부"));
+        searchIndexRepository.refresh();
+
+        // when
+        List<SearchResultResponse> results = searchIndexRepository.search("등산", null, null, null, 10);
+
+        // then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getSnippet()).contains("&lt;b&gt;<em>등산</em>&lt;/b&gt;");
+    }
+
+    private SearchDocument post(Long postId, Long boardId, Long cloneId, String title, String content) {
+        return new SearchDocument(SearchDocument.TYPE_POST, postId, postId, boardId, "board-" + boardId,
+                cloneId, "clone-" + cloneId, title, content, LocalDateTime.now());
+    }
+
+    private SearchDocument reply(Long replyId, Long postId, Long boardId, Long cloneId, String postTitle, String content) {
+        return new SearchDocument(SearchDocument.TYPE_REPLY, replyId, postId, boardId, "board-" + boardId,
+                cloneId, "clone-" + cloneId, postTitle, content, LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.rally.ai_valley.domain.search.service;
+
+import com.rally.ai_valley.common.config.SearchProperties;
+import com.rally.ai_valley.domain.post.dto.PostSearchRow;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import com.rally.ai_valley.domain.search.dto.SearchDocument;
+import com.rally.ai_valley.domain.search.repository.SearchIndexRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SearchIndexerTest {
+
+    private SearchIndexRepository searchIndexRepository;
+    private PostRepository postRepository;
+    private ReplyRepository replyRepository;
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexRepository = mock(SearchIndexRepository.class);
+        postRepository = mock(PostRepository.class);
+        replyRepository = mock(ReplyRepository.class);
+        SearchProperties properties = new SearchProperties();
+        properties.setSyncRescanIds(100);
+        searchIndexer = new SearchIndexer(searchIndexRepository, postRepository, replyRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties);
+
+        when(searchIndexRepository.lastSyncedPostId()).thenReturn(150L);
+        when(searchIndexRepository.lastSyncedReplyId()).thenReturn(40L);
+    }
+
+    @Test
+    @DisplayName("동기화 위치 앞부분을 다시 읽어 ID 순서와 다르게 늦게 커밋된 게시글도 색인")
+    void rescanBehindWatermark() {
+        // given: 120 은 150 보다 먼저 발급됐지만 지난 동기화 이후에 커밋됨
+        when(postRepository.findPostsForSearchAfterId(anyLong(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(post(120L), post(150L), post(151L)));
+
+        // when
+        searchIndexer.sync();
+
+        // then
+        verify(postRepository).findPostsForSearchAfterId(eq(50L), anyInt(), any(Pageable.class));
+        verify(replyRepository).findRepliesForSearchAfterId(eq(0L), anyInt(), any(Pageable.class));
+        ArgumentCaptor<SearchDocument> documents = ArgumentCaptor.forClass(SearchDocument.class);
+        verify(searchIndexRepository, times(3)).upsert(documents.capture());
+        assertThat(documents.getAllValues()).extracting(SearchDocument::key).containsExactly("post:120", "post:150", "post:151");
+        verify(searchIndexRepository).commit(151L, 40L);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 구간에 새 글이 없어도 동기화 위치는 뒤로 물리지 않음")
+    void keepWatermarkWhenRescanFindsNothing() {
+        // given
+        when(postRepository.findPostsForSearchAfterId(anyLong(), anyInt(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        searchIndexer.sync();
+
+        // then
+        verify(searchIndexRepository).commit(150L, 40L);
+    }
+
+    private static PostSearchRow post(Long postId) {
+        return new PostSearchRow(postId, 1L, "board", 1L, "clone", "title " + postId, "content", LocalDateTime.now());
+    }
+
+}
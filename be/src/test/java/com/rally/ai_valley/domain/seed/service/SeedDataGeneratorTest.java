@@ -0,0 +1,89 @@
+package com.rally.ai_valley.domain.seed.service;
+
+import com.rally.ai_valley.common.config.SeedDataProperties;
+import com.rally.ai_valley.domain.board.repository.BoardCounterJdbcRepository;
+import com.rally.ai_valley.domain.seed.dto.SeedDataResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SeedDataGenerator.class, BoardCounterJdbcRepository.class})
+class SeedDataGeneratorTest {
+
+    @Autowired
+    private SeedDataGenerator seedDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("설정한 규모만큼 적재하고 게시판 카운터를 실제 행 수로 맞춤")
+    void generate() {
+        // given
+        SeedDataProperties properties = smallPlan();
+
+        // when
+        SeedDataResult result = seedDataGenerator.generate(properties);
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(5);
+        assertThat(count("SELECT COUNT(*) FROM clones")).isEqualTo(20);
+        assertThat(count("SELECT COUNT(*) FROM boards")).isEqualTo(8);
+        assertThat(count("SELECT COUNT(*) FROM clone_boards")).isEqualTo(result.subscriptions());
+        assertThat(count("SELECT COUNT(*) FROM posts")).isEqualTo(400);
+        assertThat(count("SELECT COUNT(*) FROM replies")).isEqualTo(1200);
+        assertThat(count("SELECT SUM(post_count) FROM boards")).isEqualTo(400);
+        assertThat(count("SELECT SUM(reply_count) FROM boards")).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("게시판별 게시글 수가 멱법칙을 따르고 대댓글은 같은 게시글의 댓글을 부모로 가짐")
+    void distributionAndNesting() {
+        // given
+        SeedDataProperties properties = smallPlan();
+
+        // when
+        SeedDataResult result = seedDataGenerator.generate(properties);
+
+        // then
+        List<Long> postCounts = jdbcTemplate.queryForList("SELECT post_count FROM boards ORDER BY id", Long.class);
+        assertThat(postCounts.get(0)).isGreaterThan(postCounts.get(postCounts.size() - 1) * 3);
+
+        assertThat(result.nestedReplies()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM replies WHERE parent_reply_id IS NOT NULL")).isEqualTo(result.nestedReplies());
+        assertThat(count("""
+                SELECT COUNT(*)
+                FROM replies r
+                JOIN replies parent ON parent.id = r.parent_reply_id
+                WHERE parent.post_id <> r.post_id
+                """)).isZero();
+    }
+
+    private SeedDataProperties smallPlan() {
+        SeedDataProperties properties = new SeedDataProperties();
+        properties.setUsers(5);
+        properties.setClones(20);
+        properties.setBoards(8);
+        properties.setPosts(400);
+        properties.setReplies(1200);
+        properties.setSubscriptionsPerClone(3);
+        properties.setBatchSize(100);
+        return properties;
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0L;
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.rally.ai_valley.domain.simulation.service;
+
+import com.rally.ai_valley.domain.clone.dto.CloneInBoardInfoResponse;
+import com.rally.ai_valley.domain.clone.repository.CloneBoardRepository;
+import com.rally.ai_valley.domain.generation.service.GenerationJobService;
+import com.rally.ai_valley.domain.post.dto.PostCreateRequest;
+import com.rally.ai_valley.domain.post.repository.PostRepository;
+import com.rally.ai_valley.domain.reply.repository.ReplyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SimulationSchedulerTest {
+
+    private static final long GLOBAL_RATE_PER_MINUTE = 3;
+
+    private CloneBoardRepository cloneBoardRepository;
+    private PostRepository postRepository;
+    private ReplyRepository replyRepository;
+    private GenerationJobService generationJobService;
+    private SimulationScheduler simulationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        cloneBoardRepository = mock(CloneBoardRepository.class);
+        postRepository = mock(PostRepository.class);
+        replyRepository = mock(ReplyRepository.class);
+        generationJobService = mock(GenerationJobService.class);
+        simulationScheduler = new SimulationScheduler(cloneBoardRepository, postRepository, replyRepository,
+                generationJobService, GLOBAL_RATE_PER_MINUTE);
+
+        // 모든 클론이 매 틱 게시글을 쓰려고 하도록 확률 고정, 게시판 한도는 전역 한도보다 크게
+        ReflectionTestUtils.setField(simulationScheduler, "activityProbability", 1.0);
+        ReflectionTestUtils.setField(simulationScheduler, "postProbability", 1.0);
+        ReflectionTestUtils.setField(simulationScheduler, "boardRatePerMinute", 100L);
+        ReflectionTestUtils.setField(simulationScheduler, "fullScanEveryTicks", 30L);
+    }
+
+    @Test
+    @DisplayName("전역 토큰 버킷 한도를 넘는 발행은 다음 틱에서도 막힘")
+    void throttleTicksByGlobalBucket() {
+        // given
+        when(cloneBoardRepository.findActiveBoardIds()).thenReturn(List.of(1L));
+        when(cloneBoardRepository.findActiveClonesInBoards(anyCollection())).thenReturn(clones(1L, 10));
+        when(postRepository.findBoardIdsWithPostsCreatedAfter(any(LocalDateTime.class))).thenReturn(List.of(1L));
+
+        // when
+        simulationScheduler.tick();
+        simulationScheduler.tick(); // 토큰이 다시 차기 전의 다음 틱
+
+        // then
+        verify(generationJobService, times((int) GLOBAL_RATE_PER_MINUTE)).submitPost(eq(1L), any(PostCreateRequest.class));
+        verify(generationJobService, never()).submitReply(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("첫 틱은 전체 게시판, 이후 틱은 마지막 틱 이후 활동이 있는 게시판만 대상")
+    void pickOnlyBoardsWithNewActivity() {
+        // given
+        when(cloneBoardRepository.findActiveBoardIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(cloneBoardRepository.findActiveClonesInBoards(anyCollection())).thenReturn(List.of());
+        when(postRepository.findBoardIdsWithPostsCreatedAfter(any(LocalDateTime.class))).thenReturn(List.of(2L));
+        when(replyRepository.findBoardIdsWithRepliesCreatedAfter(any(LocalDateTime.class))).thenReturn(List.of(3L));
+        when(cloneBoardRepository.findBoardIdsWithSubscriptionsUpdatedAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+        // when
+        simulationScheduler.tick();
+        simulationScheduler.tick();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> boardIds = ArgumentCaptor.forClass(Collection.class);
+        verify(cloneBoardRepository, times(2)).findActiveClonesInBoards(boardIds.capture());
+        assertThat(boardIds.getAllValues().get(0)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(boardIds.getAllValues().get(1)).containsExactlyInAnyOrder(2L, 3L);
+        verify(cloneBoardRepository, times(1)).findActiveBoardIds();
+    }
+
+    private static List<CloneInBoardInfoResponse> clones(Long boardId, int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(cloneId -> CloneInBoardInfoResponse.builder()
+                        .cloneId(cloneId)
+                        .boardId(boardId)
+                        .isActive(1)
+                        .build())
+                .toList();
+    }
+
+}
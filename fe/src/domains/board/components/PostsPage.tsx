@@ -16,6 +16,8 @@ function PostsPage() {
   const { boardId } = useParams<{ boardId: string }>();
   const navigate = useNavigate();
   const [boardPosts, setBoardPosts] = useState<Post[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [boardDetail, setBoardDetail] = useState<BoardDetailResponse | null>(null);
   const [boardClones, setBoardClones] = useState<BoardCloneResponse[]>([]);
   const [loading, setLoading] = useState(true);
@@ -45,7 +47,8 @@ function PostsPage() {
         ]);
         
         setBoardDetail(boardDetailData);
-        setBoardPosts(postsData);
+        setBoardPosts(postsData.items);
+        setNextCursor(postsData.hasNext ? postsData.nextCursor : null);
         setBoardClones(clonesData);
       } catch (err) {
         setError(err instanceof Error ? err.message : '데이터를 불러오는데 실패했습니다.');
@@ -58,6 +61,22 @@ function PostsPage() {
     fetchData();
   }, [boardId]);
 
+  // Load the next (older) page of posts
+  const handleLoadMore = async () => {
+    if (!boardId || !nextCursor || loadingMore) return;
+
+    try {
+      setLoadingMore(true);
+      const page = await getPostsByBoard(parseInt(boardId), nextCursor);
+      setBoardPosts(prev => [...prev, ...page.items]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (err) {
+      console.error('Error loading more posts:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   // Sort posts based on selected option
   const sortedPosts = [...boardPosts].sort((a, b) => {
     switch (sortBy) {
@@ -376,6 +395,19 @@ function PostsPage() {
           ))}
         </div>
 
+        {/* Load More */}
+        {nextCursor && (
+          <div className="text-center mt-8">
+            <Button
+              onClick={handleLoadMore}
+              disabled={loadingMore}
+              className="bg-gradient-to-r from-blue-500/30 to-blue-600/30 text-blue-100 border-blue-500/50 hover:from-blue-500/40 hover:to-blue-600/40 px-8 py-3 text-lg transition-all duration-300"
+            >
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </Button>
+          </div>
+        )}
+
         {/* Empty State */}
         {filteredPosts.length === 0 && !loading && (
           <div className="text-center py-20">
@@ -1,17 +1,22 @@
-import { api } from '../../../shared/utils/api';
+import { api, apiStream, ApiException, fetchAllPages } from '../../../shared/utils/api';
+import { type CursorPage } from '../../../shared/types';
 import { type Board, type Post, type Comment, type BoardInfoResponse, type PostInfoResponse, type PostDetailResponse, type ReplyInfoResponse, type Reply, type BoardDetailResponse, type BoardCloneResponse, type ReplyDetailResponse, type PostCreateRequest } from '../types';
 
 // Board API endpoints
 const ENDPOINTS = {
   BOARDS: '/boards',
   BOARD_BY_ID: (id: number) => `/boards/${id}`,
-  POSTS_BY_BOARD: (boardId: number) => `/boards/${boardId}/posts`,
+  POSTS_BY_BOARD: (boardId: number, cursor?: string) =>
+    `/boards/${boardId}/posts${cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''}`,
   CREATE_POST: (boardId: number) => `/boards/${boardId}/posts`,
+  CREATE_POST_STREAM: (boardId: number) => `/boards/${boardId}/posts/stream`,
   POST_BY_ID: (id: number) => `/posts/${id}`,
   BOARD_CLONES: (id: number) => `/boards/${id}/clones`,
   MY_BOARD_CLONES: (id: number) => `/boards/${id}/clones?isMine=true`,
-  REPLIES_BY_POST: (postId: number) => `/posts/${postId}/replies`,
+  REPLIES_BY_POST: (postId: number, cursor?: string) =>
+    `/posts/${postId}/replies${cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''}`,
   CREATE_REPLY: (postId: number) => `/posts/${postId}/replies`,
+  CREATE_REPLY_STREAM: (postId: number) => `/posts/${postId}/replies/stream`,
   REPLY_BY_ID: (replyId: number) => `/replies/${replyId}`,
 } as const;
 
@@ -91,9 +96,10 @@ export class BoardService {
     return convertPostDetailResponse(postResponse);
   }
 
-  static async getPostsByBoard(boardId: number): Promise<Post[]> {
-    const postResponses = await api.get<PostInfoResponse[]>(ENDPOINTS.POSTS_BY_BOARD(boardId));
-    return postResponses.map(convertPostResponse);
+  // One page at a time (newest first); pass nextCursor back in to load more
+  static async getPostsByBoard(boardId: number, cursor?: string): Promise<CursorPage<Post>> {
+    const page = await api.get<CursorPage<PostInfoResponse>>(ENDPOINTS.POSTS_BY_BOARD(boardId, cursor));
+    return { ...page, items: page.items.map(convertPostResponse) };
   }
 
   static async createPost(request: PostCreateRequest): Promise<PostDetailResponse> {
@@ -102,6 +108,47 @@ export class BoardService {
     return api.post<PostDetailResponse>(ENDPOINTS.CREATE_POST(boardId), { cloneId });
   }
 
+  // Streaming post creation: title/content are delivered while the AI is still writing
+  static async createPostStream(
+    request: PostCreateRequest,
+    handlers: { onTitle?: (title: string) => void; onDelta?: (text: string) => void }
+  ): Promise<PostInfoResponse> {
+    const { boardId, cloneId } = request;
+    let created: PostInfoResponse | undefined;
+
+    await apiStream(ENDPOINTS.CREATE_POST_STREAM(boardId), { cloneId }, (event, data) => {
+      if (event === 'title') handlers.onTitle?.((data as { text: string }).text);
+      else if (event === 'delta') handlers.onDelta?.((data as { text: string }).text);
+      else if (event === 'done') created = data as PostInfoResponse;
+      else if (event === 'error') throw new ApiException((data as { message: string }).message);
+    });
+
+    if (!created) {
+      throw new ApiException('게시글 생성이 완료되지 않았습니다.');
+    }
+    return created;
+  }
+
+  // Streaming reply creation
+  static async createReplyStream(
+    postId: number,
+    replyData: { cloneId: number },
+    handlers: { onDelta?: (text: string) => void }
+  ): Promise<number> {
+    let replyId: number | undefined;
+
+    await apiStream(ENDPOINTS.CREATE_REPLY_STREAM(postId), replyData, (event, data) => {
+      if (event === 'delta') handlers.onDelta?.((data as { text: string }).text);
+      else if (event === 'done') replyId = (data as { replyId: number }).replyId;
+      else if (event === 'error') throw new ApiException((data as { message: string }).message);
+    });
+
+    if (replyId === undefined) {
+      throw new ApiException('댓글 생성이 완료되지 않았습니다.');
+    }
+    return replyId;
+  }
+
   // Reply operations (replacing comment operations)
   static async createReply(postId: number, replyData: { cloneId: number }): Promise<number> {
     try {
@@ -117,10 +164,12 @@ export class BoardService {
   }
 
   // Get replies by post ID with new structure
+  // The thread is shown in full, so follow nextCursor to the last page
   static async getRepliesByPostId(postId: number): Promise<Reply[]> {
     try {
-      const replies = await api.get<ReplyDetailResponse[]>(ENDPOINTS.REPLIES_BY_POST(postId));
-      return (replies || []).map(BoardService.convertReplyDetailResponseToReply);
+      const replies = await fetchAllPages((cursor?: string) =>
+        api.get<CursorPage<ReplyDetailResponse>>(ENDPOINTS.REPLIES_BY_POST(postId, cursor)));
+      return replies.map(BoardService.convertReplyDetailResponseToReply);
     } catch (error) {
       console.error('Error fetching replies:', error);
       return [];
@@ -173,4 +222,6 @@ export const getPostById = BoardService.getPostById;
 export const getPostsByBoard = BoardService.getPostsByBoard;
 export const createPost = BoardService.createPost;
 export const createReply = BoardService.createReply;
+export const createPostStream = BoardService.createPostStream;
+export const createReplyStream = BoardService.createReplyStream;
 export const getRepliesByPostId = BoardService.getRepliesByPostId; 
\ No newline at end of file
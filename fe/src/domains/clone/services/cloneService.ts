@@ -1,4 +1,5 @@
-import { api, API_BASE_URL } from '../../../shared/utils/api';
+import { api, API_BASE_URL, fetchAllPages } from '../../../shared/utils/api';
+import { type CursorPage } from '../../../shared/types';
 import { type CloneInfoResponse, type CloneCreateRequest, type CloneInfoUpdateRequest, type BoardInfoResponse, type PostInfoResponse, type CloneStatisticsResponse, type AddCloneToBoardRequest, type RemoveCloneFromBoardRequest } from '../types';
 
 // Clone API endpoints
@@ -6,7 +7,8 @@ const ENDPOINTS = {
   CLONES: '/clones',
   CLONE_BY_ID: (cloneId: number) => `/clones/${cloneId}`,
   CLONE_BOARDS: (cloneId: number) => `/clones/${cloneId}/boards`,
-  CLONE_POSTS: (cloneId: number) => `/clones/${cloneId}/posts`,
+  CLONE_POSTS: (cloneId: number, cursor?: string) =>
+    `/clones/${cloneId}/posts${cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''}`,
   CLONE_STATISTICS: (cloneId: number) => `/clones/${cloneId}/statistics`,
   MY_CLONES: '/users/me/clones',
   BOARD_SUBSCRIPTIONS: (boardId: number) => `/boards/${boardId}/subscriptions`,
@@ -53,10 +55,11 @@ export class CloneService {
   }
 
   /**
-   * Get posts written by a clone
+   * Get all posts written by a clone (follows nextCursor to the last page)
    */
   static async getClonePosts(cloneId: number): Promise<PostInfoResponse[]> {
-    return api.get<PostInfoResponse[]>(ENDPOINTS.CLONE_POSTS(cloneId));
+    return fetchAllPages((cursor?: string) =>
+      api.get<CursorPage<PostInfoResponse>>(ENDPOINTS.CLONE_POSTS(cloneId, cursor)));
   }
 
   /**
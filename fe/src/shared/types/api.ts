@@ -5,6 +5,13 @@ export interface CommonResponse<T> {
   data: T;
 }
 
+// Cursor (keyset) page (matches backend CursorPageResponse<T>)
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 // Base API Error
 export interface ApiError {
   message: string;
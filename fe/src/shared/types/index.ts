@@ -17,6 +17,7 @@ export interface BaseEntity {
 // API types
 export type {
   CommonResponse,
+  CursorPage,
   ApiError,
 } from './api';
 
@@ -1,4 +1,4 @@
-import { type CommonResponse, type ApiError, CommonStatus, COMMON_STATUS_DESCRIPTIONS, COMMON_CONSTANT } from '../types/api';
+import { type CommonResponse, type CursorPage, type ApiError, CommonStatus, COMMON_STATUS_DESCRIPTIONS, COMMON_CONSTANT } from '../types/api';
 
 // Base API configuration
 export const API_BASE_URL = 'http://localhost:8080/api/v1'; // 임시로 직접 백엔드 호출
@@ -136,4 +136,79 @@ export const api = {
     
   delete: <T>(endpoint: string, options?: RequestInit) =>
     apiRequest<T>(endpoint, { ...options, method: HTTP_METHODS.DELETE }),
-}; 
\ No newline at end of file
+}; 
+
+// Follow nextCursor until the last page (for lists that must be shown in full)
+export async function fetchAllPages<T>(
+  fetchPage: (cursor?: string) => Promise<CursorPage<T>>
+): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | undefined;
+  for (;;) {
+    const page = await fetchPage(cursor);
+    items.push(...(page?.items || []));
+    if (!page?.hasNext || !page.nextCursor) break;
+    cursor = page.nextCursor;
+  }
+  return items;
+}
+
+// Server-Sent Events over POST (EventSource only supports GET)
+// Calls onEvent for each `event:` / `data:` block as it arrives
+export async function apiStream(
+  endpoint: string,
+  data: unknown,
+  onEvent: (event: string, data: unknown) => void,
+  options: RequestInit = {}
+): Promise<void> {
+  const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+    mode: 'cors',
+    ...options,
+    method: HTTP_METHODS.POST,
+    headers: {
+      'Content-Type': 'application/json',
+      'Accept': 'text/event-stream',
+      ...options.headers,
+    },
+    body: JSON.stringify(data),
+  });
+
+  if (!response.ok || !response.body) {
+    throw new ApiException('요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.', response.status);
+  }
+
+  const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+
+  const dispatch = (block: string) => {
+    let event = 'message';
+    const dataLines: string[] = [];
+    for (const line of block.split('\n')) {
+      if (line.startsWith('event:')) {
+        event = line.slice(6).trim();
+      } else if (line.startsWith('data:')) {
+        dataLines.push(line.slice(5).replace(/^ /, ''));
+      }
+    }
+    if (dataLines.length > 0) {
+      onEvent(event, JSON.parse(dataLines.join('\n')));
+    }
+  };
+
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) break;
+
+    buffer += value.replace(/\r\n/g, '\n');
+    let separator = buffer.indexOf('\n\n');
+    while (separator >= 0) {
+      dispatch(buffer.slice(0, separator));
+      buffer = buffer.slice(separator + 2);
+      separator = buffer.indexOf('\n\n');
+    }
+  }
+
+  if (buffer.trim()) {
+    dispatch(buffer);
+  }
+}
@@ -2,6 +2,7 @@
 export {
   api,
   apiRequest,
+  fetchAllPages,
   ApiException,
   API_BASE_URL,
   HTTP_METHODS,